@@ -14,9 +14,13 @@ public class ScrabbleDictionaryConfig {
 
     private boolean enabled = true;
     private String filePath = "classpath:scrabble-dictionary.yml";
+    private String imagePath = "classpath:scrabble-dictionary.dawg";
     private int minLength = 4;
     private int maxLength = 10;
     private boolean cacheEnabled = true;
+    private int loaderThreads = 0;
+    private int loaderChunkLines = 8192;
+    private Reload reload = new Reload();
 
     /**
      * Check if custom dictionary is enabled.
@@ -31,7 +35,8 @@ public class ScrabbleDictionaryConfig {
     }
 
     /**
-     * Get the path to the dictionary YAML file.
+     * Get the path to the dictionary word list: a {@code classpath:} or {@code file:} location of
+     * a YAML list or a plain-text file with one word per line, optionally gzip-compressed.
      */
     public String getFilePath() {
         return filePath;
@@ -41,6 +46,19 @@ public class ScrabbleDictionaryConfig {
         this.filePath = filePath;
     }
 
+    /**
+     * Get the path to the precompiled binary dictionary image.
+     * The image is memory-mapped at startup in place of parsing the word list, so it must be
+     * compiled from the same list as {@link #getFilePath()}; blank disables it.
+     */
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    public void setImagePath(String imagePath) {
+        this.imagePath = imagePath;
+    }
+
     /**
      * Get minimum word length for filtering.
      */
@@ -73,4 +91,80 @@ public class ScrabbleDictionaryConfig {
     public void setCacheEnabled(boolean cacheEnabled) {
         this.cacheEnabled = cacheEnabled;
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the number of threads parsing word list chunks (0 = available processors).
+     */
+    public int getLoaderThreads() {
+        return loaderThreads;
+    }
+
+    public void setLoaderThreads(int loaderThreads) {
+        this.loaderThreads = loaderThreads;
+    }
+
+    /**
+     * Get the number of lines handed to a parser thread at a time.
+     */
+    public int getLoaderChunkLines() {
+        return loaderChunkLines;
+    }
+
+    public void setLoaderChunkLines(int loaderChunkLines) {
+        this.loaderChunkLines = loaderChunkLines;
+    }
+
+    /**
+     * Get hot reload settings.
+     */
+    public Reload getReload() {
+        return reload;
+    }
+
+    public void setReload(Reload reload) {
+        this.reload = reload;
+    }
+
+    /**
+     * Rebuilding the dictionary without a restart, on request or when its files change.
+     */
+    public static class Reload {
+        private boolean endpointEnabled = false;
+        private boolean watchEnabled = false;
+        private long debounceMs = 1000;
+
+        /**
+         * Check if POST /api/dictionary/reload is accepted. Off by default because the
+         * API has no authentication.
+         */
+        public boolean isEndpointEnabled() {
+            return endpointEnabled;
+        }
+
+        public void setEndpointEnabled(boolean endpointEnabled) {
+            this.endpointEnabled = endpointEnabled;
+        }
+
+        /**
+         * Check if file-path and image-path are watched for changes (file: locations only).
+         */
+        public boolean isWatchEnabled() {
+            return watchEnabled;
+        }
+
+        public void setWatchEnabled(boolean watchEnabled) {
+            this.watchEnabled = watchEnabled;
+        }
+
+        /**
+         * Get how long the files must stay unchanged before a watched change triggers a reload.
+         */
+        public long getDebounceMs() {
+            return debounceMs;
+        }
+
+        public void setDebounceMs(long debounceMs) {
+            this.debounceMs = debounceMs;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.govtech.scrabble.config;
 
+import com.govtech.scrabble.lexicon.WordWeighting;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import java.util.HashMap;
@@ -16,6 +17,8 @@ public class ScrabbleProperties {
     private BoardAnalyzer boardAnalyzer = new BoardAnalyzer();
     private LetterScoring letterScoring = new LetterScoring();
     private WordFinder wordFinder = new WordFinder();
+    private Startup startup = new Startup();
+    private Results results = new Results();
     
     public Dictionary getDictionary() {
         return dictionary;
@@ -73,10 +76,88 @@ public class ScrabbleProperties {
         this.wordFinder = wordFinder;
     }
     
+    public Startup getStartup() {
+        return startup;
+    }
+    
+    public void setStartup(Startup startup) {
+        this.startup = startup;
+    }
+    
+    public Results getResults() {
+        return results;
+    }
+    
+    public void setResults(Results results) {
+        this.results = results;
+    }
+    
+    public static class Results {
+        private int defaultLimit = 10;
+        private int maxLimit = 100;
+        private int maxRanked = 200;
+        private long cursorCacheSize = 1000;
+        private long cursorTtlSeconds = 300;
+        
+        public int getDefaultLimit() {
+            return defaultLimit;
+        }
+        
+        public void setDefaultLimit(int defaultLimit) {
+            this.defaultLimit = defaultLimit;
+        }
+        
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+        
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+        
+        public int getMaxRanked() {
+            return maxRanked;
+        }
+        
+        public void setMaxRanked(int maxRanked) {
+            this.maxRanked = maxRanked;
+        }
+        
+        public long getCursorCacheSize() {
+            return cursorCacheSize;
+        }
+        
+        public void setCursorCacheSize(long cursorCacheSize) {
+            this.cursorCacheSize = cursorCacheSize;
+        }
+        
+        public long getCursorTtlSeconds() {
+            return cursorTtlSeconds;
+        }
+        
+        public void setCursorTtlSeconds(long cursorTtlSeconds) {
+            this.cursorTtlSeconds = cursorTtlSeconds;
+        }
+    }
+    
+    public static class Startup {
+        private int threads = 2;
+        
+        public int getThreads() {
+            return threads;
+        }
+        
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+    }
+    
     public static class Dictionary {
         private Validation validation = new Validation();
         private WordGeneration wordGeneration = new WordGeneration();
         private Caching caching = new Caching();
+        private ValidatorPool validatorPool = new ValidatorPool();
+        private NegativeFilter negativeFilter = new NegativeFilter();
         
         public Validation getValidation() {
             return validation;
@@ -101,10 +182,78 @@ public class ScrabbleProperties {
         public void setCaching(Caching caching) {
             this.caching = caching;
         }
+        
+        public ValidatorPool getValidatorPool() {
+            return validatorPool;
+        }
+        
+        public void setValidatorPool(ValidatorPool validatorPool) {
+            this.validatorPool = validatorPool;
+        }
+        
+        public NegativeFilter getNegativeFilter() {
+            return negativeFilter;
+        }
+        
+        public void setNegativeFilter(NegativeFilter negativeFilter) {
+            this.negativeFilter = negativeFilter;
+        }
+    }
+    
+    public static class NegativeFilter {
+        private boolean enabled = true;
+        private double falsePositiveRate = 0.01;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+        
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+    }
+    
+    public static class ValidatorPool {
+        private int size = 4;
+        private int prewarmed = 1;
+        private long maxWaitMs = 2000;
+        
+        public int getSize() {
+            return size;
+        }
+        
+        public void setSize(int size) {
+            this.size = size;
+        }
+        
+        public int getPrewarmed() {
+            return prewarmed;
+        }
+        
+        public void setPrewarmed(int prewarmed) {
+            this.prewarmed = prewarmed;
+        }
+        
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+        
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
     }
     
     public static class Validation {
         private boolean enabled = false;
+        private boolean lexiconLookup = true;
         
         public boolean isEnabled() {
             return enabled;
@@ -113,12 +262,29 @@ public class ScrabbleProperties {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+        
+        public boolean isLexiconLookup() {
+            return lexiconLookup;
+        }
+        
+        public void setLexiconLookup(boolean lexiconLookup) {
+            this.lexiconLookup = lexiconLookup;
+        }
     }
     
     public static class WordGeneration {
+        private IndexConfig index = new IndexConfig();
         private SamplingConfig sampling = new SamplingConfig();
         private ExhaustiveConfig exhaustive = new ExhaustiveConfig();
         
+        public IndexConfig getIndex() {
+            return index;
+        }
+        
+        public void setIndex(IndexConfig index) {
+            this.index = index;
+        }
+        
         public SamplingConfig getSampling() {
             return sampling;
         }
@@ -135,6 +301,27 @@ public class ScrabbleProperties {
             this.exhaustive = exhaustive;
         }
         
+        public static class IndexConfig {
+            private boolean enabled = true;
+            private int maxTotalResults = 2000;
+            
+            public boolean isEnabled() {
+                return enabled;
+            }
+            
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+            
+            public int getMaxTotalResults() {
+                return maxTotalResults;
+            }
+            
+            public void setMaxTotalResults(int maxTotalResults) {
+                this.maxTotalResults = maxTotalResults;
+            }
+        }
+        
         public static class SamplingConfig {
             private int maxAttemptsPerLength = 50;
             private int maxTotalResults = 100;
@@ -182,6 +369,9 @@ public class ScrabbleProperties {
         private boolean enabled = true;
         private WordLength wordLength = new WordLength();
         private Map<String, DifficultyLevel> difficultyLevels = new HashMap<>();
+        private Pool pool = new Pool();
+        private Sessions sessions = new Sessions();
+        private Tokens tokens = new Tokens();
         
         public boolean isEnabled() {
             return enabled;
@@ -206,6 +396,129 @@ public class ScrabbleProperties {
         public void setDifficultyLevels(Map<String, DifficultyLevel> difficultyLevels) {
             this.difficultyLevels = difficultyLevels;
         }
+        
+        public Pool getPool() {
+            return pool;
+        }
+        
+        public void setPool(Pool pool) {
+            this.pool = pool;
+        }
+        
+        public Sessions getSessions() {
+            return sessions;
+        }
+        
+        public void setSessions(Sessions sessions) {
+            this.sessions = sessions;
+        }
+        
+        public Tokens getTokens() {
+            return tokens;
+        }
+        
+        public void setTokens(Tokens tokens) {
+            this.tokens = tokens;
+        }
+    }
+    
+    public static class Tokens {
+        private boolean enabled = false;
+        private String secret = "";
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getSecret() {
+            return secret;
+        }
+        
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+    
+    public static class Sessions {
+        private String store = "memory";
+        private long maxSize = 100000;
+        private long ttlMinutes = 30;
+        private long nearCacheSize = 10000;
+        private long nearCacheTtlSeconds = 5;
+        
+        public String getStore() {
+            return store;
+        }
+        
+        public void setStore(String store) {
+            this.store = store;
+        }
+        
+        public long getMaxSize() {
+            return maxSize;
+        }
+        
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+        
+        public long getTtlMinutes() {
+            return ttlMinutes;
+        }
+        
+        public void setTtlMinutes(long ttlMinutes) {
+            this.ttlMinutes = ttlMinutes;
+        }
+        
+        public long getNearCacheSize() {
+            return nearCacheSize;
+        }
+        
+        public void setNearCacheSize(long nearCacheSize) {
+            this.nearCacheSize = nearCacheSize;
+        }
+        
+        public long getNearCacheTtlSeconds() {
+            return nearCacheTtlSeconds;
+        }
+        
+        public void setNearCacheTtlSeconds(long nearCacheTtlSeconds) {
+            this.nearCacheTtlSeconds = nearCacheTtlSeconds;
+        }
+    }
+    
+    public static class Pool {
+        private boolean enabled = true;
+        private int targetSize = 32;
+        private int refillBelow = 16;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getTargetSize() {
+            return targetSize;
+        }
+        
+        public void setTargetSize(int targetSize) {
+            this.targetSize = targetSize;
+        }
+        
+        public int getRefillBelow() {
+            return refillBelow;
+        }
+        
+        public void setRefillBelow(int refillBelow) {
+            this.refillBelow = refillBelow;
+        }
     }
     
     public static class WordLength {
@@ -232,6 +545,8 @@ public class ScrabbleProperties {
     public static class DifficultyLevel {
         private int min;
         private int max;
+        // How words are picked from the custom dictionary within the length range
+        private WordWeighting weighting = WordWeighting.UNIFORM;
         
         public DifficultyLevel() {}
         
@@ -255,6 +570,14 @@ public class ScrabbleProperties {
         public void setMax(int max) {
             this.max = max;
         }
+        
+        public WordWeighting getWeighting() {
+            return weighting;
+        }
+        
+        public void setWeighting(WordWeighting weighting) {
+            this.weighting = weighting;
+        }
     }
     
     public static class Tiles {
@@ -376,6 +699,7 @@ public class ScrabbleProperties {
     
     public static class BoardAnalyzer {
         private boolean enabled = false;
+        private Parallel parallel = new Parallel();
         
         public boolean isEnabled() {
             return enabled;
@@ -384,6 +708,44 @@ public class ScrabbleProperties {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+        
+        public Parallel getParallel() {
+            return parallel;
+        }
+        
+        public void setParallel(Parallel parallel) {
+            this.parallel = parallel;
+        }
+        
+        public static class Parallel {
+            private boolean enabled = false;
+            private int threads = 0;
+            private int maxTasksPerRequest = 4;
+            
+            public boolean isEnabled() {
+                return enabled;
+            }
+            
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+            
+            public int getThreads() {
+                return threads;
+            }
+            
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+            
+            public int getMaxTasksPerRequest() {
+                return maxTasksPerRequest;
+            }
+            
+            public void setMaxTasksPerRequest(int maxTasksPerRequest) {
+                this.maxTasksPerRequest = maxTasksPerRequest;
+            }
+        }
     }
     
     public static class LetterScoring {
@@ -442,6 +804,7 @@ public class ScrabbleProperties {
     
     public static class Caching {
         private boolean enabled = true;
+        private Persistent persistent = new Persistent();
         
         public boolean isEnabled() {
             return enabled;
@@ -450,5 +813,70 @@ public class ScrabbleProperties {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+        
+        public Persistent getPersistent() {
+            return persistent;
+        }
+        
+        public void setPersistent(Persistent persistent) {
+            this.persistent = persistent;
+        }
+        
+        public static class Persistent {
+            private boolean enabled = true;
+            private int preloadSize = 5000;
+            private int minAccessCount = 2;
+            private int batchSize = 200;
+            private long flushIntervalMs = 2000;
+            private int maxPendingWrites = 10000;
+            
+            public boolean isEnabled() {
+                return enabled;
+            }
+            
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+            
+            public int getPreloadSize() {
+                return preloadSize;
+            }
+            
+            public void setPreloadSize(int preloadSize) {
+                this.preloadSize = preloadSize;
+            }
+            
+            public int getMinAccessCount() {
+                return minAccessCount;
+            }
+            
+            public void setMinAccessCount(int minAccessCount) {
+                this.minAccessCount = minAccessCount;
+            }
+            
+            public int getBatchSize() {
+                return batchSize;
+            }
+            
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+            
+            public long getFlushIntervalMs() {
+                return flushIntervalMs;
+            }
+            
+            public void setFlushIntervalMs(long flushIntervalMs) {
+                this.flushIntervalMs = flushIntervalMs;
+            }
+            
+            public int getMaxPendingWrites() {
+                return maxPendingWrites;
+            }
+            
+            public void setMaxPendingWrites(int maxPendingWrites) {
+                this.maxPendingWrites = maxPendingWrites;
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.govtech.scrabble.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.govtech.scrabble.scramble.InMemoryScrambleSessionStore;
+import com.govtech.scrabble.scramble.JdbcScrambleSessionStore;
+import com.govtech.scrabble.scramble.NearCachingScrambleSessionStore;
+import com.govtech.scrabble.scramble.ScrambleSessionStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Chooses where scramble sessions live, from {@code scrabble.scramble.sessions.store}:
+ * "memory" keeps them on this node; "jdbc" shares them through the datasource behind a
+ * local near-cache.
+ */
+@Configuration
+public class ScrambleSessionStoreConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScrambleSessionStoreConfig.class);
+
+    // Spring calls shutdown() on close, stopping the JDBC store's purge task
+    @Bean
+    public ScrambleSessionStore scrambleSessionStore(ScrabbleProperties scrabbleProperties,
+                                                     ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        ScrabbleProperties.Sessions sessions = scrabbleProperties.getScramble().getSessions();
+        Duration ttl = Duration.ofMinutes(sessions.getTtlMinutes());
+
+        if ("jdbc".equalsIgnoreCase(sessions.getStore())) {
+            logger.info("Scramble sessions shared through the database (near-cache {}s)", sessions.getNearCacheTtlSeconds());
+            JdbcScrambleSessionStore shared = new JdbcScrambleSessionStore(jdbcTemplate.getObject(), ttl,
+                    Clock.systemUTC(), Duration.ofMinutes(1));
+            return new NearCachingScrambleSessionStore(shared, sessions.getNearCacheSize(),
+                    Duration.ofSeconds(sessions.getNearCacheTtlSeconds()), Ticker.systemTicker());
+        }
+        if (!"memory".equalsIgnoreCase(sessions.getStore())) {
+            throw new IllegalStateException("Unknown scrabble.scramble.sessions.store: " + sessions.getStore());
+        }
+        return new InMemoryScrambleSessionStore(sessions.getMaxSize(), ttl, Ticker.systemTicker());
+    }
+}
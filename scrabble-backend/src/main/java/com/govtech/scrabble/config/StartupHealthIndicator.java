@@ -0,0 +1,34 @@
+package com.govtech.scrabble.config;
+
+import com.govtech.scrabble.service.StartupCoordinator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the application as out of service until the dictionaries have finished loading,
+ * and down if loading failed. Part of the readiness group only, so a slow start holds back
+ * traffic without the liveness probe restarting the pod.
+ */
+@Component
+public class StartupHealthIndicator implements HealthIndicator {
+
+    private final StartupCoordinator startupCoordinator;
+
+    public StartupHealthIndicator(StartupCoordinator startupCoordinator) {
+        this.startupCoordinator = startupCoordinator;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        if (startupCoordinator.hasFailed()) {
+            builder = Health.down();
+        } else if (startupCoordinator.isReady()) {
+            builder = Health.up();
+        } else {
+            builder = Health.outOfService();
+        }
+        return builder.withDetail("pendingTasks", startupCoordinator.pendingTasks()).build();
+    }
+}
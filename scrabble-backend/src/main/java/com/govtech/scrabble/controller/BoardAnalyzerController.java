@@ -17,7 +17,8 @@ public interface BoardAnalyzerController {
     
     @PostMapping("/analyze")
     @Operation(summary = "Analyze board for top scoring combinations", 
-               description = "Find the top 10 highest scoring word combinations that can be played on the current board")
+               description = "Find the highest ranked word combinations that can be played on the current board, "
+                           + "10 at a time by default; pass nextCursor back as cursor for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Board analysis completed successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
@@ -0,0 +1,30 @@
+package com.govtech.scrabble.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Tag(name = "Dictionary", description = "Dictionary Status and Metrics API")
+public interface DictionaryStatusController {
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get dictionary statistics",
+               description = "Validator pool usage, cache hit rates and lexicon sizes for the LanguageTool and custom dictionaries, "
+                       + "and the startup timeline")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    ResponseEntity<Map<String, Object>> getStats();
+
+    @PostMapping("/reload")
+    @Operation(summary = "Reload the custom dictionary",
+               description = "Rebuild the custom dictionary from its configured sources in the background and swap it in; "
+                       + "requests in progress keep the version they started with")
+    @ApiResponse(responseCode = "202", description = "Reload started (or already running)")
+    @ApiResponse(responseCode = "200", description = "Reload completed (wait=true)")
+    @ApiResponse(responseCode = "403", description = "Reload endpoint is disabled")
+    @ApiResponse(responseCode = "500", description = "Reload failed; the previous version stays in use")
+    ResponseEntity<Map<String, Object>> reload(@RequestParam(defaultValue = "false") boolean wait);
+}
@@ -1,5 +1,7 @@
 package com.govtech.scrabble.controller;
 
+import com.govtech.scrabble.dto.BatchValidateRequest;
+import com.govtech.scrabble.dto.BatchValidateResponse;
 import com.govtech.scrabble.dto.CalculateScoreRequest;
 import com.govtech.scrabble.dto.CalculateScoreResponse;
 import com.govtech.scrabble.dto.ScoreRequest;
@@ -57,7 +59,8 @@ public interface ScrabbleController {
     ResponseEntity<List<ScoreResponse>> getTopScores();
     
     @PostMapping("/word-finder")
-    @Operation(summary = "Find possible words", description = "Find possible words that can be formed using board tiles and hand tiles")
+    @Operation(summary = "Find possible words", description = "Find possible words that can be formed using board tiles and hand tiles, "
+                       + "10 at a time by default; pass nextCursor back as cursor for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Possible words found successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
@@ -72,4 +75,12 @@ public interface ScrabbleController {
             @ApiResponse(responseCode = "400", description = "Invalid input")
     })
     ResponseEntity<CalculateScoreResponse> validateWord(@Valid @RequestBody CalculateScoreRequest request);
+
+    @PostMapping("/validate/batch")
+    @Operation(summary = "Validate several words", description = "Validate up to 500 words in one call; duplicates are validated once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Words validated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    ResponseEntity<BatchValidateResponse> validateWords(@Valid @RequestBody BatchValidateRequest request);
 }
\ No newline at end of file
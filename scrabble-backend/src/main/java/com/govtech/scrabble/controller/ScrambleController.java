@@ -62,7 +62,7 @@ public interface ScrambleController {
     
     @GetMapping("/stats")
     @Operation(summary = "Get scramble statistics", 
-               description = "Get statistics about active scramble sessions")
+               description = "Get statistics about active scramble sessions (size, hits, expiry and eviction) and the ready-made puzzle pools")
     @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
     ResponseEntity<Map<String, Object>> getStats();
 }
\ No newline at end of file
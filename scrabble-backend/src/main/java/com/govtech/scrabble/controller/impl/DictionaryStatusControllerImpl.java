@@ -0,0 +1,86 @@
+package com.govtech.scrabble.controller.impl;
+
+import com.govtech.scrabble.controller.DictionaryStatusController;
+import com.govtech.scrabble.service.EnglishDictionaryService;
+import com.govtech.scrabble.service.ScrabbleDictionary;
+import com.govtech.scrabble.service.StartupCoordinator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@RestController
+@RequestMapping("/api/dictionary")
+public class DictionaryStatusControllerImpl implements DictionaryStatusController {
+
+    private static final long RELOAD_WAIT_SECONDS = 60;
+
+    private final EnglishDictionaryService englishDictionaryService;
+    private final ScrabbleDictionary scrabbleDictionary;
+    private final StartupCoordinator startupCoordinator;
+
+    public DictionaryStatusControllerImpl(EnglishDictionaryService englishDictionaryService,
+                                          ScrabbleDictionary scrabbleDictionary,
+                                          StartupCoordinator startupCoordinator) {
+        this.englishDictionaryService = englishDictionaryService;
+        this.scrabbleDictionary = scrabbleDictionary;
+        this.startupCoordinator = startupCoordinator;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("languageTool", englishDictionaryService.getStatistics());
+        stats.put("customDictionary", scrabbleDictionary.getStatistics());
+        stats.put("startup", startupCoordinator.getStatistics());
+        return ResponseEntity.ok(stats);
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Object>> reload(@RequestParam(defaultValue = "false") boolean wait) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (!scrabbleDictionary.getConfig().getReload().isEndpointEnabled()) {
+            body.put("status", "disabled");
+            body.put("error", "Dictionary reload endpoint is disabled");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
+        }
+
+        long currentVersion = scrabbleDictionary.getSnapshot().version();
+        CompletableFuture<ScrabbleDictionary.Snapshot> reload = scrabbleDictionary.reload();
+        if (!wait) {
+            body.put("status", "reloading");
+            body.put("currentVersion", currentVersion);
+            return ResponseEntity.accepted().body(body);
+        }
+
+        try {
+            ScrabbleDictionary.Snapshot reloaded = reload.get(RELOAD_WAIT_SECONDS, TimeUnit.SECONDS);
+            body.put("status", "reloaded");
+            body.put("previousVersion", currentVersion);
+            body.put("version", reloaded.version());
+            body.put("totalWords", reloaded.getWordCount());
+            body.put("loadTimeMs", reloaded.loadTimeMs());
+            return ResponseEntity.ok(body);
+        } catch (TimeoutException e) {
+            body.put("status", "reloading");
+            body.put("currentVersion", currentVersion);
+            return ResponseEntity.accepted().body(body);
+        } catch (ExecutionException e) {
+            body.put("status", "failed");
+            body.put("currentVersion", currentVersion);
+            body.put("error", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            body.put("status", "reloading");
+            body.put("currentVersion", currentVersion);
+            return ResponseEntity.accepted().body(body);
+        }
+    }
+}
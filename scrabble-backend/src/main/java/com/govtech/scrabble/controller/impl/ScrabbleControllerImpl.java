@@ -1,6 +1,8 @@
 package com.govtech.scrabble.controller.impl;
 
 import com.govtech.scrabble.controller.ScrabbleController;
+import com.govtech.scrabble.dto.BatchValidateRequest;
+import com.govtech.scrabble.dto.BatchValidateResponse;
 import com.govtech.scrabble.dto.CalculateScoreRequest;
 import com.govtech.scrabble.dto.CalculateScoreResponse;
 import com.govtech.scrabble.dto.ScoreRequest;
@@ -105,4 +107,14 @@ public class ScrabbleControllerImpl implements ScrabbleController {
         CalculateScoreResponse response = scrabbleService.validateWordOnly(normalizedWord);
         return ResponseEntity.ok(response);
     }
+
+    @Override
+    public ResponseEntity<BatchValidateResponse> validateWords(@Valid @RequestBody BatchValidateRequest request) {
+        for (String word : request.getWords()) {
+            inputValidationService.validateWord(word);
+        }
+
+        BatchValidateResponse response = scrabbleService.validateWords(request.getWords());
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
@@ -66,7 +66,9 @@ public class ScrambleControllerImpl implements ScrambleController {
     public ResponseEntity<Map<String, Object>> getStats() {
         Map<String, Object> stats = Map.of(
             "activeSessionsCount", wordScrambleService.getActiveSessionsCount(),
-            "featureEnabled", wordScrambleService.isScrambleEnabled()
+            "featureEnabled", wordScrambleService.isScrambleEnabled(),
+            "sessions", wordScrambleService.getSessionStatistics(),
+            "puzzlePool", wordScrambleService.getPuzzlePoolStatistics()
         );
         return ResponseEntity.ok(stats);
     }
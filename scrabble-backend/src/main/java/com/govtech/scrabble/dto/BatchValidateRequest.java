@@ -0,0 +1,31 @@
+package com.govtech.scrabble.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request for validating several words in one call")
+public class BatchValidateRequest {
+    
+    @NotNull(message = "Words cannot be null")
+    @Size(min = 1, max = 500, message = "Words must contain between 1 and 500 entries")
+    @Schema(description = "Words to validate; duplicates are validated once",
+            example = "[\"HELLO\", \"WORLD\", \"ZXQY\"]")
+    private List<String> words;
+    
+    public BatchValidateRequest() {}
+    
+    public BatchValidateRequest(List<String> words) {
+        this.words = words;
+    }
+    
+    public List<String> getWords() {
+        return words;
+    }
+    
+    public void setWords(List<String> words) {
+        this.words = words;
+    }
+}
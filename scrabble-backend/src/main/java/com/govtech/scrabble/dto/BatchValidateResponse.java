@@ -0,0 +1,62 @@
+package com.govtech.scrabble.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Validation results for a batch of words")
+public class BatchValidateResponse {
+    
+    @Schema(description = "One result per distinct word, in order of first appearance")
+    private List<CalculateScoreResponse> results;
+    
+    @Schema(description = "Number of words in the request", example = "4")
+    private int requestedCount;
+    
+    @Schema(description = "Number of distinct words validated", example = "3")
+    private int distinctCount;
+    
+    @Schema(description = "Number of distinct words found in the dictionary", example = "2")
+    private int validCount;
+    
+    public BatchValidateResponse() {}
+    
+    public BatchValidateResponse(List<CalculateScoreResponse> results, int requestedCount, int distinctCount, int validCount) {
+        this.results = results;
+        this.requestedCount = requestedCount;
+        this.distinctCount = distinctCount;
+        this.validCount = validCount;
+    }
+    
+    public List<CalculateScoreResponse> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<CalculateScoreResponse> results) {
+        this.results = results;
+    }
+    
+    public int getRequestedCount() {
+        return requestedCount;
+    }
+    
+    public void setRequestedCount(int requestedCount) {
+        this.requestedCount = requestedCount;
+    }
+    
+    public int getDistinctCount() {
+        return distinctCount;
+    }
+    
+    public void setDistinctCount(int distinctCount) {
+        this.distinctCount = distinctCount;
+    }
+    
+    public int getValidCount() {
+        return validCount;
+    }
+    
+    public void setValidCount(int validCount) {
+        this.validCount = validCount;
+    }
+}
@@ -16,6 +16,15 @@ public class BoardAnalyzerRequest {
     @Schema(description = "Special tile types for board positions (15x15 grid)", example = "[\"normal\", \"dl\", \"tw\", ...]")
     private List<String> specialTiles;
     
+    @Schema(description = "Maximum number of combinations to return (default 10, capped by configuration)", example = "10")
+    private Integer limit;
+    
+    @Schema(description = "Ranking mode: score (default), length, bingo-first or fewest-tiles", example = "score")
+    private String ranking;
+    
+    @Schema(description = "Cursor from a previous response's nextCursor; returns the next page of that analysis, ignoring the other fields")
+    private String cursor;
+    
     public BoardAnalyzerRequest() {}
     
     public BoardAnalyzerRequest(List<String> boardLetters, List<String> handLetters) {
@@ -52,4 +61,28 @@ public class BoardAnalyzerRequest {
     public void setSpecialTiles(List<String> specialTiles) {
         this.specialTiles = specialTiles;
     }
+    
+    public Integer getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+    
+    public String getRanking() {
+        return ranking;
+    }
+    
+    public void setRanking(String ranking) {
+        this.ranking = ranking;
+    }
+    
+    public String getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ import java.util.List;
 @Schema(description = "Response for board analyzer feature containing top scoring word combinations")
 public class BoardAnalyzerResponse {
     
-    @Schema(description = "Top 10 highest scoring word combinations")
+    @Schema(description = "Highest ranked word combinations, one page at a time")
     private List<WordCombination> topCombinations;
     
     @Schema(description = "Total number of valid combinations found")
@@ -16,6 +16,9 @@ public class BoardAnalyzerResponse {
     @Schema(description = "Message describing the analysis result")
     private String message;
     
+    @Schema(description = "Cursor for the next page of combinations, null on the last page")
+    private String nextCursor;
+    
     public BoardAnalyzerResponse() {}
     
     public BoardAnalyzerResponse(List<WordCombination> topCombinations, int totalCombinationsCount, String message) {
@@ -48,6 +51,14 @@ public class BoardAnalyzerResponse {
         this.message = message;
     }
     
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
     @Schema(description = "A word combination that can be played on the board")
     public static class WordCombination {
         
@@ -2,6 +2,7 @@ package com.govtech.scrabble.dto;
 
 import com.govtech.scrabble.validation.ValidWord;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
@@ -22,6 +23,16 @@ public class WordFinderRequest {
             example = "[\"L\", \"D\", \"E\", \"R\", \"S\"]")
     private List<String> handTiles;
     
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Schema(description = "Maximum number of words to return (default 10, capped by configuration)", example = "10")
+    private Integer limit;
+    
+    @Schema(description = "Ranking mode: score (default), length, bingo-first or fewest-tiles", example = "score")
+    private String ranking;
+    
+    @Schema(description = "Cursor from a previous response's nextCursor; returns the next page of that result, ignoring the other fields")
+    private String cursor;
+    
     public WordFinderRequest() {}
     
     public WordFinderRequest(List<String> boardTiles, List<String> handTiles) {
@@ -44,4 +55,28 @@ public class WordFinderRequest {
     public void setHandTiles(List<String> handTiles) {
         this.handTiles = handTiles;
     }
+    
+    public Integer getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+    
+    public String getRanking() {
+        return ranking;
+    }
+    
+    public void setRanking(String ranking) {
+        this.ranking = ranking;
+    }
+    
+    public String getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
 }
\ No newline at end of file
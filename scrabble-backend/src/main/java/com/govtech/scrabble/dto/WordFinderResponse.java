@@ -6,6 +6,7 @@ public class WordFinderResponse {
     private List<PossibleWord> possibleWords;
     private int totalFound;
     private String message;
+    private String nextCursor; // Cursor for the next page, null on the last page
     
     public WordFinderResponse() {}
     
@@ -39,6 +40,14 @@ public class WordFinderResponse {
         this.message = message;
     }
     
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
     public static class PossibleWord {
         private String word;
         private int score;
@@ -0,0 +1,272 @@
+package com.govtech.scrabble.lexicon;
+
+import java.util.*;
+
+/**
+ * Sub-anagram index over a fixed word list.
+ *
+ * Words are grouped by their sorted-letter signature (e.g. ACT, CAT and TAC share "ACT").
+ * Every group carries its letter-count vector and a 26-bit presence mask, and groups are
+ * stored ordered by word length. A rack query therefore never generates permutations:
+ * it either enumerates the rack's sub-multisets and looks each signature up directly,
+ * or scans the groups in the requested length range and rejects most of them with a
+ * single mask test - whichever is cheaper for the rack at hand.
+ *
+ * Results are deterministic: the same rack always yields the same words in the same order.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class AnagramIndex {
+
+    private static final int ALPHABET_SIZE = 26;
+
+    private final Map<String, Integer> groupBySignature;
+    private final String[][] groupWords;
+    private final byte[] groupCounts;
+    private final int[] groupMasks;
+    private final int[] lengthStart;
+    private final int wordCount;
+
+    private AnagramIndex(Map<String, Integer> groupBySignature, String[][] groupWords, byte[] groupCounts,
+                         int[] groupMasks, int[] lengthStart, int wordCount) {
+        this.groupBySignature = groupBySignature;
+        this.groupWords = groupWords;
+        this.groupCounts = groupCounts;
+        this.groupMasks = groupMasks;
+        this.lengthStart = lengthStart;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Build an index from a word list. Words are upper-cased; entries containing anything
+     * other than the letters A-Z are skipped, as are duplicates.
+     *
+     * @param words source words (any case, any order)
+     * @return immutable index
+     */
+    public static AnagramIndex build(Collection<String> words) {
+        Map<String, TreeSet<String>> grouped = new HashMap<>();
+        int maxLength = 0;
+
+        for (String raw : words) {
+            if (raw == null) {
+                continue;
+            }
+            String word = raw.trim().toUpperCase(Locale.ROOT);
+            if (word.isEmpty() || !isAsciiLetters(word)) {
+                continue;
+            }
+            grouped.computeIfAbsent(signatureOf(word), k -> new TreeSet<>()).add(word);
+            maxLength = Math.max(maxLength, word.length());
+        }
+
+        // Order groups by length, then by signature, so a length range is a contiguous slice
+        List<String> signatures = new ArrayList<>(grouped.keySet());
+        signatures.sort(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+
+        int groups = signatures.size();
+        Map<String, Integer> groupBySignature = new HashMap<>(groups * 2);
+        String[][] groupWords = new String[groups][];
+        byte[] groupCounts = new byte[groups * ALPHABET_SIZE];
+        int[] groupMasks = new int[groups];
+        int[] lengthStart = new int[maxLength + 2];
+        int wordCount = 0;
+
+        int currentLength = 0;
+        for (int g = 0; g < groups; g++) {
+            String signature = signatures.get(g);
+            while (currentLength < signature.length()) {
+                lengthStart[++currentLength] = g;
+            }
+            groupBySignature.put(signature, g);
+            groupWords[g] = grouped.get(signature).toArray(new String[0]);
+            wordCount += groupWords[g].length;
+
+            int mask = 0;
+            for (int i = 0; i < signature.length(); i++) {
+                int letter = signature.charAt(i) - 'A';
+                groupCounts[g * ALPHABET_SIZE + letter]++;
+                mask |= 1 << letter;
+            }
+            groupMasks[g] = mask;
+        }
+        while (currentLength <= maxLength) {
+            lengthStart[++currentLength] = groups;
+        }
+
+        return new AnagramIndex(groupBySignature, groupWords, groupCounts, groupMasks, lengthStart, wordCount);
+    }
+
+    /**
+     * Find every indexed word that can be spelled from the given letters.
+     *
+     * @param letterCounts count of each letter A-Z available (index 0 = A)
+     * @param minLength minimum word length (inclusive)
+     * @param maxLength maximum word length (inclusive)
+     * @return matching words, grouped by length (ascending) then signature, words alphabetical within a group
+     */
+    public List<String> findSubAnagrams(int[] letterCounts, int minLength, int maxLength) {
+        int rackSize = 0;
+        int rackMask = 0;
+        for (int letter = 0; letter < ALPHABET_SIZE; letter++) {
+            rackSize += letterCounts[letter];
+            if (letterCounts[letter] > 0) {
+                rackMask |= 1 << letter;
+            }
+        }
+
+        int maxIndexed = lengthStart.length - 2;
+        int from = Math.max(1, minLength);
+        int to = Math.min(Math.min(maxLength, rackSize), maxIndexed);
+        if (from > to) {
+            return Collections.emptyList();
+        }
+
+        int firstGroup = lengthStart[from];
+        int lastGroup = lengthStart[to + 1];
+        List<String> results = new ArrayList<>();
+
+        if (countSubMultisets(letterCounts, lastGroup - firstGroup) < lastGroup - firstGroup) {
+            collectByEnumeration(letterCounts, from, to, results);
+        } else {
+            collectByScan(letterCounts, rackMask, firstGroup, lastGroup, results);
+        }
+        return results;
+    }
+
+    /**
+     * Find every indexed word that can be spelled from the given letters.
+     *
+     * @param letters available letters (case-insensitive, non-letters are ignored)
+     * @param minLength minimum word length (inclusive)
+     * @param maxLength maximum word length (inclusive)
+     * @return matching words
+     */
+    public List<String> findSubAnagrams(CharSequence letters, int minLength, int maxLength) {
+        return findSubAnagrams(letterCounts(letters), minLength, maxLength);
+    }
+
+    /**
+     * Get all indexed words that are exact anagrams of the given word (including the word itself).
+     */
+    public List<String> anagramsOf(String word) {
+        if (word == null) {
+            return Collections.emptyList();
+        }
+        Integer group = groupBySignature.get(signatureOf(word.trim().toUpperCase(Locale.ROOT)));
+        return group == null ? Collections.emptyList() : List.of(groupWords[group]);
+    }
+
+    /**
+     * Total number of distinct words in the index.
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Number of distinct signatures (anagram classes) in the index.
+     */
+    public int getSignatureCount() {
+        return groupWords.length;
+    }
+
+    /**
+     * Sorted-letter signature of an upper-case word.
+     */
+    public static String signatureOf(String word) {
+        char[] letters = word.toCharArray();
+        Arrays.sort(letters);
+        return new String(letters);
+    }
+
+    /**
+     * Count the letters A-Z in a character sequence (case-insensitive).
+     */
+    public static int[] letterCounts(CharSequence letters) {
+        int[] counts = new int[ALPHABET_SIZE];
+        for (int i = 0; i < letters.length(); i++) {
+            char c = Character.toUpperCase(letters.charAt(i));
+            if (c >= 'A' && c <= 'Z') {
+                counts[c - 'A']++;
+            }
+        }
+        return counts;
+    }
+
+    private void collectByScan(int[] letterCounts, int rackMask, int firstGroup, int lastGroup, List<String> results) {
+        for (int g = firstGroup; g < lastGroup; g++) {
+            if ((groupMasks[g] & ~rackMask) != 0) {
+                continue;
+            }
+            if (fits(g, letterCounts)) {
+                Collections.addAll(results, groupWords[g]);
+            }
+        }
+    }
+
+    private boolean fits(int group, int[] letterCounts) {
+        int base = group * ALPHABET_SIZE;
+        int mask = groupMasks[group];
+        while (mask != 0) {
+            int letter = Integer.numberOfTrailingZeros(mask);
+            if (groupCounts[base + letter] > letterCounts[letter]) {
+                return false;
+            }
+            mask &= mask - 1;
+        }
+        return true;
+    }
+
+    private void collectByEnumeration(int[] letterCounts, int minLength, int maxLength, List<String> results) {
+        List<Integer> matched = new ArrayList<>();
+        char[] signature = new char[maxLength];
+        enumerate(letterCounts, 0, signature, 0, minLength, maxLength, matched);
+
+        // Present enumeration results in the same order a scan would produce
+        Collections.sort(matched);
+        for (int group : matched) {
+            Collections.addAll(results, groupWords[group]);
+        }
+    }
+
+    private void enumerate(int[] letterCounts, int letter, char[] signature, int length,
+                           int minLength, int maxLength, List<Integer> matched) {
+        if (letter == ALPHABET_SIZE) {
+            if (length >= minLength) {
+                Integer group = groupBySignature.get(new String(signature, 0, length));
+                if (group != null) {
+                    matched.add(group);
+                }
+            }
+            return;
+        }
+        int available = Math.min(letterCounts[letter], maxLength - length);
+        for (int take = 0; take <= available; take++) {
+            for (int i = 0; i < take; i++) {
+                signature[length + i] = (char) ('A' + letter);
+            }
+            enumerate(letterCounts, letter + 1, signature, length + take, minLength, maxLength, matched);
+        }
+    }
+
+    private static long countSubMultisets(int[] letterCounts, long limit) {
+        long combinations = 1;
+        for (int count : letterCounts) {
+            combinations *= (count + 1);
+            if (combinations >= limit) {
+                return limit;
+            }
+        }
+        return combinations;
+    }
+
+    private static boolean isAsciiLetters(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
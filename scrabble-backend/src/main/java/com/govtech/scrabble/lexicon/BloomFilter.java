@@ -0,0 +1,118 @@
+package com.govtech.scrabble.lexicon;
+
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over a word list, used to reject non-words before any cache or
+ * speller lookup.
+ *
+ * A word that was added is always reported as possibly present; a word that was not is reported
+ * as possibly present with roughly the configured false-positive rate. Words are hashed
+ * case-insensitively. The bit count and number of hash functions are derived from the word
+ * count and target rate, and each word sets its bits using double hashing of one 64-bit hash.
+ */
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int size;
+
+    private BloomFilter(long bitCount, int hashCount, int size) {
+        this.bits = new long[(int) ((bitCount + 63) >>> 6)];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.size = size;
+    }
+
+    /**
+     * Build a filter sized for the given words.
+     *
+     * @param words words to add
+     * @param falsePositiveRate target probability that an absent word is reported as present, in (0, 1)
+     * @return populated filter
+     */
+    public static BloomFilter build(Collection<? extends CharSequence> words, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        int n = Math.max(1, words.size());
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long bitCount = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+
+        BloomFilter filter = new BloomFilter(bitCount, hashCount, words.size());
+        for (CharSequence word : words) {
+            filter.add(word);
+        }
+        return filter;
+    }
+
+    private void add(CharSequence word) {
+        long hash = hash(word);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * @return false if the word is definitely not in the filter; true if it may be
+     */
+    public boolean mightContain(CharSequence word) {
+        long hash = hash(word);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Expected false-positive rate for the number of words added: (1 - e^(-kn/m))^k.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * size / bitCount), hashCount);
+    }
+
+    /** Number of words added. */
+    public int size() {
+        return size;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long estimatedMemoryBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    /**
+     * 64-bit FNV-1a over upper-cased characters, finished with a MurMur3 mix so both halves
+     * are usable as independent hashes.
+     */
+    private static long hash(CharSequence word) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= Character.toUpperCase(word.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,626 @@
+package com.govtech.scrabble.lexicon;
+
+import java.nio.IntBuffer;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Minimized directed acyclic word graph (DAWG) over the letters A-Z.
+ *
+ * The graph is stored as a single int array of packed edges. The outgoing edges of a node
+ * occupy consecutive slots and a node is identified by the index of its first edge; index 0
+ * is reserved for "no outgoing edges". Each edge packs:
+ * <pre>
+ *   bits 0-4   symbol (0-25 = A-Z, 26 = {@link #SEPARATOR})
+ *   bit  5     terminal - a word ends after following this edge
+ *   bit  6     last edge of its node
+ *   bits 7-31  target node
+ * </pre>
+ * A parallel int array holds, per edge, a bit mask of the word lengths reachable through it
+ * (bit k = some word suffix of length k starts with this edge), so walks can be pruned to a
+ * target length without visiting dead branches.
+ *
+ * Common prefixes and suffixes are shared, which brings a lexicon down to a few bytes per word
+ * compared with ~100 bytes per entry in a hash set of Strings. Instances are immutable and
+ * safe to share between threads.
+ *
+ * Both arrays are read through {@link IntBuffer}s, so a graph built in memory and one mapped
+ * straight from a {@link DictionaryImage} file behave the same.
+ */
+public final class Dawg {
+
+    /** Symbol used by GADDAG-style lexicons to mark the reversed-prefix / suffix boundary. */
+    public static final int SEPARATOR = 26;
+
+    /** Value returned by navigation methods when no edge or node exists. */
+    public static final int NONE = -1;
+
+    private static final int SYMBOL_MASK = 0x1F;
+    private static final int TERMINAL_BIT = 1 << 5;
+    private static final int LAST_BIT = 1 << 6;
+    private static final int TARGET_SHIFT = 7;
+    private static final int MAX_TRACKED_LENGTH = 31;
+
+    private final IntBuffer edges;
+    private final IntBuffer lengthMasks;
+    private final int root;
+    private final int wordCount;
+    private final boolean mapped;
+
+    Dawg(int[] edges, int[] lengthMasks, int root, int wordCount) {
+        this(IntBuffer.wrap(edges), IntBuffer.wrap(lengthMasks), root, wordCount, false);
+    }
+
+    Dawg(IntBuffer edges, IntBuffer lengthMasks, int root, int wordCount, boolean mapped) {
+        this.edges = edges;
+        this.lengthMasks = lengthMasks;
+        this.root = root;
+        this.wordCount = wordCount;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Build a DAWG from words in any order. Words are upper-cased, and entries containing
+     * anything other than the letters A-Z are skipped.
+     */
+    public static Dawg fromWords(Collection<String> words) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String raw : words) {
+            if (raw == null) {
+                continue;
+            }
+            String word = raw.trim().toUpperCase(Locale.ROOT);
+            if (!word.isEmpty() && isAsciiLetters(word)) {
+                sorted.add(word);
+            }
+        }
+        Builder builder = new Builder();
+        for (String word : sorted) {
+            builder.add(word);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Start an incremental build. Words must then be added in strictly ascending symbol order.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Check whether a word is in the lexicon (case-insensitive).
+     */
+    public boolean contains(CharSequence word) {
+        int edge = walk(word);
+        return edge != NONE && isTerminal(edge);
+    }
+
+    /**
+     * Check whether any word in the lexicon starts with the given prefix (case-insensitive).
+     */
+    public boolean hasPrefix(CharSequence prefix) {
+        return prefix.length() == 0 ? wordCount > 0 : walk(prefix) != NONE;
+    }
+
+    /**
+     * Node reached after reading a prefix, or {@link #NONE} if no word starts with it.
+     * The empty prefix returns the root.
+     */
+    public int nodeFor(CharSequence prefix) {
+        if (prefix.length() == 0) {
+            return root;
+        }
+        int edge = walk(prefix);
+        return edge == NONE ? NONE : target(edge);
+    }
+
+    /**
+     * All words of exactly the given length, in alphabetical order.
+     */
+    public List<String> wordsOfLength(int length) {
+        List<String> words = new ArrayList<>();
+        if (length >= 1 && length <= MAX_TRACKED_LENGTH) {
+            collect(root, new StringBuilder(), length, words::add);
+        }
+        return words;
+    }
+
+    /**
+     * Iterate the words of exactly the given length in alphabetical order, walking the graph
+     * lazily: each word is built as it is returned, so nothing is collected up front.
+     */
+    public Iterator<String> iterateWordsOfLength(int length) {
+        return new WordsOfLengthIterator(length);
+    }
+
+    /**
+     * All words starting with the given prefix, in alphabetical order.
+     */
+    public List<String> wordsWithPrefix(String prefix) {
+        List<String> words = new ArrayList<>();
+        String normalized = prefix.toUpperCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            forEachWord(words::add);
+            return words;
+        }
+        int edge = walk(normalized);
+        if (edge == NONE) {
+            return words;
+        }
+        if (isTerminal(edge)) {
+            words.add(normalized);
+        }
+        collect(target(edge), new StringBuilder(normalized), -1, words::add);
+        return words;
+    }
+
+    /**
+     * Visit every word in alphabetical order.
+     */
+    public void forEachWord(Consumer<String> consumer) {
+        collect(root, new StringBuilder(), -1, consumer);
+    }
+
+    // ---- Low-level navigation (used by move generators) ----
+
+    /**
+     * Root node.
+     */
+    public int root() {
+        return root;
+    }
+
+    /**
+     * Edge leaving {@code node} with the given symbol, or {@link #NONE}.
+     */
+    public int findEdge(int node, int symbol) {
+        if (node <= 0) {
+            return NONE;
+        }
+        for (int edge = node; ; edge++) {
+            int packed = edges.get(edge);
+            if ((packed & SYMBOL_MASK) == symbol) {
+                return edge;
+            }
+            if ((packed & LAST_BIT) != 0) {
+                return NONE;
+            }
+        }
+    }
+
+    /**
+     * First outgoing edge of a node, or {@link #NONE} if it has none.
+     */
+    public int firstEdge(int node) {
+        return node <= 0 ? NONE : node;
+    }
+
+    /**
+     * Next sibling edge, or {@link #NONE} after the last edge of a node.
+     */
+    public int nextEdge(int edge) {
+        return (edges.get(edge) & LAST_BIT) != 0 ? NONE : edge + 1;
+    }
+
+    /**
+     * Symbol carried by an edge (0-25 = A-Z, 26 = separator).
+     */
+    public int symbol(int edge) {
+        return edges.get(edge) & SYMBOL_MASK;
+    }
+
+    /**
+     * Whether a word ends after following this edge.
+     */
+    public boolean isTerminal(int edge) {
+        return (edges.get(edge) & TERMINAL_BIT) != 0;
+    }
+
+    /**
+     * Node reached by following an edge (0 when the edge leads nowhere further).
+     */
+    public int target(int edge) {
+        return edges.get(edge) >>> TARGET_SHIFT;
+    }
+
+    /**
+     * Bit mask of word-suffix lengths reachable through an edge (bit k = length k).
+     */
+    public int lengthMask(int edge) {
+        return lengthMasks.get(edge);
+    }
+
+    // ---- Statistics ----
+
+    /**
+     * Number of words in the lexicon.
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * Number of edges in the minimized graph.
+     */
+    public int edgeCount() {
+        return edges.limit() - 1;
+    }
+
+    /**
+     * Approximate footprint of the graph in bytes (off-heap when {@link #isMapped() mapped}).
+     */
+    public long estimatedMemoryBytes() {
+        return 16L + 4L * edges.limit() + 16L + 4L * lengthMasks.limit();
+    }
+
+    /**
+     * Whether the graph is read from a memory-mapped file rather than the heap.
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    IntBuffer edgeBuffer() {
+        return edges.duplicate();
+    }
+
+    IntBuffer lengthMaskBuffer() {
+        return lengthMasks.duplicate();
+    }
+
+    private int walk(CharSequence word) {
+        int node = root;
+        int edge = NONE;
+        for (int i = 0; i < word.length(); i++) {
+            int symbol = symbolOf(word.charAt(i));
+            if (symbol < 0) {
+                return NONE;
+            }
+            edge = findEdge(node, symbol);
+            if (edge == NONE) {
+                return NONE;
+            }
+            node = target(edge);
+        }
+        return edge;
+    }
+
+    private void collect(int node, StringBuilder prefix, int exactLength, Consumer<String> consumer) {
+        for (int edge = firstEdge(node); edge != NONE; edge = nextEdge(edge)) {
+            if (exactLength > 0 && (lengthMasks.get(edge) & (1 << (exactLength - prefix.length()))) == 0) {
+                continue;
+            }
+            prefix.append(symbolChar(symbol(edge)));
+            if (isTerminal(edge) && (exactLength < 0 || prefix.length() == exactLength)) {
+                consumer.accept(prefix.toString());
+            }
+            if (exactLength < 0 || prefix.length() < exactLength) {
+                collect(target(edge), prefix, exactLength, consumer);
+            }
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    /**
+     * Depth-first walk to the next terminal edge at the target depth, keeping the path of edges
+     * taken so far. Branches whose length masks cannot reach the target length are skipped.
+     */
+    private final class WordsOfLengthIterator implements Iterator<String> {
+
+        private final int length;
+        private final int[] path;
+        private final char[] letters;
+        private String next;
+
+        WordsOfLengthIterator(int length) {
+            this.length = length;
+            boolean tracked = length >= 1 && length <= MAX_TRACKED_LENGTH;
+            this.path = new int[tracked ? length : 0];
+            this.letters = new char[path.length];
+            this.next = tracked ? advance(firstEdge(root), 0) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String word = next;
+            next = advance(nextEdge(path[length - 1]), length - 1);
+            return word;
+        }
+
+        /**
+         * Continue the walk from a candidate edge at a depth.
+         *
+         * @return the next word, or null when the walk is exhausted
+         */
+        private String advance(int edge, int depth) {
+            while (true) {
+                while (edge != NONE && (lengthMasks.get(edge) & (1 << (length - depth))) == 0) {
+                    edge = nextEdge(edge);
+                }
+                if (edge == NONE) {
+                    if (depth == 0) {
+                        return null;
+                    }
+                    depth--;
+                    edge = nextEdge(path[depth]);
+                    continue;
+                }
+                path[depth] = edge;
+                letters[depth] = symbolChar(symbol(edge));
+                if (depth + 1 < length) {
+                    depth++;
+                    edge = firstEdge(target(edge));
+                } else if (isTerminal(edge)) {
+                    return new String(letters);
+                } else {
+                    edge = nextEdge(edge);
+                }
+            }
+        }
+    }
+
+    /**
+     * Symbol code for a character: letters map to 0-25 (case-insensitive), anything else to -1.
+     */
+    public static int symbolOf(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return NONE;
+    }
+
+    /**
+     * Upper-case character for a symbol code (the separator is rendered as '^').
+     */
+    public static char symbolChar(int symbol) {
+        return symbol == SEPARATOR ? '^' : (char) ('A' + symbol);
+    }
+
+    private static boolean isAsciiLetters(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Incremental builder for sorted input (Daciuk et al., "Incremental Construction of Minimal
+     * Acyclic Finite-State Automata"). Each word shares its prefix with the previous one; the
+     * branch that can no longer change is minimized against a register of equivalent nodes as
+     * soon as the next word diverges from it, so memory stays proportional to the minimized graph.
+     */
+    public static final class Builder {
+
+        private final BuildNode rootNode = new BuildNode();
+        private final Map<BuildNode, BuildNode> register = new HashMap<>();
+        private final List<BuildNode> path = new ArrayList<>();
+        private int[] previous = new int[0];
+        private int wordCount;
+
+        private Builder() {
+            path.add(rootNode);
+        }
+
+        /**
+         * Add a word of letters A-Z (case-insensitive); '^' is accepted as {@link #SEPARATOR}.
+         *
+         * @throws IllegalArgumentException if the word is out of order, a duplicate, or has other characters
+         */
+        public Builder add(CharSequence word) {
+            int[] symbols = new int[word.length()];
+            for (int i = 0; i < symbols.length; i++) {
+                char c = word.charAt(i);
+                symbols[i] = c == '^' ? SEPARATOR : symbolOf(c);
+                if (symbols[i] < 0) {
+                    throw new IllegalArgumentException("Unsupported character '" + c + "' in word: " + word);
+                }
+            }
+            return add(symbols);
+        }
+
+        /**
+         * Add a word given as symbol codes, in strictly ascending order.
+         */
+        public Builder add(int[] symbols) {
+            if (symbols.length == 0) {
+                return this;
+            }
+            int common = 0;
+            while (common < symbols.length && common < previous.length && symbols[common] == previous[common]) {
+                common++;
+            }
+            if (common == symbols.length
+                    || (common < previous.length && symbols[common] < previous[common])) {
+                throw new IllegalArgumentException("Words must be added in strictly ascending order");
+            }
+
+            minimizeDownTo(common);
+
+            BuildNode node = path.get(common);
+            for (int i = common; i < symbols.length; i++) {
+                BuildNode child = new BuildNode();
+                node.addChild(symbols[i], child);
+                path.add(child);
+                node = child;
+            }
+            node.terminal = true;
+            previous = symbols;
+            wordCount++;
+            return this;
+        }
+
+        /**
+         * Finish the build and pack the graph.
+         */
+        public Dawg build() {
+            minimizeDownTo(0);
+
+            // Assign each distinct node with outgoing edges a contiguous block of edge slots
+            Map<BuildNode, Integer> offsets = new IdentityHashMap<>();
+            List<BuildNode> ordered = new ArrayList<>();
+            int nextOffset = 1;
+            Deque<BuildNode> stack = new ArrayDeque<>();
+            stack.push(rootNode);
+            while (!stack.isEmpty()) {
+                BuildNode node = stack.pop();
+                if (node.size == 0 || offsets.containsKey(node)) {
+                    continue;
+                }
+                offsets.put(node, nextOffset);
+                ordered.add(node);
+                nextOffset += node.size;
+                for (int i = node.size - 1; i >= 0; i--) {
+                    stack.push(node.children[i]);
+                }
+            }
+
+            int[] edges = new int[nextOffset];
+            for (BuildNode node : ordered) {
+                int offset = offsets.get(node);
+                for (int i = 0; i < node.size; i++) {
+                    BuildNode child = node.children[i];
+                    int target = child.size == 0 ? 0 : offsets.get(child);
+                    if (target >= 1 << (32 - TARGET_SHIFT)) {
+                        throw new IllegalStateException("Lexicon too large for packed DAWG encoding");
+                    }
+                    int packed = node.symbols[i] | (target << TARGET_SHIFT);
+                    if (child.terminal) {
+                        packed |= TERMINAL_BIT;
+                    }
+                    if (i == node.size - 1) {
+                        packed |= LAST_BIT;
+                    }
+                    edges[offset + i] = packed;
+                }
+            }
+
+            int[] lengthMasks = new int[edges.length];
+            int rootOffset = rootNode.size == 0 ? 0 : offsets.get(rootNode);
+            computeLengthMasks(edges, lengthMasks, rootOffset, new int[edges.length], new boolean[edges.length]);
+
+            return new Dawg(edges, lengthMasks, rootOffset, wordCount);
+        }
+
+        private void minimizeDownTo(int depth) {
+            for (int i = path.size() - 1; i > depth; i--) {
+                BuildNode child = path.remove(i);
+                BuildNode parent = path.get(i - 1);
+                BuildNode existing = register.get(child);
+                if (existing != null) {
+                    parent.replaceLastChild(existing);
+                } else {
+                    child.freeze();
+                    register.put(child, child);
+                }
+            }
+        }
+
+        /**
+         * Fill per-edge suffix-length masks bottom-up. Recursion depth is bounded by the longest
+         * word; suffixes longer than {@value #MAX_TRACKED_LENGTH} letters are not tracked.
+         */
+        private static int computeLengthMasks(int[] edges, int[] lengthMasks, int node,
+                                              int[] nodeMasks, boolean[] done) {
+            if (node == 0) {
+                return 0;
+            }
+            if (done[node]) {
+                return nodeMasks[node];
+            }
+            int nodeMask = 0;
+            for (int edge = node; ; edge++) {
+                int packed = edges[edge];
+                int below = computeLengthMasks(edges, lengthMasks, packed >>> TARGET_SHIFT, nodeMasks, done);
+                int mask = (below << 1) | ((packed & TERMINAL_BIT) != 0 ? 1 << 1 : 0);
+                lengthMasks[edge] = mask;
+                nodeMask |= mask;
+                if ((packed & LAST_BIT) != 0) {
+                    break;
+                }
+            }
+            nodeMasks[node] = nodeMask;
+            done[node] = true;
+            return nodeMask;
+        }
+    }
+
+    /**
+     * Mutable node used only during construction. Nodes are compared structurally, with children
+     * compared by identity: by the time a node is looked up in the register all of its children
+     * are already canonical. Once frozen (registered) a node is never modified again.
+     */
+    private static final class BuildNode {
+        boolean terminal;
+        int[] symbols = new int[2];
+        BuildNode[] children = new BuildNode[2];
+        int size;
+        boolean frozen;
+        int hash;
+
+        void addChild(int symbol, BuildNode child) {
+            if (size == symbols.length) {
+                symbols = Arrays.copyOf(symbols, size * 2);
+                children = Arrays.copyOf(children, size * 2);
+            }
+            symbols[size] = symbol;
+            children[size] = child;
+            size++;
+        }
+
+        void replaceLastChild(BuildNode child) {
+            children[size - 1] = child;
+        }
+
+        void freeze() {
+            symbols = Arrays.copyOf(symbols, size);
+            children = Arrays.copyOf(children, size);
+            hash = computeHash();
+            frozen = true;
+        }
+
+        private int computeHash() {
+            int h = terminal ? 1 : 0;
+            for (int i = 0; i < size; i++) {
+                h = 31 * h + symbols[i];
+                h = 31 * h + System.identityHashCode(children[i]);
+            }
+            return h;
+        }
+
+        @Override
+        public int hashCode() {
+            return frozen ? hash : computeHash();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BuildNode other) || terminal != other.terminal || size != other.size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (symbols[i] != other.symbols[i] || children[i] != other.children[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.govtech.scrabble.lexicon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeSet;
+
+/**
+ * Precompiled binary form of a word list: a {@link Dawg} plus per-length word counts, laid out
+ * so it can be used straight from a memory-mapped file.
+ *
+ * The image is written at build time (see {@link #main}) and mapped read-only at runtime, so
+ * opening it costs a header read regardless of lexicon size, the graph lives outside the heap,
+ * and its pages are shared through the OS page cache by every process mapping the same file.
+ *
+ * Layout (big-endian ints):
+ * <pre>
+ *   magic, version, minLength, maxLength, wordCount, root, edgeSlots,
+ *   wordCountByLength[maxLength + 1], edges[edgeSlots], lengthMasks[edgeSlots]
+ * </pre>
+ * The length range records the filter the source list was compiled with.
+ */
+public final class DictionaryImage {
+
+    private static final int MAGIC = 0x53445747; // "SDWG"
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 7;
+
+    private final Dawg dawg;
+    private final int[] countsByLength;
+    private final int minLength;
+    private final int maxLength;
+    private final long sizeBytes;
+
+    private DictionaryImage(Dawg dawg, int[] countsByLength, int minLength, int maxLength, long sizeBytes) {
+        this.dawg = dawg;
+        this.countsByLength = countsByLength;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.sizeBytes = sizeBytes;
+    }
+
+    /**
+     * Compile a word list. Words are lower- or upper-case A-Z; anything else, or outside the
+     * length range, is skipped.
+     */
+    public static DictionaryImage compile(Iterable<String> words, int minLength, int maxLength) {
+        TreeSet<String> accepted = new TreeSet<>();
+        for (String raw : words) {
+            if (raw == null) {
+                continue;
+            }
+            String word = raw.trim().toLowerCase();
+            if (word.length() >= minLength && word.length() <= maxLength
+                    && word.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+                accepted.add(word);
+            }
+        }
+        return compileSorted(accepted, minLength, maxLength);
+    }
+
+    /**
+     * Compile words that are already normalised (lower-case a-z, within the length range),
+     * distinct and in ascending order, without copying them.
+     *
+     * @throws IllegalArgumentException if the words are out of order or outside the length range
+     */
+    public static DictionaryImage compileSorted(Iterable<String> words, int minLength, int maxLength) {
+        Dawg.Builder builder = Dawg.builder();
+        int[] counts = new int[maxLength + 1];
+        for (String word : words) {
+            if (word.length() < minLength || word.length() > maxLength) {
+                throw new IllegalArgumentException("Word outside " + minLength + "-" + maxLength + " letters: " + word);
+            }
+            builder.add(word);
+            counts[word.length()]++;
+        }
+        Dawg dawg = builder.build();
+        return new DictionaryImage(dawg, counts, minLength, maxLength,
+                4L * (HEADER_INTS + counts.length + 2L * (dawg.edgeCount() + 1)));
+    }
+
+    /**
+     * Write the image to a file.
+     */
+    public void write(Path target) throws IOException {
+        IntBuffer edges = dawg.edgeBuffer();
+        IntBuffer masks = dawg.lengthMaskBuffer();
+        int edgeSlots = edges.limit();
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 * (HEADER_INTS + countsByLength.length + 2 * edgeSlots));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(minLength).putInt(maxLength)
+                .putInt(dawg.size()).putInt(dawg.root()).putInt(edgeSlots);
+        for (int count : countsByLength) {
+            buffer.putInt(count);
+        }
+        for (int i = 0; i < edgeSlots; i++) {
+            buffer.putInt(edges.get(i));
+        }
+        for (int i = 0; i < edgeSlots; i++) {
+            buffer.putInt(masks.get(i));
+        }
+
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(target)) {
+            out.write(buffer.array());
+        }
+    }
+
+    /**
+     * Map an image file read-only. Only the header is read; the graph is paged in on use.
+     *
+     * @throws IOException if the file cannot be mapped or is not a dictionary image
+     */
+    public static DictionaryImage map(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < 4 * HEADER_INTS || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a dictionary image: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported dictionary image version " + buffer.getInt(4) + ": " + path);
+        }
+        int minLength = buffer.getInt(8);
+        int maxLength = buffer.getInt(12);
+        int wordCount = buffer.getInt(16);
+        int root = buffer.getInt(20);
+        int edgeSlots = buffer.getInt(24);
+
+        int countsOffset = 4 * HEADER_INTS;
+        int edgesOffset = countsOffset + 4 * (maxLength + 1);
+        int masksOffset = edgesOffset + 4 * edgeSlots;
+        if (maxLength < 0 || edgeSlots < 1 || masksOffset + 4L * edgeSlots != buffer.capacity()) {
+            throw new IOException("Truncated or corrupt dictionary image: " + path);
+        }
+
+        int[] counts = new int[maxLength + 1];
+        buffer.slice(countsOffset, 4 * counts.length).asIntBuffer().get(counts);
+        IntBuffer edges = buffer.slice(edgesOffset, 4 * edgeSlots).asIntBuffer();
+        IntBuffer masks = buffer.slice(masksOffset, 4 * edgeSlots).asIntBuffer();
+
+        Dawg dawg = new Dawg(edges, masks, root, wordCount, true);
+        return new DictionaryImage(dawg, counts, minLength, maxLength, buffer.capacity());
+    }
+
+    public Dawg getDawg() {
+        return dawg;
+    }
+
+    /**
+     * Word count per length, indexed by length (a copy).
+     */
+    public int[] getCountsByLength() {
+        return countsByLength.clone();
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Build step: compile a word list (see {@link WordListLoader} for the formats) into an image.
+     *
+     * Usage: {@code DictionaryImage <source> <target image> <minLength> <maxLength>}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Usage: DictionaryImage <source> <target> <minLength> <maxLength>");
+        }
+        Path source = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+
+        WordListLoader loader = new WordListLoader(Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                Runtime.getRuntime().availableProcessors(), WordListLoader.DEFAULT_CHUNK_LINES);
+        WordListLoader.Result result;
+        try (InputStream in = Files.newInputStream(source)) {
+            result = loader.load(in);
+        }
+        DictionaryImage image = result.image();
+        image.write(target);
+        System.out.printf("Compiled %d words (%d edges) from %s into %s: %d bytes in %.0fms%n",
+                image.dawg.size(), image.dawg.edgeCount(), source, target, Files.size(target), result.elapsedMs());
+    }
+}
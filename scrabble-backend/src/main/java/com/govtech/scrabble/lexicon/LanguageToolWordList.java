@@ -0,0 +1,121 @@
+package com.govtech.scrabble.lexicon;
+
+import morfologik.fsa.FSA;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Reads the word list that LanguageTool's American English speller is built from.
+ *
+ * The language-en artifact ships the speller as a morfologik FSA ({@code en_US.dict}, one
+ * {@code word+frequency} entry per word) plus plain-text lists the speller rule layers on top:
+ * words it also accepts ({@code spelling*.txt}, {@code ignore.txt}) and words it rejects even
+ * though the FSA has them ({@code prohibit*.txt}). Only all-lowercase A-Z entries are kept:
+ * capitalised entries are proper nouns, which the speller rejects in lowercase form, and
+ * anything with punctuation or digits is not playable.
+ */
+public final class LanguageToolWordList {
+
+    private static final Logger logger = LoggerFactory.getLogger(LanguageToolWordList.class);
+
+    private static final String SPELLER_DICTIONARY = "/org/languagetool/resource/en/hunspell/en_US.dict";
+    private static final List<String> ACCEPTED_LISTS = List.of(
+            "/org/languagetool/resource/en/hunspell/spelling.txt",
+            "/org/languagetool/resource/en/hunspell/spelling_en-US.txt",
+            "/org/languagetool/resource/en/hunspell/spelling_custom.txt",
+            "/org/languagetool/resource/en/hunspell/ignore.txt");
+    private static final List<String> PROHIBITED_LISTS = List.of(
+            "/org/languagetool/resource/en/hunspell/prohibit.txt",
+            "/org/languagetool/resource/en/hunspell/prohibit_custom.txt");
+    private static final char FREQUENCY_SEPARATOR = '+';
+
+    private LanguageToolWordList() {
+        // Utility class should not be instantiated
+    }
+
+    /**
+     * Load the speller word list.
+     *
+     * @return sorted, distinct lowercase words
+     * @throws IOException if the speller dictionary is missing from the classpath
+     */
+    public static List<String> load() throws IOException {
+        long startTime = System.currentTimeMillis();
+        TreeSet<String> words = new TreeSet<>();
+
+        try (InputStream in = LanguageToolWordList.class.getResourceAsStream(SPELLER_DICTIONARY)) {
+            if (in == null) {
+                throw new IOException("LanguageTool speller dictionary not found on classpath: " + SPELLER_DICTIONARY);
+            }
+            FSA fsa = FSA.read(in);
+            for (ByteBuffer entry : fsa) {
+                String word = decodeEntry(entry);
+                if (isLowercaseWord(word)) {
+                    words.add(word);
+                }
+            }
+        }
+
+        for (String list : ACCEPTED_LISTS) {
+            words.addAll(readList(list));
+        }
+        for (String list : PROHIBITED_LISTS) {
+            readList(list).forEach(words::remove);
+        }
+
+        logger.info("Loaded {} words from LanguageTool speller dictionary in {}ms",
+                words.size(), System.currentTimeMillis() - startTime);
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Lowercase A-Z words of a plain-text list; comments, phrases and patterns never qualify.
+     * A missing list is treated as empty.
+     */
+    private static List<String> readList(String resource) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (InputStream in = LanguageToolWordList.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                return words;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (isLowercaseWord(word)) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static String decodeEntry(ByteBuffer entry) {
+        String raw = new String(entry.array(), entry.position(), entry.remaining(), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(FREQUENCY_SEPARATOR);
+        return separator >= 0 ? raw.substring(0, separator) : raw;
+    }
+
+    private static boolean isLowercaseWord(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,195 @@
+package com.govtech.scrabble.lexicon;
+
+import org.languagetool.AnalyzedSentence;
+import org.languagetool.JLanguageTool;
+import org.languagetool.Language;
+import org.languagetool.rules.Rule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of LanguageTool validators that run only the dictionary-based spelling rule.
+ *
+ * Each validator pairs a {@link JLanguageTool} (used for tokenizing and tagging) with its speller
+ * rule, and a check analyses the word and applies that one rule directly instead of running the
+ * whole grammar pipeline. Neither is thread-safe, so each check borrows a validator for its
+ * exclusive use and returns it afterwards.
+ *
+ * Instances are created on demand up to the pool size, and every instance runs one check before
+ * it is first handed out so its speller is loaded and the first real request does not pay for it.
+ * When all instances are busy a caller waits up to the configured time before giving up.
+ */
+public final class SpellingValidatorPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpellingValidatorPool.class);
+
+    private static final String WARM_UP_WORD = "scrabble";
+
+    private final Language language;
+    private final int maxSize;
+    private final long maxWaitMs;
+    private final BlockingQueue<Validator> idle;
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param language language whose speller is used
+     * @param maxSize maximum number of instances
+     * @param prewarmed instances to create and warm immediately (at least one)
+     * @param maxWaitMs how long a caller waits for a busy pool before failing
+     */
+    public SpellingValidatorPool(Language language, int maxSize, int prewarmed, long maxWaitMs) {
+        this.language = language;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxWaitMs = maxWaitMs;
+        this.idle = new ArrayBlockingQueue<>(this.maxSize);
+
+        long startTime = System.currentTimeMillis();
+        int initial = Math.min(this.maxSize, Math.max(1, prewarmed));
+        for (int i = 0; i < initial; i++) {
+            created.incrementAndGet();
+            idle.add(createValidator());
+        }
+        logger.info("Spelling validator pool ready: {} of {} instances pre-warmed in {}ms",
+                initial, this.maxSize, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Check a single word against the speller.
+     *
+     * @param word word to check (checked as given; callers normalise case)
+     * @return true if the speller reports no spelling error
+     * @throws IOException if LanguageTool fails
+     * @throws IllegalStateException if no instance became free within the configured wait time
+     */
+    public boolean isCorrectlySpelled(String word) throws IOException {
+        Validator validator = borrow();
+        try {
+            return validator.accepts(word);
+        } finally {
+            release(validator);
+        }
+    }
+
+    /**
+     * Maximum number of instances, and so of checks that can run at the same time.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Pool size, usage and wait-time metrics.
+     */
+    public Map<String, Object> getStatistics() {
+        long checkoutCount = checkouts.sum();
+        long waitCount = waits.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxSize", maxSize);
+        stats.put("created", created.get());
+        stats.put("idle", idle.size());
+        stats.put("inUse", inUse.get());
+        stats.put("checkouts", checkoutCount);
+        stats.put("waits", waitCount);
+        stats.put("timeouts", timeouts.sum());
+        stats.put("averageWaitMs", waitCount == 0 ? 0.0 : totalWaitNanos.sum() / 1_000_000.0 / waitCount);
+        stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+        stats.put("maxWaitConfiguredMs", maxWaitMs);
+        return stats;
+    }
+
+    private Validator borrow() {
+        Validator validator = idle.poll();
+        if (validator == null) {
+            validator = createIfBelowLimit();
+        }
+        if (validator == null) {
+            validator = awaitIdle();
+        }
+        checkouts.increment();
+        inUse.incrementAndGet();
+        return validator;
+    }
+
+    private void release(Validator validator) {
+        inUse.decrementAndGet();
+        idle.offer(validator);
+    }
+
+    private Validator createIfBelowLimit() {
+        while (true) {
+            int current = created.get();
+            if (current >= maxSize) {
+                return null;
+            }
+            if (created.compareAndSet(current, current + 1)) {
+                try {
+                    return createValidator();
+                } catch (RuntimeException e) {
+                    created.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Validator awaitIdle() {
+        long startTime = System.nanoTime();
+        waits.increment();
+        try {
+            Validator validator = idle.poll(maxWaitMs, TimeUnit.MILLISECONDS);
+            long waited = System.nanoTime() - startTime;
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulate(waited);
+            if (validator == null) {
+                timeouts.increment();
+                throw new IllegalStateException("No spelling validator available within " + maxWaitMs + "ms");
+            }
+            return validator;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a spelling validator", e);
+        }
+    }
+
+    private Validator createValidator() {
+        JLanguageTool languageTool = new JLanguageTool(language);
+        Rule speller = languageTool.getAllActiveRules().stream()
+                .filter(Rule::isDictionaryBasedSpellingRule)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No spelling rule for " + language.getName()));
+        Validator validator = new Validator(languageTool, speller);
+        try {
+            validator.accepts(WARM_UP_WORD);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to warm up spelling validator", e);
+        }
+        return validator;
+    }
+
+    /**
+     * One language tool instance and its speller rule; confined to one thread at a time.
+     */
+    private record Validator(JLanguageTool languageTool, Rule speller) {
+
+        boolean accepts(String word) throws IOException {
+            AnalyzedSentence sentence = languageTool.getAnalyzedSentence(word);
+            return speller.match(sentence).length == 0;
+        }
+    }
+}
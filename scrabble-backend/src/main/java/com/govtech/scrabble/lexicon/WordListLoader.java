@@ -0,0 +1,310 @@
+package com.govtech.scrabble.lexicon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streaming loader for word lists: plain text with one word per line, or the YAML list format of
+ * {@code scrabble-dictionary.yml}, optionally gzip-compressed (detected from the stream header).
+ *
+ * The source is read line by line into fixed-size chunks, and each chunk is normalised and
+ * filtered on a worker thread while the next one is being read. At most a few chunks are in
+ * flight, so only the accepted words are ever held: the raw document is never loaded as a whole.
+ * Accepted words are sorted in parallel, de-duplicated and fed straight into the DAWG builder.
+ *
+ * Lines are trimmed; blank lines, {@code #} comments and YAML keys are ignored, and a leading
+ * {@code - } list marker and surrounding quotes are stripped. Anything that is not a-z within the
+ * length range after lower-casing is counted as skipped.
+ */
+public final class WordListLoader {
+
+    /** Lines per chunk when not configured. */
+    public static final int DEFAULT_CHUNK_LINES = 8192;
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final int minLength;
+    private final int maxLength;
+    private final int threads;
+    private final int chunkLines;
+
+    /**
+     * @param minLength shortest word to keep
+     * @param maxLength longest word to keep
+     * @param threads worker threads for parsing chunks (at least one)
+     * @param chunkLines lines per chunk
+     */
+    public WordListLoader(int minLength, int maxLength, int threads, int chunkLines) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.threads = Math.max(1, threads);
+        this.chunkLines = Math.max(1, chunkLines);
+    }
+
+    /**
+     * Read and compile a word list. The stream is consumed but not closed.
+     *
+     * @throws IOException if the stream cannot be read or decompressed
+     */
+    public Result load(InputStream source) throws IOException {
+        long startTime = System.nanoTime();
+        CountingInputStream counted = new CountingInputStream(source);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(decompress(counted), StandardCharsets.UTF_8));
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "word-list-loader-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        List<String> accepted = new ArrayList<>();
+        long lines = 0;
+        long skipped = 0;
+        int chunks = 0;
+        try {
+            String[] buffer = new String[chunkLines];
+            int filled = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                buffer[filled++] = line;
+                lines++;
+                if (filled == chunkLines) {
+                    String[] chunk = buffer;
+                    inFlight.add(workers.submit(() -> parse(chunk, chunkLines)));
+                    chunks++;
+                    buffer = new String[chunkLines];
+                    filled = 0;
+                    // Bound the lines held in memory to a few chunks per worker
+                    while (inFlight.size() > 2 * threads) {
+                        skipped += collect(inFlight.poll(), accepted);
+                    }
+                }
+            }
+            if (filled > 0) {
+                String[] chunk = buffer;
+                int count = filled;
+                inFlight.add(workers.submit(() -> parse(chunk, count)));
+                chunks++;
+            }
+            while (!inFlight.isEmpty()) {
+                skipped += collect(inFlight.poll(), accepted);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        String[] words = accepted.toArray(new String[0]);
+        accepted.clear();
+        Arrays.parallelSort(words);
+        DictionaryImage image = DictionaryImage.compileSorted(() -> new DistinctIterator(words), minLength, maxLength);
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        return new Result(image, counted.count, lines, skipped,
+                words.length - image.getDawg().size(), chunks, threads, elapsedNanos);
+    }
+
+    private Chunk parse(String[] lines, int count) {
+        String[] words = new String[count];
+        int accepted = 0;
+        int skipped = 0;
+        for (int i = 0; i < count; i++) {
+            String line = lines[i].trim();
+            // Blank lines, comments and YAML keys carry no word
+            if (line.isEmpty() || line.charAt(0) == '#' || (line.indexOf(':') > 0 && !line.startsWith("-"))) {
+                continue;
+            }
+            String word = normalise(line);
+            if (word == null) {
+                skipped++;
+            } else {
+                words[accepted++] = word;
+            }
+        }
+        return new Chunk(Arrays.copyOf(words, accepted), skipped);
+    }
+
+    private String normalise(String line) {
+        String word = line;
+        if (word.startsWith("- ") || word.equals("-")) {
+            word = word.substring(1).trim();
+        }
+        int comment = word.indexOf(" #");
+        if (comment >= 0) {
+            word = word.substring(0, comment).trim();
+        }
+        if (word.length() >= 2 && (word.charAt(0) == '"' || word.charAt(0) == '\'')
+                && word.charAt(word.length() - 1) == word.charAt(0)) {
+            word = word.substring(1, word.length() - 1).trim();
+        }
+        if (word.length() < minLength || word.length() > maxLength) {
+            return null;
+        }
+        char[] letters = new char[word.length()];
+        for (int i = 0; i < letters.length; i++) {
+            char c = Character.toLowerCase(word.charAt(i));
+            if (c < 'a' || c > 'z') {
+                return null;
+            }
+            letters[i] = c;
+        }
+        return new String(letters);
+    }
+
+    private static int collect(Future<Chunk> future, List<String> accepted) throws IOException {
+        try {
+            Chunk chunk = future.get();
+            accepted.addAll(Arrays.asList(chunk.words()));
+            return chunk.skipped();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading word list", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to parse word list chunk", e.getCause());
+        }
+    }
+
+    private static InputStream decompress(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, 64 * 1024);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        if (first == 0x1f && second == 0x8b) {
+            return new GZIPInputStream(buffered, 64 * 1024);
+        }
+        return buffered;
+    }
+
+    /**
+     * Compiled word list and load metrics.
+     *
+     * @param image compiled dictionary (heap-backed)
+     * @param sourceBytes bytes read from the source, before decompression
+     * @param lines lines read
+     * @param skipped word lines rejected by the character or length filter
+     * @param duplicates accepted words that appeared more than once
+     * @param chunks chunks parsed
+     * @param threads worker threads used
+     * @param elapsedNanos wall time from first read to compiled graph
+     */
+    public record Result(DictionaryImage image, long sourceBytes, long lines, long skipped, long duplicates,
+                         int chunks, int threads, long elapsedNanos) {
+
+        public double elapsedMs() {
+            return elapsedNanos / 1_000_000.0;
+        }
+
+        public double linesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : lines * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public double megabytesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : sourceBytes / (1024.0 * 1024.0) * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Metrics for statistics endpoints.
+         */
+        public Map<String, Object> toStatistics() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("sourceBytes", sourceBytes);
+            stats.put("lines", lines);
+            stats.put("wordsAccepted", image.getDawg().size());
+            stats.put("linesSkipped", skipped);
+            stats.put("duplicates", duplicates);
+            stats.put("chunks", chunks);
+            stats.put("threads", threads);
+            stats.put("elapsedMs", elapsedMs());
+            stats.put("linesPerSecond", linesPerSecond());
+            stats.put("megabytesPerSecond", megabytesPerSecond());
+            return stats;
+        }
+    }
+
+    private record Chunk(String[] words, int skipped) {
+    }
+
+    /**
+     * Iterates a sorted array, skipping repeats.
+     */
+    private static final class DistinctIterator implements Iterator<String> {
+
+        private final String[] words;
+        private int next;
+
+        private DistinctIterator(String[] words) {
+            this.words = words;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < words.length;
+        }
+
+        @Override
+        public String next() {
+            if (next >= words.length) {
+                throw new NoSuchElementException();
+            }
+            String word = words[next++];
+            while (next < words.length && words[next].equals(word)) {
+                next++;
+            }
+            return word;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.govtech.scrabble.lexicon;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable index for picking random words within a length range, built once per dictionary.
+ *
+ * Words are stored in one array ordered by length, with a prefix-sum offset per length, so the
+ * words of lengths min..max are the contiguous slice {@code offsets[min]..offsets[max + 1]}.
+ * A uniform pick is one bounded random index into that slice: O(1) and allocation-free.
+ *
+ * A weighted sampler adds a Walker/Vose alias table per length and prefix sums of the total
+ * weight per length. A pick chooses the length by its share of the range's weight (binary
+ * search over at most 32 lengths), then a word of that length in O(1) from its alias table.
+ */
+public final class WordSampler {
+
+    private static final int MAX_LENGTH = 31;
+
+    private final String[] words;
+    private final int[] offsets;
+    private final WordWeighting weighting;
+    // Weighted samplers only
+    private final double[] probability;
+    private final int[] alias;
+    private final double[] weightOffsets;
+
+    private WordSampler(String[] words, int[] offsets, WordWeighting weighting,
+                        double[] probability, int[] alias, double[] weightOffsets) {
+        this.words = words;
+        this.offsets = offsets;
+        this.weighting = weighting;
+        this.probability = probability;
+        this.alias = alias;
+        this.weightOffsets = weightOffsets;
+    }
+
+    /**
+     * Build a uniform sampler over every word in the DAWG.
+     */
+    public static WordSampler build(Dawg dawg) {
+        int[] offsets = new int[MAX_LENGTH + 2];
+        String[] words = new String[dawg.size()];
+        int next = 0;
+        for (int length = 1; length <= MAX_LENGTH; length++) {
+            offsets[length] = next;
+            for (String word : dawg.wordsOfLength(length)) {
+                words[next++] = word;
+            }
+        }
+        offsets[MAX_LENGTH + 1] = next;
+        return new WordSampler(next == words.length ? words : Arrays.copyOf(words, next), offsets,
+                WordWeighting.UNIFORM, null, null, null);
+    }
+
+    /**
+     * A sampler over the same words that picks each word with probability proportional to its
+     * weight. Words are shared with this sampler; only the alias tables are new.
+     */
+    public WordSampler weighted(WordWeighting weighting) {
+        if (weighting == WordWeighting.UNIFORM) {
+            return weighting == this.weighting ? this : new WordSampler(words, offsets, weighting, null, null, null);
+        }
+        double[] probability = new double[words.length];
+        int[] alias = new int[words.length];
+        double[] weightOffsets = new double[offsets.length];
+        for (int length = 1; length <= MAX_LENGTH; length++) {
+            double total = buildAliasTable(offsets[length], offsets[length + 1], weighting, probability, alias);
+            weightOffsets[length + 1] = weightOffsets[length] + total;
+        }
+        return new WordSampler(words, offsets, weighting, probability, alias, weightOffsets);
+    }
+
+    /**
+     * Vose's alias method over words[from..to). Each slot keeps the probability of returning its
+     * own word, and otherwise returns its alias; both are word indexes into {@link #words}.
+     *
+     * @return total weight of the slice
+     */
+    private double buildAliasTable(int from, int to, WordWeighting weighting, double[] probability, int[] alias) {
+        int n = to - from;
+        if (n == 0) {
+            return 0;
+        }
+        double[] scaled = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weighting.weight(words[from + i]);
+            total += scaled[i];
+        }
+
+        ArrayDeque<Integer> small = new ArrayDeque<>();
+        ArrayDeque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = scaled[i] * n / total;
+            (scaled[i] < 1.0 ? small : large).add(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.poll();
+            int more = large.poll();
+            probability[from + less] = scaled[less];
+            alias[from + less] = from + more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).add(more);
+        }
+        // Whatever is left is 1 up to rounding error
+        for (Integer i : large) {
+            probability[from + i] = 1.0;
+            alias[from + i] = from + i;
+        }
+        for (Integer i : small) {
+            probability[from + i] = 1.0;
+            alias[from + i] = from + i;
+        }
+        return total;
+    }
+
+    /**
+     * Pick a random word with length in [minLength, maxLength].
+     *
+     * @return an upper-case word, or null if there are no words in the range
+     */
+    public String sample(int minLength, int maxLength, RandomGenerator random) {
+        int min = Math.max(1, minLength);
+        int max = Math.min(MAX_LENGTH, maxLength);
+        if (min > max) {
+            return null;
+        }
+        int from = offsets[min];
+        int to = offsets[max + 1];
+        if (from == to) {
+            return null;
+        }
+        if (probability == null) {
+            return words[from + random.nextInt(to - from)];
+        }
+
+        double target = weightOffsets[min] + random.nextDouble() * (weightOffsets[max + 1] - weightOffsets[min]);
+        int length = lengthAt(target, min, max);
+        int slot = offsets[length] + random.nextInt(offsets[length + 1] - offsets[length]);
+        return words[random.nextDouble() < probability[slot] ? slot : alias[slot]];
+    }
+
+    /**
+     * The non-empty length in [min, max] whose weight interval contains the target.
+     */
+    private int lengthAt(double target, int min, int max) {
+        int low = min;
+        int high = max;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (weightOffsets[mid] <= target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // Rounding can land on an empty length; step back to one with words
+        while (low > min && offsets[low] == offsets[low + 1]) {
+            low--;
+        }
+        while (offsets[low] == offsets[low + 1]) {
+            low++;
+        }
+        return low;
+    }
+
+    /**
+     * Number of words with length in [minLength, maxLength].
+     */
+    public int count(int minLength, int maxLength) {
+        int min = Math.max(1, minLength);
+        int max = Math.min(MAX_LENGTH, maxLength);
+        return min > max ? 0 : offsets[max + 1] - offsets[min];
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public WordWeighting getWeighting() {
+        return weighting;
+    }
+}
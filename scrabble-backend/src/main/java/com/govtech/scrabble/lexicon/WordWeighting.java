@@ -0,0 +1,31 @@
+package com.govtech.scrabble.lexicon;
+
+import com.govtech.scrabble.util.ScrabbleScoreUtil;
+
+/**
+ * How likely each word is to be picked by a {@link WordSampler}.
+ *
+ * The dictionary has no usage frequencies, so difficulty is approximated by the average tile
+ * score per letter: words made of common letters (E, R, S, T...) are easier to unscramble than
+ * words with J, Q, X or Z. Weights are always positive.
+ */
+public enum WordWeighting {
+
+    /** Every word equally likely. */
+    UNIFORM,
+
+    /** Favour words made of common, low-scoring letters. */
+    COMMON_LETTERS,
+
+    /** Favour words containing rare, high-scoring letters. */
+    RARE_LETTERS;
+
+    public double weight(String word) {
+        double perLetter = Math.max(1.0, (double) ScrabbleScoreUtil.calculateWordScore(word) / Math.max(1, word.length()));
+        return switch (this) {
+            case UNIFORM -> 1.0;
+            case COMMON_LETTERS -> 1.0 / (perLetter * perLetter);
+            case RARE_LETTERS -> perLetter * perLetter;
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package com.govtech.scrabble.movegen;
+
+import java.util.List;
+
+/**
+ * Compact, immutable board built once per request.
+ *
+ * Cells are upper-case letters in one row-major {@code char[]} ({@link LineMoveGenerator#EMPTY}
+ * for empty squares), with an occupancy bitset and the boundaries of the horizontal and vertical
+ * tile runs through every square precomputed. Placement checks then read chars and bits, and the
+ * complete word a placement extends into is two array lookups away; nothing is allocated.
+ *
+ * A single row (the word finder's line) is a board with one row.
+ */
+public final class Board {
+
+    private final int rows;
+    private final int cols;
+    private final char[] cells;
+    private final long[] occupied;
+    private final int tileCount;
+    private final int[] rowRunStart;
+    private final int[] rowRunEnd;
+    private final int[] columnRunStart;
+    private final int[] columnRunEnd;
+
+    private Board(int rows, int cols, char[] cells) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = cells;
+        this.occupied = new long[(cells.length + 63) >>> 6];
+        this.rowRunStart = new int[cells.length];
+        this.rowRunEnd = new int[cells.length];
+        this.columnRunStart = new int[cells.length];
+        this.columnRunEnd = new int[cells.length];
+
+        int tiles = 0;
+        for (int square = 0; square < cells.length; square++) {
+            if (cells[square] != LineMoveGenerator.EMPTY) {
+                occupied[square >>> 6] |= 1L << square;
+                tiles++;
+            }
+        }
+        this.tileCount = tiles;
+
+        for (int row = 0; row < rows; row++) {
+            int col = 0;
+            while (col < cols) {
+                int end = col;
+                while (end + 1 < cols && isOccupied(row, col) && isOccupied(row, end + 1)) {
+                    end++;
+                }
+                for (int c = col; c <= end; c++) {
+                    rowRunStart[row * cols + c] = col;
+                    rowRunEnd[row * cols + c] = end;
+                }
+                col = end + 1;
+            }
+        }
+        for (int col = 0; col < cols; col++) {
+            int row = 0;
+            while (row < rows) {
+                int end = row;
+                while (end + 1 < rows && isOccupied(row, col) && isOccupied(end + 1, col)) {
+                    end++;
+                }
+                for (int r = row; r <= end; r++) {
+                    columnRunStart[r * cols + col] = row;
+                    columnRunEnd[r * cols + col] = end;
+                }
+                row = end + 1;
+            }
+        }
+    }
+
+    /**
+     * Build a board from row-major tiles. Null and blank tiles are empty squares; any other tile
+     * contributes its first character, upper-cased. Missing tiles are treated as empty.
+     */
+    public static Board of(List<String> tiles, int rows, int cols) {
+        char[] cells = new char[rows * cols];
+        int count = Math.min(tiles.size(), cells.length);
+        for (int square = 0; square < count; square++) {
+            String tile = tiles.get(square);
+            if (tile != null && !tile.isBlank()) {
+                cells[square] = Character.toUpperCase(tile.strip().charAt(0));
+            }
+        }
+        return new Board(rows, cols, cells);
+    }
+
+    /**
+     * Build a board from a grid of letters indexed {@code [row][col]}, {@link LineMoveGenerator#EMPTY} for empty squares.
+     */
+    public static Board of(char[][] grid) {
+        int rows = grid.length;
+        int cols = rows == 0 ? 0 : grid[0].length;
+        char[] cells = new char[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(grid[row], 0, cells, row * cols, cols);
+        }
+        return new Board(rows, cols, cells);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * Letter on a square, or {@link LineMoveGenerator#EMPTY}.
+     */
+    public char letter(int row, int col) {
+        return cells[row * cols + col];
+    }
+
+    public boolean isOccupied(int row, int col) {
+        int square = row * cols + col;
+        return (occupied[square >>> 6] & (1L << square)) != 0;
+    }
+
+    public boolean hasTiles() {
+        return tileCount > 0;
+    }
+
+    public int tileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Whether any orthogonal neighbour of a square holds a tile.
+     */
+    public boolean touchesTile(int row, int col) {
+        return (row > 0 && isOccupied(row - 1, col))
+            || (row < rows - 1 && isOccupied(row + 1, col))
+            || (col > 0 && isOccupied(row, col - 1))
+            || (col < cols - 1 && isOccupied(row, col + 1));
+    }
+
+    /**
+     * An anchor is an empty square orthogonally adjacent to an existing tile.
+     */
+    public boolean isAnchor(int row, int col) {
+        return !isOccupied(row, col) && touchesTile(row, col);
+    }
+
+    /**
+     * First column of the horizontal run of tiles through an occupied square; the square's own
+     * column if it is empty.
+     */
+    public int rowRunStart(int row, int col) {
+        return rowRunStart[row * cols + col];
+    }
+
+    /**
+     * Last column of the horizontal run of tiles through an occupied square; the square's own
+     * column if it is empty.
+     */
+    public int rowRunEnd(int row, int col) {
+        return rowRunEnd[row * cols + col];
+    }
+
+    /**
+     * First row of the vertical run of tiles through an occupied square; the square's own row if it is empty.
+     */
+    public int columnRunStart(int row, int col) {
+        return columnRunStart[row * cols + col];
+    }
+
+    /**
+     * Last row of the vertical run of tiles through an occupied square; the square's own row if it is empty.
+     */
+    public int columnRunEnd(int row, int col) {
+        return columnRunEnd[row * cols + col];
+    }
+
+    /**
+     * Copy one row into a line buffer of at least {@link #cols()} cells.
+     */
+    public void copyRow(int row, char[] line) {
+        System.arraycopy(cells, row * cols, line, 0, cols);
+    }
+
+    /**
+     * Copy one column into a line buffer of at least {@link #rows()} cells.
+     */
+    public void copyColumn(int col, char[] line) {
+        for (int row = 0; row < rows; row++) {
+            line[row] = cells[row * cols + col];
+        }
+    }
+}
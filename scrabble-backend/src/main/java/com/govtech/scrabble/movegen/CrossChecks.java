@@ -0,0 +1,166 @@
+package com.govtech.scrabble.movegen;
+
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.util.ScrabbleScoreUtil;
+
+/**
+ * Per-square cross-checks for one move direction, computed once per board.
+ *
+ * A tile placed on an empty square also forms a perpendicular word with any tiles directly
+ * above and below it (for horizontal moves) or to its left and right (for vertical moves).
+ * For each empty square this holds a 26-bit mask of the letters that make that perpendicular
+ * word valid, and the face value of the existing tiles in it. Placement then tests a letter
+ * with one AND, and the perpendicular word's score is an O(1) add.
+ *
+ * Squares with no perpendicular neighbours allow every letter and have no cross-word score.
+ */
+public final class CrossChecks {
+
+    /** Cross score of a square that forms no perpendicular word. */
+    public static final int NO_CROSS_WORD = -1;
+
+    private final int size;
+    private final int[] masks;
+    private final int[] crossScores;
+
+    private CrossChecks(int size, int[] masks, int[] crossScores) {
+        this.size = size;
+        this.masks = masks;
+        this.crossScores = crossScores;
+    }
+
+    /**
+     * Compute cross-checks for moves in one direction.
+     *
+     * @param grid board letters indexed {@code [row][col]}, {@link LineMoveGenerator#EMPTY} for empty squares
+     * @param lexicon word graph the perpendicular words must be in
+     * @param horizontalMoves true for horizontal moves (perpendicular words run vertically)
+     * @return cross-checks indexed by board square
+     */
+    public static CrossChecks compute(char[][] grid, Dawg lexicon, boolean horizontalMoves) {
+        return compute(Board.of(grid), lexicon, horizontalMoves);
+    }
+
+    /**
+     * Compute cross-checks for moves in one direction. The perpendicular runs on each side of a
+     * square come straight from the board's precomputed run boundaries.
+     *
+     * @param board square board
+     * @param lexicon word graph the perpendicular words must be in
+     * @param horizontalMoves true for horizontal moves (perpendicular words run vertically)
+     * @return cross-checks indexed by board square
+     */
+    public static CrossChecks compute(Board board, Dawg lexicon, boolean horizontalMoves) {
+        int size = board.rows();
+        int[] masks = new int[size * size];
+        int[] crossScores = new int[size * size];
+        char[] before = new char[size];
+        char[] after = new char[size];
+
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int square = row * size + col;
+                if (board.isOccupied(row, col)) {
+                    masks[square] = 0;
+                    crossScores[square] = NO_CROSS_WORD;
+                    continue;
+                }
+
+                // Collect the perpendicular run on each side of the square
+                int beforeLength = 0;
+                int afterLength = 0;
+                if (horizontalMoves) {
+                    if (row > 0 && board.isOccupied(row - 1, col)) {
+                        for (int r = board.columnRunStart(row - 1, col); r < row; r++) {
+                            before[beforeLength++] = board.letter(r, col);
+                        }
+                    }
+                    if (row < size - 1 && board.isOccupied(row + 1, col)) {
+                        for (int r = row + 1; r <= board.columnRunEnd(row + 1, col); r++) {
+                            after[afterLength++] = board.letter(r, col);
+                        }
+                    }
+                } else {
+                    if (col > 0 && board.isOccupied(row, col - 1)) {
+                        for (int c = board.rowRunStart(row, col - 1); c < col; c++) {
+                            before[beforeLength++] = board.letter(row, c);
+                        }
+                    }
+                    if (col < size - 1 && board.isOccupied(row, col + 1)) {
+                        for (int c = col + 1; c <= board.rowRunEnd(row, col + 1); c++) {
+                            after[afterLength++] = board.letter(row, c);
+                        }
+                    }
+                }
+
+                if (beforeLength == 0 && afterLength == 0) {
+                    masks[square] = LineMoveGenerator.ALL_LETTERS;
+                    crossScores[square] = NO_CROSS_WORD;
+                    continue;
+                }
+
+                int faceValue = 0;
+                for (int i = 0; i < beforeLength; i++) {
+                    faceValue += ScrabbleScoreUtil.getLetterScore(before[i]);
+                }
+                for (int i = 0; i < afterLength; i++) {
+                    faceValue += ScrabbleScoreUtil.getLetterScore(after[i]);
+                }
+                masks[square] = allowedLetters(lexicon, before, beforeLength, after, afterLength);
+                crossScores[square] = faceValue;
+            }
+        }
+        return new CrossChecks(size, masks, crossScores);
+    }
+
+    /**
+     * Letters allowed on a square (bit 0 = A); 0 for occupied squares.
+     */
+    public int mask(int row, int col) {
+        return masks[row * size + col];
+    }
+
+    /**
+     * Face value of the existing tiles in the perpendicular word through a square,
+     * or {@link #NO_CROSS_WORD} if placing a tile there forms no perpendicular word.
+     */
+    public int crossScore(int row, int col) {
+        return crossScores[row * size + col];
+    }
+
+    /**
+     * Walk the graph through the tiles before the square once, then try each outgoing letter
+     * against the tiles after it.
+     */
+    private static int allowedLetters(Dawg lexicon, char[] before, int beforeLength, char[] after, int afterLength) {
+        int node = lexicon.root();
+        for (int i = 0; i < beforeLength; i++) {
+            int symbol = Dawg.symbolOf(before[i]);
+            int edge = symbol < 0 ? Dawg.NONE : lexicon.findEdge(node, symbol);
+            if (edge == Dawg.NONE) {
+                return 0;
+            }
+            node = lexicon.target(edge);
+        }
+
+        int mask = 0;
+        for (int edge = lexicon.firstEdge(node); edge != Dawg.NONE; edge = lexicon.nextEdge(edge)) {
+            int symbol = lexicon.symbol(edge);
+            if (symbol < 26 && completesWord(lexicon, edge, after, afterLength)) {
+                mask |= 1 << symbol;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean completesWord(Dawg lexicon, int edge, char[] after, int afterLength) {
+        for (int i = 0; i < afterLength; i++) {
+            int symbol = Dawg.symbolOf(after[i]);
+            edge = symbol < 0 ? Dawg.NONE : lexicon.findEdge(lexicon.target(edge), symbol);
+            if (edge == Dawg.NONE) {
+                return false;
+            }
+        }
+        return lexicon.isTerminal(edge);
+    }
+}
@@ -0,0 +1,193 @@
+package com.govtech.scrabble.movegen;
+
+import com.govtech.scrabble.lexicon.Dawg;
+
+/**
+ * Anchor-based move generator for a single board line (Appel &amp; Jacobson, "The World's
+ * Fastest Scrabble Program").
+ *
+ * Moves are only started from anchor squares - empty squares next to a tile, or the centre
+ * square on an empty board. From each anchor the generator builds every left part that fits
+ * into the free squares before it (or reads the tiles already there), then extends right through
+ * the lexicon graph, placing rack letters on empty squares and following board letters on
+ * occupied ones. A branch is abandoned as soon as the graph has no edge for the next letter or
+ * the rack cannot supply it, so only prefixes of real words are ever explored.
+ *
+ * Each legal placement is reported exactly once, from its leftmost anchor. The generator holds
+ * no per-call state and can be shared between threads.
+ */
+public final class LineMoveGenerator {
+
+    /** Cell value for an empty square. */
+    public static final char EMPTY = '\0';
+
+    /** Cross-check mask that allows every letter. */
+    public static final int ALL_LETTERS = (1 << 26) - 1;
+
+    private final Dawg lexicon;
+
+    public LineMoveGenerator(Dawg lexicon) {
+        this.lexicon = lexicon;
+    }
+
+    /**
+     * Receives each generated move. The arrays are working buffers owned by the generator and
+     * are only valid for the duration of the call.
+     */
+    @FunctionalInterface
+    public interface MoveSink {
+
+        /**
+         * @param start index of the first letter of the word in the line
+         * @param letters word letters (upper-case), positions {@code 0..length-1}
+         * @param placed whether each letter is a newly placed rack tile (otherwise already on the board)
+         * @param length word length
+         */
+        void accept(int start, char[] letters, boolean[] placed, int length);
+    }
+
+    /**
+     * Generate every move along one line.
+     *
+     * @param cells line contents: {@link #EMPTY} or an upper-case letter; any other character is an unplayable tile
+     * @param crossMasks letters allowed on each empty square (bit 0 = A), or null for no constraint
+     * @param anchors squares a move must cover at least one of
+     * @param rack letter tiles available; restored to its original state on return
+     * @param minLength minimum length of the main word
+     * @param sink receiver for generated moves
+     * @return number of moves generated
+     */
+    public int generate(char[] cells, int[] crossMasks, boolean[] anchors, Rack rack, int minLength, MoveSink sink) {
+        Walk walk = new Walk(cells, crossMasks, rack, minLength, sink);
+
+        int freeSquaresBefore = 0;
+        for (int square = 0; square < cells.length; square++) {
+            if (cells[square] != EMPTY) {
+                freeSquaresBefore = 0;
+                continue;
+            }
+            if (!anchors[square]) {
+                freeSquaresBefore++;
+                continue;
+            }
+
+            walk.anchor = square;
+            if (square > 0 && cells[square - 1] != EMPTY) {
+                walk.extendFromBoardPrefix(square);
+            } else {
+                walk.leftPart(lexicon.root(), 0, freeSquaresBefore);
+            }
+            freeSquaresBefore = 0;
+        }
+        return walk.moves;
+    }
+
+    /**
+     * State of one {@link #generate} call.
+     */
+    private final class Walk {
+
+        private final char[] cells;
+        private final int[] crossMasks;
+        private final Rack rack;
+        private final int minLength;
+        private final MoveSink sink;
+        private final char[] letters;
+        private final boolean[] placed;
+        private int anchor;
+        private int moves;
+
+        private Walk(char[] cells, int[] crossMasks, Rack rack, int minLength, MoveSink sink) {
+            this.cells = cells;
+            this.crossMasks = crossMasks;
+            this.rack = rack;
+            this.minLength = minLength;
+            this.sink = sink;
+            this.letters = new char[cells.length];
+            this.placed = new boolean[cells.length];
+        }
+
+        /**
+         * The squares before the anchor are occupied: the left part is fixed to those tiles.
+         */
+        private void extendFromBoardPrefix(int anchorSquare) {
+            int start = anchorSquare;
+            while (start > 0 && cells[start - 1] != EMPTY) {
+                start--;
+            }
+            int node = lexicon.root();
+            int length = 0;
+            for (int square = start; square < anchorSquare; square++) {
+                int symbol = Dawg.symbolOf(cells[square]);
+                int edge = symbol < 0 ? Dawg.NONE : lexicon.findEdge(node, symbol);
+                if (edge == Dawg.NONE) {
+                    return;
+                }
+                letters[length] = cells[square];
+                placed[length] = false;
+                length++;
+                node = lexicon.target(edge);
+            }
+            extendRight(node, false, anchorSquare, length);
+        }
+
+        /**
+         * Build left parts of up to {@code limit} rack letters placed on the free squares
+         * directly before the anchor, extending right from the anchor after each one.
+         */
+        private void leftPart(int node, int length, int limit) {
+            extendRight(node, false, anchor, length);
+            if (limit == 0) {
+                return;
+            }
+            for (int edge = lexicon.firstEdge(node); edge != Dawg.NONE; edge = lexicon.nextEdge(edge)) {
+                int symbol = lexicon.symbol(edge);
+                if (symbol >= 26 || (rack.mask() & (1 << symbol)) == 0) {
+                    continue;
+                }
+                rack.take(symbol);
+                letters[length] = Dawg.symbolChar(symbol);
+                placed[length] = true;
+                leftPart(lexicon.target(edge), length + 1, limit - 1);
+                rack.putBack(symbol);
+            }
+        }
+
+        private void extendRight(int node, boolean terminal, int square, int length) {
+            if (square == cells.length || cells[square] == EMPTY) {
+                if (terminal && square > anchor && length >= minLength) {
+                    moves++;
+                    sink.accept(square - length, letters, placed, length);
+                }
+                if (square == cells.length) {
+                    return;
+                }
+                // Letters both in the rack and allowed by the square's cross-check
+                int playable = rack.mask() & (crossMasks == null ? ALL_LETTERS : crossMasks[square]);
+                if (playable == 0) {
+                    return;
+                }
+                for (int edge = lexicon.firstEdge(node); edge != Dawg.NONE; edge = lexicon.nextEdge(edge)) {
+                    int symbol = lexicon.symbol(edge);
+                    if (symbol >= 26 || (playable & (1 << symbol)) == 0) {
+                        continue;
+                    }
+                    rack.take(symbol);
+                    letters[length] = Dawg.symbolChar(symbol);
+                    placed[length] = true;
+                    extendRight(lexicon.target(edge), lexicon.isTerminal(edge), square + 1, length + 1);
+                    rack.putBack(symbol);
+                }
+            } else {
+                int symbol = Dawg.symbolOf(cells[square]);
+                int edge = symbol < 0 ? Dawg.NONE : lexicon.findEdge(node, symbol);
+                if (edge == Dawg.NONE) {
+                    return;
+                }
+                letters[length] = cells[square];
+                placed[length] = false;
+                extendRight(lexicon.target(edge), lexicon.isTerminal(edge), square + 1, length + 1);
+            }
+        }
+    }
+}
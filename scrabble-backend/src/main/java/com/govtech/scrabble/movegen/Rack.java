@@ -0,0 +1,161 @@
+package com.govtech.scrabble.movegen;
+
+import java.util.Collection;
+
+/**
+ * Tiles in hand as 26 letter counters plus a blank count.
+ *
+ * Taking and putting back a tile are O(1) and allocate nothing, and a 26-bit presence mask
+ * (bit 0 = A) answers "is there any X left" with one AND, so a whole set of letters - such as a
+ * square's cross-check mask - can be tested against the rack at once. Placement code takes the
+ * letters a candidate needs and puts them back (or resets from the full hand with
+ * {@link #copyFrom}) instead of copying tile lists.
+ *
+ * Blanks are counted but only placed through {@link #takeBlank()}; move generation places
+ * letter tiles. Instances are mutable and not thread-safe.
+ */
+public final class Rack {
+
+    /** Tile text for a blank. */
+    public static final char BLANK = '?';
+
+    private final int[] counts = new int[26];
+    private int blanks;
+    private int mask;
+    private int size;
+
+    /**
+     * Build a rack from tile strings. Each tile contributes its first character: a letter
+     * (either case) or {@link #BLANK}; anything else, including null and empty tiles, is ignored.
+     */
+    public static Rack of(Collection<String> tiles) {
+        Rack rack = new Rack();
+        for (String tile : tiles) {
+            if (tile == null || tile.isEmpty()) {
+                continue;
+            }
+            char c = tile.charAt(0);
+            if (c == BLANK) {
+                rack.blanks++;
+                rack.size++;
+            } else {
+                int letter = Character.toUpperCase(c) - 'A';
+                if (letter >= 0 && letter < 26) {
+                    rack.putBack(letter);
+                }
+            }
+        }
+        return rack;
+    }
+
+    /**
+     * Build a rack from letter counts (index 0 = A).
+     */
+    public static Rack of(int[] letterCounts) {
+        Rack rack = new Rack();
+        for (int letter = 0; letter < 26; letter++) {
+            for (int i = 0; i < letterCounts[letter]; i++) {
+                rack.putBack(letter);
+            }
+        }
+        return rack;
+    }
+
+    /**
+     * Take one tile of a letter (index 0 = A).
+     *
+     * @return false, leaving the rack unchanged, if there is none
+     */
+    public boolean take(int letter) {
+        if (counts[letter] == 0) {
+            return false;
+        }
+        if (--counts[letter] == 0) {
+            mask &= ~(1 << letter);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Return one tile of a letter (index 0 = A) to the rack.
+     */
+    public void putBack(int letter) {
+        counts[letter]++;
+        mask |= 1 << letter;
+        size++;
+    }
+
+    /**
+     * Take one tile of an upper-case letter A-Z.
+     *
+     * @return false, leaving the rack unchanged, if there is none or the character is not a letter
+     */
+    public boolean takeLetter(char letter) {
+        int index = letter - 'A';
+        return index >= 0 && index < 26 && take(index);
+    }
+
+    /**
+     * Return one tile of an upper-case letter A-Z to the rack.
+     */
+    public void putBackLetter(char letter) {
+        putBack(letter - 'A');
+    }
+
+    /**
+     * @return false, leaving the rack unchanged, if there is no blank
+     */
+    public boolean takeBlank() {
+        if (blanks == 0) {
+            return false;
+        }
+        blanks--;
+        size--;
+        return true;
+    }
+
+    public void putBackBlank() {
+        blanks++;
+        size++;
+    }
+
+    /**
+     * Number of tiles of a letter (index 0 = A).
+     */
+    public int count(int letter) {
+        return counts[letter];
+    }
+
+    public int blanks() {
+        return blanks;
+    }
+
+    /**
+     * Letters with at least one tile left (bit 0 = A).
+     */
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Total tiles, blanks included.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Reset this rack to the contents of another, without allocating.
+     */
+    public void copyFrom(Rack other) {
+        System.arraycopy(other.counts, 0, counts, 0, 26);
+        blanks = other.blanks;
+        mask = other.mask;
+        size = other.size;
+    }
+}
@@ -0,0 +1,238 @@
+package com.govtech.scrabble.movegen;
+
+/**
+ * Streaming collector that keeps only the best {@code capacity} moves out of everything offered.
+ *
+ * Moves are ranked by two int keys, higher first, and then by arrival order, earlier first, so
+ * the result is exactly what a stable sort of all moves followed by a limit would return. The
+ * candidates live in a bounded min-heap of slot indices over primitive arrays: a move that does
+ * not beat the current worst is counted and dropped without allocating, and one that does
+ * overwrites the worst slot. Callers turn the few winners into response objects at the end.
+ *
+ * A move is its letters, which of them are placed from the hand, and an {@code origin} int the
+ * caller packs with whatever else locates it (start square, direction). Instances are mutable
+ * and not thread-safe; parallel generation gives each task its own and merges them with
+ * {@link #addAll}.
+ */
+public final class TopMoves {
+
+    private final int capacity;
+    private final int maxLength;
+    private final int[] primary;
+    private final int[] secondary;
+    private final long[] sequence;
+    private final int[] origin;
+    private final int[] length;
+    private final char[] letters;
+    private final boolean[] placed;
+
+    /** Slot indices; heap[0] is the worst move kept. */
+    private final int[] heap;
+    private int size;
+    private long total;
+    private long nextSequence;
+
+    /**
+     * @param capacity  number of best moves to keep
+     * @param maxLength longest move that will be offered
+     */
+    public TopMoves(int capacity, int maxLength) {
+        this.capacity = capacity;
+        this.maxLength = maxLength;
+        this.primary = new int[capacity];
+        this.secondary = new int[capacity];
+        this.sequence = new long[capacity];
+        this.origin = new int[capacity];
+        this.length = new int[capacity];
+        this.letters = new char[capacity * maxLength];
+        this.placed = new boolean[capacity * maxLength];
+        this.heap = new int[capacity];
+    }
+
+    /**
+     * Count a move and keep it if it ranks among the best so far. The arrays are copied, so
+     * callers may reuse them.
+     *
+     * @return whether the move was kept
+     */
+    public boolean offer(int primaryKey, int secondaryKey, int moveOrigin, char[] moveLetters, boolean[] movePlaced,
+                         int moveLength) {
+        total++;
+        return insert(primaryKey, secondaryKey, nextSequence++, moveOrigin, moveLetters, movePlaced, moveLength);
+    }
+
+    /**
+     * Merge the moves another collector kept, as if they had been offered here after everything
+     * offered so far. Merging per-task collectors in the order their moves would have been
+     * generated sequentially keeps exactly the moves one collector would have kept.
+     */
+    public void addAll(TopMoves other) {
+        total += other.total;
+        int[] slots = new int[other.size];
+        for (int i = 0; i < other.size; i++) {
+            slots[i] = i;
+        }
+        // Arrival order within the other collector; slots fill in order until it evicts, so sort
+        for (int i = 1; i < slots.length; i++) {
+            int slot = slots[i];
+            int j = i - 1;
+            while (j >= 0 && other.sequence[slots[j]] > other.sequence[slot]) {
+                slots[j + 1] = slots[j];
+                j--;
+            }
+            slots[j + 1] = slot;
+        }
+
+        char[] moveLetters = new char[other.maxLength];
+        boolean[] movePlaced = new boolean[other.maxLength];
+        for (int slot : slots) {
+            other.copyMove(slot, moveLetters, movePlaced);
+            insert(other.primary[slot], other.secondary[slot], nextSequence++, other.origin[slot],
+                   moveLetters, movePlaced, other.length[slot]);
+        }
+    }
+
+    /**
+     * Total number of moves offered, kept or not.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Number of best moves this collector keeps.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of moves kept: the smaller of the capacity and {@link #total()}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Slots of the kept moves, best first.
+     */
+    public int[] ranked() {
+        int[] slots = new int[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = i;
+        }
+        // Few winners, so a simple insertion sort on the slot order is enough
+        for (int i = 1; i < size; i++) {
+            int slot = slots[i];
+            int j = i - 1;
+            while (j >= 0 && ranksAbove(slot, slots[j])) {
+                slots[j + 1] = slots[j];
+                j--;
+            }
+            slots[j + 1] = slot;
+        }
+        return slots;
+    }
+
+    public int primaryKey(int slot) {
+        return primary[slot];
+    }
+
+    public int secondaryKey(int slot) {
+        return secondary[slot];
+    }
+
+    public int origin(int slot) {
+        return origin[slot];
+    }
+
+    public int length(int slot) {
+        return length[slot];
+    }
+
+    /**
+     * Copy a kept move's letters and placed flags into caller buffers of at least {@link #length(int)} cells.
+     */
+    public void copyMove(int slot, char[] moveLetters, boolean[] movePlaced) {
+        System.arraycopy(letters, slot * maxLength, moveLetters, 0, length[slot]);
+        System.arraycopy(placed, slot * maxLength, movePlaced, 0, length[slot]);
+    }
+
+    private boolean insert(int primaryKey, int secondaryKey, long seq, int moveOrigin,
+                           char[] moveLetters, boolean[] movePlaced, int moveLength) {
+        if (size < capacity) {
+            int slot = size;
+            store(slot, primaryKey, secondaryKey, seq, moveOrigin, moveLetters, movePlaced, moveLength);
+            heap[size++] = slot;
+            siftUp(size - 1);
+            return true;
+        }
+        if (capacity == 0 || compare(primaryKey, secondaryKey, seq, heap[0]) <= 0) {
+            return false;
+        }
+        // Overwrite the worst move kept and let it sink to its place
+        store(heap[0], primaryKey, secondaryKey, seq, moveOrigin, moveLetters, movePlaced, moveLength);
+        siftDown(0);
+        return true;
+    }
+
+    private void store(int slot, int primaryKey, int secondaryKey, long seq, int moveOrigin,
+                       char[] moveLetters, boolean[] movePlaced, int moveLength) {
+        primary[slot] = primaryKey;
+        secondary[slot] = secondaryKey;
+        sequence[slot] = seq;
+        origin[slot] = moveOrigin;
+        length[slot] = moveLength;
+        System.arraycopy(moveLetters, 0, letters, slot * maxLength, moveLength);
+        System.arraycopy(movePlaced, 0, placed, slot * maxLength, moveLength);
+    }
+
+    /**
+     * Positive if the given move ranks above the move in a slot.
+     */
+    private int compare(int primaryKey, int secondaryKey, long seq, int slot) {
+        if (primaryKey != primary[slot]) {
+            return Integer.compare(primaryKey, primary[slot]);
+        }
+        if (secondaryKey != secondary[slot]) {
+            return Integer.compare(secondaryKey, secondary[slot]);
+        }
+        return Long.compare(sequence[slot], seq);
+    }
+
+    private boolean ranksAbove(int slot, int other) {
+        return compare(primary[slot], secondary[slot], sequence[slot], other) > 0;
+    }
+
+    private void siftUp(int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], slot)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private void siftDown(int index) {
+        int slot = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksAbove(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(slot, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+}
@@ -0,0 +1,103 @@
+package com.govtech.scrabble.ranking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.govtech.scrabble.config.ScrabbleProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pages through ranked results without generating them again.
+ *
+ * A first page is cut straight from a fresh {@link RankedResults}; if more ranked results remain,
+ * the handle is cached and the page carries a cursor. Presenting the cursor serves the next page
+ * from the cached handle. Cursors are "id:offset", expire with their handle after
+ * {@code scrabble.results.cursor-ttl-seconds}, and only reach the best
+ * {@code scrabble.results.max-ranked} results; the reported total is always exact.
+ */
+@Component
+public class RankedResultCache {
+
+    /**
+     * One page of results, the total found, the rank of the first item (0-based) and the cursor
+     * for the next page, or null if this is the last.
+     */
+    public record Page<T>(List<T> items, long total, int offset, String nextCursor) {
+    }
+
+    private final Cache<String, RankedResults<?>> cache;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int capacity;
+
+    public RankedResultCache(ScrabbleProperties scrabbleProperties) {
+        ScrabbleProperties.Results results = scrabbleProperties.getResults();
+        this.defaultLimit = results.getDefaultLimit();
+        this.maxLimit = results.getMaxLimit();
+        this.capacity = Math.max(results.getMaxRanked(), results.getMaxLimit());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(results.getCursorCacheSize())
+                .expireAfterAccess(Duration.ofSeconds(results.getCursorTtlSeconds()))
+                .build();
+    }
+
+    /**
+     * How many ranked results a generation pass should keep.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Page size for a requested limit: the default if none, capped at the configured maximum.
+     *
+     * @throws IllegalArgumentException if the limit is below 1
+     */
+    public int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    public <T> Page<T> firstPage(RankedResults<T> results, int limit) {
+        String nextCursor = null;
+        if (limit < results.size()) {
+            String id = UUID.randomUUID().toString();
+            cache.put(id, results);
+            nextCursor = id + ":" + limit;
+        }
+        return new Page<>(results.get(0, limit), results.total(), 0, nextCursor);
+    }
+
+    /**
+     * Serve the page a cursor points at.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed, expired, or was issued for another kind of result
+     */
+    public <T> Page<T> nextPage(String cursor, Class<T> type, int limit) {
+        int separator = cursor.lastIndexOf(':');
+        int offset;
+        try {
+            offset = Integer.parseInt(cursor.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            offset = -1;
+        }
+        RankedResults<?> cached = separator > 0 && offset >= 0 ? cache.getIfPresent(cursor.substring(0, separator)) : null;
+        if (cached == null || cached.type() != type) {
+            throw new IllegalArgumentException("Invalid or expired cursor");
+        }
+
+        @SuppressWarnings("unchecked")
+        RankedResults<T> results = (RankedResults<T>) cached;
+        int end = (int) Math.min((long) offset + limit, results.size());
+        String nextCursor = end < results.size() ? cursor.substring(0, separator) + ":" + end : null;
+        return new Page<>(results.get(offset, end), results.total(), offset, nextCursor);
+    }
+}
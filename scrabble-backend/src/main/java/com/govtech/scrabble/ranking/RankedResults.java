@@ -0,0 +1,58 @@
+package com.govtech.scrabble.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * The ranked outcome of one generation pass: how many results were found in total and the best
+ * of them, held in whatever compact form the generator kept them, in rank order.
+ *
+ * Response objects are only built for the ranks a page asks for, so a cached handle costs the
+ * compact form rather than a list of DTOs. The materializer must be safe to call from any thread
+ * once generation has finished.
+ */
+public final class RankedResults<T> {
+
+    private final Class<T> type;
+    private final long total;
+    private final int size;
+    private final IntFunction<T> materializer;
+
+    /**
+     * @param type         type of the results, checked when a cursor resumes
+     * @param total        number of results found, kept or not
+     * @param size         number of ranked results kept
+     * @param materializer builds the result at a rank, 0 being the best
+     */
+    public RankedResults(Class<T> type, long total, int size, IntFunction<T> materializer) {
+        this.type = type;
+        this.total = total;
+        this.size = size;
+        this.materializer = materializer;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Build the results ranked {@code from} (inclusive) to {@code to} (exclusive), clipped to {@link #size()}.
+     */
+    public List<T> get(int from, int to) {
+        int end = Math.min(to, size);
+        List<T> results = new ArrayList<>(Math.max(0, end - from));
+        for (int rank = from; rank < end; rank++) {
+            results.add(materializer.apply(rank));
+        }
+        return results;
+    }
+}
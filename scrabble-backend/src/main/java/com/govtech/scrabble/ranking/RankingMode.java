@@ -0,0 +1,58 @@
+package com.govtech.scrabble.ranking;
+
+import java.util.Locale;
+
+/**
+ * Order in which word finder and board analyzer results are returned.
+ *
+ * Each mode turns a placement into two keys, compared highest first, so ranking happens while
+ * placements are generated; placements equal on both keys keep the order they were found in.
+ */
+public enum RankingMode {
+
+    /** Highest score first; equal scores keep the order they were found in. */
+    SCORE,
+
+    /** Longest word first, higher score breaking ties. */
+    LENGTH,
+
+    /** Placements using all seven hand tiles first, then by score. */
+    BINGO_FIRST,
+
+    /** Placements using the fewest hand tiles first, then by score. */
+    FEWEST_TILES;
+
+    /** Hand tiles a placement must use to be a bingo. */
+    public static final int BINGO_TILES = 7;
+
+    public int primaryKey(int score, int length, int tilesUsed) {
+        return switch (this) {
+            case SCORE -> score;
+            case LENGTH -> length;
+            case BINGO_FIRST -> tilesUsed >= BINGO_TILES ? 1 : 0;
+            case FEWEST_TILES -> -tilesUsed;
+        };
+    }
+
+    public int secondaryKey(int score, int length, int tilesUsed) {
+        return this == SCORE ? 0 : score;
+    }
+
+    /**
+     * Parse a mode name, case-insensitive, with '-' or '_' between words. Null or blank is {@link #SCORE}.
+     *
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static RankingMode from(String name) {
+        if (name == null || name.isBlank()) {
+            return SCORE;
+        }
+        String normalized = name.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        for (RankingMode mode : values()) {
+            if (mode.name().equals(normalized)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown ranking mode: " + name);
+    }
+}
@@ -1,6 +1,7 @@
 package com.govtech.scrabble.repository;
 
 import com.govtech.scrabble.entity.DictionaryCache;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -51,6 +52,16 @@ public interface DictionaryCacheRepository extends JpaRepository<DictionaryCache
     @Query("SELECT dc FROM DictionaryCache dc WHERE dc.accessCount >= :minAccessCount ORDER BY dc.accessCount DESC")
     List<DictionaryCache> findMostAccessed(@Param("minAccessCount") Integer minAccessCount);
 
+    /**
+     * Find one page of the most frequently accessed entries (for cache warm-up).
+     *
+     * @param minAccessCount Minimum access count threshold
+     * @param pageable Page to return
+     * @return Frequently accessed cached entries, most accessed first
+     */
+    @Query("SELECT dc FROM DictionaryCache dc WHERE dc.accessCount >= :minAccessCount ORDER BY dc.accessCount DESC")
+    List<DictionaryCache> findMostAccessed(@Param("minAccessCount") Integer minAccessCount, Pageable pageable);
+
     /**
      * Find cached entries older than specified date (for cache cleanup).
      *
@@ -0,0 +1,108 @@
+package com.govtech.scrabble.scramble;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Active scramble sessions (session id to answer), bounded in size and expiring when idle.
+ *
+ * Sessions are only removed explicitly when answered or cleared, so abandoned games must expire
+ * on their own: each session lives for the configured time after its last use, and once the
+ * store is full Caffeine evicts the sessions least likely to be used again. Expiry is driven by
+ * a scheduler, so the size stays accurate on an idle node rather than waiting for the next write.
+ */
+public class InMemoryScrambleSessionStore implements ScrambleSessionStore {
+
+    private final Cache<String, String> sessions;
+    private final long maxSize;
+    private final Duration ttl;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder evictedForSize = new LongAdder();
+
+    /**
+     * @param maxSize most sessions kept at once
+     * @param ttl how long a session lives after it was last read or written
+     * @param ticker time source, replaceable in tests
+     */
+    public InMemoryScrambleSessionStore(long maxSize, Duration ttl, Ticker ticker) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        Caffeine<String, String> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .ticker(ticker)
+                .evictionListener((String id, String word, RemovalCause cause) -> {
+                    if (cause == RemovalCause.EXPIRED) {
+                        expired.increment();
+                    } else if (cause == RemovalCause.SIZE) {
+                        evictedForSize.increment();
+                    }
+                })
+                .recordStats();
+        if (ticker == Ticker.systemTicker()) {
+            builder.scheduler(Scheduler.systemScheduler());
+        }
+        this.sessions = builder.build();
+    }
+
+    @Override
+    public void put(String sessionId, String word) {
+        sessions.put(sessionId, word);
+        created.increment();
+    }
+
+    /**
+     * @return the answer for the session, or null if it is unknown or has expired
+     */
+    @Override
+    public String get(String sessionId) {
+        return sessions.getIfPresent(sessionId);
+    }
+
+    @Override
+    public boolean remove(String sessionId) {
+        return sessions.asMap().remove(sessionId) != null;
+    }
+
+    @Override
+    public long size() {
+        return sessions.estimatedSize();
+    }
+
+    /**
+     * Run pending expiry and eviction now.
+     */
+    public void cleanUp() {
+        sessions.cleanUp();
+    }
+
+    /**
+     * Size, lookup hit rate and how many sessions were expired or evicted.
+     */
+    @Override
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = sessions.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("store", "memory");
+        result.put("size", sessions.estimatedSize());
+        result.put("maxSize", maxSize);
+        result.put("ttlSeconds", ttl.toSeconds());
+        result.put("created", created.sum());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("expired", expired.sum());
+        result.put("evictedForSize", evictedForSize.sum());
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+package com.govtech.scrabble.scramble;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scramble sessions in the {@code scramble_sessions} table, shared by every node using the same
+ * database.
+ *
+ * A session expires when it has not been read for the TTL: reads refresh {@code last_accessed},
+ * and a background task deletes expired rows every minute. Reads of an expired row that has not
+ * been purged yet are treated as misses. Removal is a single DELETE whose row count says whether
+ * this node removed the session.
+ */
+public class JdbcScrambleSessionStore implements ScrambleSessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcScrambleSessionStore.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ScheduledExecutorService purger;
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    /**
+     * @param jdbcTemplate database holding the scramble_sessions table
+     * @param ttl how long a session lives after it was last read or written
+     * @param clock time source, replaceable in tests
+     * @param purgeInterval how often expired rows are deleted; zero disables the background purge
+     */
+    public JdbcScrambleSessionStore(JdbcTemplate jdbcTemplate, Duration ttl, Clock clock, Duration purgeInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.clock = clock;
+        if (purgeInterval.isZero()) {
+            this.purger = null;
+        } else {
+            this.purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "scramble-session-purge");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = purgeInterval.toMillis();
+            purger.scheduleWithFixedDelay(this::purgeExpired, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void put(String sessionId, String word) {
+        Timestamp now = Timestamp.from(clock.instant());
+        jdbcTemplate.update("INSERT INTO scramble_sessions (session_id, word, created_at, last_accessed) VALUES (?, ?, ?, ?)",
+                sessionId, word, now, now);
+        writes.increment();
+    }
+
+    @Override
+    public String get(String sessionId) {
+        reads.increment();
+        Instant now = clock.instant();
+        List<String> words = jdbcTemplate.queryForList(
+                "SELECT word FROM scramble_sessions WHERE session_id = ? AND last_accessed >= ?",
+                String.class, sessionId, Timestamp.from(now.minus(ttl)));
+        if (words.isEmpty()) {
+            return null;
+        }
+        jdbcTemplate.update("UPDATE scramble_sessions SET last_accessed = ? WHERE session_id = ?",
+                Timestamp.from(now), sessionId);
+        hits.increment();
+        return words.get(0);
+    }
+
+    @Override
+    public boolean remove(String sessionId) {
+        boolean deleted = jdbcTemplate.update("DELETE FROM scramble_sessions WHERE session_id = ? AND last_accessed >= ?",
+                sessionId, Timestamp.from(clock.instant().minus(ttl))) > 0;
+        if (deleted) {
+            removed.increment();
+        }
+        return deleted;
+    }
+
+    @Override
+    public long size() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scramble_sessions WHERE last_accessed >= ?",
+                Long.class, Timestamp.from(clock.instant().minus(ttl)));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Delete sessions idle for longer than the TTL.
+     *
+     * @return number of rows deleted
+     */
+    public int purgeExpired() {
+        try {
+            int deleted = jdbcTemplate.update("DELETE FROM scramble_sessions WHERE last_accessed < ?",
+                    Timestamp.from(clock.instant().minus(ttl)));
+            expired.add(deleted);
+            return deleted;
+        } catch (DataAccessException e) {
+            logger.warn("Failed to purge expired scramble sessions: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("store", "jdbc");
+        stats.put("size", size());
+        stats.put("ttlSeconds", ttl.toSeconds());
+        stats.put("created", writes.sum());
+        stats.put("reads", reads.sum());
+        stats.put("hits", hits.sum());
+        stats.put("misses", reads.sum() - hits.sum());
+        stats.put("removed", removed.sum());
+        stats.put("expired", expired.sum());
+        return stats;
+    }
+
+    @Override
+    public void shutdown() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+}
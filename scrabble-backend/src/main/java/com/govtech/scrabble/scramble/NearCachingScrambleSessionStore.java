@@ -0,0 +1,86 @@
+package com.govtech.scrabble.scramble;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small local cache in front of a shared {@link ScrambleSessionStore}, so repeated reshuffles of
+ * the same game do not go to the shared store each time.
+ *
+ * Answers never change, so a cached entry can only be stale by still showing a session that was
+ * removed or expired on another node. Local removals invalidate the entry at once; entries from
+ * other nodes' removals live at most the near-cache TTL. Removal always goes to the shared store,
+ * so a stale entry can let a player reshuffle a finished game for a few seconds but never score
+ * it twice.
+ */
+public class NearCachingScrambleSessionStore implements ScrambleSessionStore {
+
+    private final ScrambleSessionStore delegate;
+    private final Cache<String, String> nearCache;
+    private final Duration ttl;
+
+    public NearCachingScrambleSessionStore(ScrambleSessionStore delegate, long maxSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void put(String sessionId, String word) {
+        delegate.put(sessionId, word);
+        nearCache.put(sessionId, word);
+    }
+
+    @Override
+    public String get(String sessionId) {
+        String word = nearCache.getIfPresent(sessionId);
+        if (word == null) {
+            word = delegate.get(sessionId);
+            if (word != null) {
+                nearCache.put(sessionId, word);
+            }
+        }
+        return word;
+    }
+
+    @Override
+    public boolean remove(String sessionId) {
+        nearCache.invalidate(sessionId);
+        return delegate.remove(sessionId);
+    }
+
+    @Override
+    public long size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>(delegate.getStatistics());
+        CacheStats nearStats = nearCache.stats();
+        Map<String, Object> near = new LinkedHashMap<>();
+        near.put("size", nearCache.estimatedSize());
+        near.put("ttlSeconds", ttl.toSeconds());
+        near.put("hits", nearStats.hitCount());
+        near.put("misses", nearStats.missCount());
+        near.put("hitRate", nearStats.hitRate());
+        stats.put("nearCache", near);
+        return stats;
+    }
+}
@@ -0,0 +1,202 @@
+package com.govtech.scrabble.scramble;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-difficulty pools of ready-made scramble puzzles, kept topped up by a background producer.
+ *
+ * Taking a puzzle is a non-blocking poll of a {@link ConcurrentLinkedQueue}; word selection,
+ * shuffling and hint building happen on the producer thread instead of the request thread.
+ * When a pool drops below the refill threshold the producer is woken and fills it back to the
+ * target size. An empty pool is a miss and the caller builds a puzzle itself.
+ *
+ * Each puzzle records the dictionary version its word was drawn from. Once a reload publishes a
+ * new version, older puzzles are dropped as they are polled and the pool refills from the new one.
+ */
+public final class ScramblePuzzlePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScramblePuzzlePool.class);
+
+    /**
+     * A puzzle waiting to be served: the answer, its scrambled letters and hint, and the version
+     * of the dictionary the answer came from.
+     */
+    public record Puzzle(String word, String scrambled, String hint, String difficulty, long dictionaryVersion,
+                         long createdAtNanos) {
+    }
+
+    private final Function<String, Puzzle> producer;
+    private final LongSupplier currentVersion;
+    private final int targetSize;
+    private final int refillBelow;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder produced = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final AtomicLong lastRefillLagMs = new AtomicLong();
+    private final AtomicLong maxRefillLagMs = new AtomicLong();
+    private volatile boolean running;
+
+    /**
+     * @param keys difficulty keys to keep a pool for
+     * @param producer builds one puzzle for a key; called on the producer thread only
+     * @param currentVersion dictionary version a puzzle must come from to be served
+     * @param targetSize puzzles per pool after a refill
+     * @param refillBelow depth under which a refill is requested
+     */
+    public ScramblePuzzlePool(Collection<String> keys, Function<String, Puzzle> producer, LongSupplier currentVersion,
+                              int targetSize, int refillBelow) {
+        this.producer = producer;
+        this.currentVersion = currentVersion;
+        this.targetSize = Math.max(1, targetSize);
+        this.refillBelow = Math.min(Math.max(1, refillBelow), this.targetSize);
+        for (String key : keys) {
+            pools.put(key, new Pool());
+        }
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scramble-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start producing: every pool is filled to the target size in the background.
+     */
+    public void start() {
+        running = true;
+        pools.keySet().forEach(this::requestRefill);
+    }
+
+    /**
+     * Take a ready puzzle for the key without blocking, dropping any made from an older
+     * dictionary version.
+     *
+     * @return a puzzle, or null if the pool has none from the current version or is unknown
+     */
+    public Puzzle poll(String key) {
+        Pool pool = pools.get(key);
+        if (pool == null) {
+            misses.increment();
+            return null;
+        }
+        long version = currentVersion.getAsLong();
+        Puzzle puzzle;
+        while ((puzzle = pool.queue.poll()) != null) {
+            pool.depth.decrementAndGet();
+            if (puzzle.dictionaryVersion() == version) {
+                break;
+            }
+            discarded.increment();
+        }
+        if (pool.depth.get() < refillBelow) {
+            requestRefill(key);
+        }
+        if (puzzle == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return puzzle;
+    }
+
+    private void requestRefill(String key) {
+        Pool pool = pools.get(key);
+        if (!running || !pool.refilling.compareAndSet(false, true)) {
+            return;
+        }
+        long requestedAt = System.nanoTime();
+        try {
+            executor.execute(() -> refill(key, pool, requestedAt));
+        } catch (RuntimeException e) {
+            // Executor shut down
+            pool.refilling.set(false);
+        }
+    }
+
+    private void refill(String key, Pool pool, long requestedAt) {
+        RuntimeException failure = null;
+        try {
+            while (running && pool.depth.get() < targetSize) {
+                Puzzle puzzle = producer.apply(key);
+                pool.queue.offer(puzzle);
+                pool.depth.incrementAndGet();
+                produced.increment();
+            }
+            long lagMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestedAt);
+            lastRefillLagMs.set(lagMs);
+            maxRefillLagMs.accumulateAndGet(lagMs, Math::max);
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            pool.refilling.set(false);
+        }
+
+        if (failure != null) {
+            // Counted after the flag is cleared so the next poll can request another attempt
+            failures.increment();
+            logger.warn("Failed to refill scramble pool '{}': {}", key, failure.getMessage());
+        } else if (pool.depth.get() < refillBelow) {
+            // Polls that arrived while this refill was finishing
+            requestRefill(key);
+        }
+    }
+
+    /**
+     * Pool depth per key, hit and miss counts, and how long refills take from request to full.
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", running);
+        stats.put("targetSize", targetSize);
+        stats.put("refillBelow", refillBelow);
+        Map<String, Integer> depth = new TreeMap<>();
+        pools.forEach((key, pool) -> depth.put(key, pool.depth.get()));
+        stats.put("depth", depth);
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("produced", produced.sum());
+        stats.put("refillFailures", failures.sum());
+        stats.put("discardedStale", discarded.sum());
+        stats.put("lastRefillLagMs", lastRefillLagMs.get());
+        stats.put("maxRefillLagMs", maxRefillLagMs.get());
+        return stats;
+    }
+
+    public int depth(String key) {
+        Pool pool = pools.get(key);
+        return pool == null ? 0 : pool.depth.get();
+    }
+
+    public void shutdown() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    private static final class Pool {
+        final ConcurrentLinkedQueue<Puzzle> queue = new ConcurrentLinkedQueue<>();
+        // Tracked separately: ConcurrentLinkedQueue.size() walks the whole queue
+        final AtomicInteger depth = new AtomicInteger();
+        final AtomicBoolean refilling = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,43 @@
+package com.govtech.scrabble.scramble;
+
+import java.util.Map;
+
+/**
+ * Server-side scramble sessions: session id to answer.
+ *
+ * A session's answer never changes once created, so implementations may serve reads from a
+ * local copy; only removal has to be authoritative. {@link #remove} reports whether this call
+ * removed the session, so when several nodes share a store exactly one of them sees a given
+ * session answered.
+ *
+ * Implementations: {@link InMemoryScrambleSessionStore} for a single node,
+ * {@link JdbcScrambleSessionStore} shared through a database, and
+ * {@link NearCachingScrambleSessionStore} in front of a shared store.
+ */
+public interface ScrambleSessionStore {
+
+    void put(String sessionId, String word);
+
+    /**
+     * @return the answer for the session, or null if it is unknown or has expired
+     */
+    String get(String sessionId);
+
+    /**
+     * @return true if the session existed and this call removed it
+     */
+    boolean remove(String sessionId);
+
+    /**
+     * Number of live sessions (may include a few that have expired but not yet been purged).
+     */
+    long size();
+
+    Map<String, Object> getStatistics();
+
+    /**
+     * Stop any background work.
+     */
+    default void shutdown() {
+    }
+}
@@ -0,0 +1,205 @@
+package com.govtech.scrabble.scramble;
+
+import com.govtech.scrabble.config.ScrabbleProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stateless scramble sessions: the answer travels in the session id itself, encrypted and signed,
+ * so any node holding the shared secret can verify it without a server-side lookup.
+ *
+ * Token layout, base64url without padding:
+ * {@code version(1) | iv(16) | AES-CTR(issuedAtSeconds(8) | word) | HMAC-SHA256 tag(16)}.
+ * The tag covers everything before it (encrypt-then-MAC) and is checked in constant time before
+ * anything is decrypted. Encryption and MAC keys are derived from the secret with HMAC-SHA256.
+ *
+ * Tokens expire a fixed time after they were issued. They cannot be revoked: a solved puzzle's
+ * token still verifies until it expires.
+ */
+@Component
+public class ScrambleTokenCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScrambleTokenCodec.class);
+
+    private static final byte VERSION = 1;
+    private static final int IV_BYTES = 16;
+    private static final int TAG_BYTES = 16;
+    private static final int MIN_TOKEN_BYTES = 1 + IV_BYTES + Long.BYTES + TAG_BYTES;
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Clock clock;
+    private final SecretKeySpec encryptionKey;
+    private final SecretKeySpec macKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<Cipher> ciphers;
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    @Autowired
+    public ScrambleTokenCodec(ScrabbleProperties scrabbleProperties) {
+        this(scrabbleProperties.getScramble().getTokens().isEnabled(),
+                scrabbleProperties.getScramble().getTokens().getSecret(),
+                Duration.ofMinutes(scrabbleProperties.getScramble().getSessions().getTtlMinutes()),
+                Clock.systemUTC());
+    }
+
+    /**
+     * @param enabled whether sessions are issued as tokens
+     * @param secret shared by every node; a random one is generated if blank
+     * @param ttl how long a token is accepted after it was issued
+     * @param clock time source, replaceable in tests
+     */
+    public ScrambleTokenCodec(boolean enabled, String secret, Duration ttl, Clock clock) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.clock = clock;
+
+        byte[] secretBytes;
+        if (secret == null || secret.isBlank()) {
+            secretBytes = new byte[32];
+            secureRandom.nextBytes(secretBytes);
+            if (enabled) {
+                logger.warn("Scramble tokens enabled without scrabble.scramble.tokens.secret - using a random key, "
+                        + "so tokens will not verify on other nodes or after a restart");
+            }
+        } else {
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.encryptionKey = new SecretKeySpec(Arrays.copyOf(derive(secretBytes, "scramble-token-enc"), 16), "AES");
+        this.macKey = new SecretKeySpec(derive(secretBytes, "scramble-token-mac"), "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> newMac(macKey));
+        this.ciphers = ThreadLocal.withInitial(ScrambleTokenCodec::newCipher);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Issue a token carrying the answer.
+     */
+    public String issue(String word) {
+        byte[] iv = new byte[IV_BYTES];
+        secureRandom.nextBytes(iv);
+        byte[] plain = ByteBuffer.allocate(Long.BYTES + word.length())
+                .putLong(clock.instant().getEpochSecond())
+                .put(word.getBytes(StandardCharsets.US_ASCII))
+                .array();
+
+        ByteBuffer token = ByteBuffer.allocate(1 + IV_BYTES + plain.length + TAG_BYTES);
+        token.put(VERSION).put(iv).put(crypt(iv, plain));
+        Mac mac = macs.get();
+        mac.update(token.array(), 0, token.position());
+        token.put(mac.doFinal(), 0, TAG_BYTES);
+        issued.increment();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+    }
+
+    /**
+     * Verify a token and recover its answer.
+     *
+     * @return the answer, or null if the token is malformed, forged or expired
+     */
+    public String verify(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            rejected.increment();
+            return null;
+        }
+        if (bytes.length < MIN_TOKEN_BYTES || bytes[0] != VERSION) {
+            rejected.increment();
+            return null;
+        }
+
+        int signedLength = bytes.length - TAG_BYTES;
+        Mac mac = macs.get();
+        mac.update(bytes, 0, signedLength);
+        byte[] expectedTag = Arrays.copyOf(mac.doFinal(), TAG_BYTES);
+        if (!MessageDigest.isEqual(expectedTag, Arrays.copyOfRange(bytes, signedLength, bytes.length))) {
+            rejected.increment();
+            return null;
+        }
+
+        byte[] iv = Arrays.copyOfRange(bytes, 1, 1 + IV_BYTES);
+        ByteBuffer plain = ByteBuffer.wrap(crypt(iv, Arrays.copyOfRange(bytes, 1 + IV_BYTES, signedLength)));
+        long issuedAt = plain.getLong();
+        if (clock.instant().getEpochSecond() - issuedAt > ttl.toSeconds()) {
+            expired.increment();
+            return null;
+        }
+        verified.increment();
+        return new String(plain.array(), Long.BYTES, plain.remaining(), StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Tokens issued, verified, rejected as malformed or forged, and rejected as expired.
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("issued", issued.sum());
+        stats.put("verified", verified.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("expired", expired.sum());
+        stats.put("ttlSeconds", ttl.toSeconds());
+        return stats;
+    }
+
+    private byte[] crypt(byte[] iv, byte[] input) {
+        try {
+            Cipher cipher = ciphers.get();
+            // CTR is symmetric: the same operation encrypts and decrypts
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new IvParameterSpec(iv));
+            return cipher.doFinal(input);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-CTR unavailable", e);
+        }
+    }
+
+    private static byte[] derive(byte[] secret, String label) {
+        Mac mac = newMac(new SecretKeySpec(secret, "HmacSHA256"));
+        return mac.doFinal(label.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance("AES/CTR/NoPadding");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-CTR unavailable", e);
+        }
+    }
+}
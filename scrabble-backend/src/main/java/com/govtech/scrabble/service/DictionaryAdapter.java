@@ -1,12 +1,15 @@
 package com.govtech.scrabble.service;
 
 import com.govtech.scrabble.config.ScrabbleDictionaryConfig;
+import com.govtech.scrabble.lexicon.Dawg;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Adapter service that seamlessly switches between custom dictionary and LanguageTool.
@@ -55,6 +58,11 @@ public class DictionaryAdapter implements EnglishDictionaryService {
         return languageToolDictionary.isValidWord(word);
     }
 
+    @Override
+    public Map<String, Boolean> isValidWords(Collection<String> words) {
+        return getActiveDictionary().isValidWords(words);
+    }
+
     @Override
     public List<String> findPossibleWords(List<String> availableLetters, int minLength, int maxLength) {
         return getActiveDictionary().findPossibleWords(availableLetters, minLength, maxLength);
@@ -78,6 +86,11 @@ public class DictionaryAdapter implements EnglishDictionaryService {
         return getActiveDictionary().getWordsByLength(length);
     }
 
+    @Override
+    public Dawg getLexicon() {
+        return getActiveDictionary().getLexicon();
+    }
+
     /**
      * Inner wrapper class to adapt ScrabbleDictionary to EnglishDictionaryService interface.
      * This is only used when custom dictionary is active.
@@ -114,5 +127,10 @@ public class DictionaryAdapter implements EnglishDictionaryService {
             // Return words from custom dictionary
             return customDictionary.getWordsByLength(length).stream().toList();
         }
+
+        @Override
+        public Dawg getLexicon() {
+            return customDictionary.getDawg();
+        }
     }
 }
\ No newline at end of file
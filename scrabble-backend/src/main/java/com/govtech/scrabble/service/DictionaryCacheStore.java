@@ -0,0 +1,268 @@
+package com.govtech.scrabble.service;
+
+import com.govtech.scrabble.config.ScrabbleProperties;
+import com.govtech.scrabble.entity.DictionaryCache;
+import com.govtech.scrabble.repository.DictionaryCacheRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Second-tier (database) store for word validation results, behind the in-memory cache in
+ * {@link com.govtech.scrabble.service.impl.EnglishDictionaryServiceImpl}.
+ *
+ * Reads go straight to the {@code dictionary_cache} table and are only made on an in-memory
+ * miss. Writes never touch the database on the caller's thread: each validation or cache hit is
+ * merged into a pending map (one entry per word, carrying the latest result and the number of
+ * accesses since the last flush), and a single background writer saves the pending entries in
+ * batches. If the database is unavailable the pending map is capped and further writes are
+ * dropped; the store only ever loses access counts, never correctness.
+ */
+@Service
+public class DictionaryCacheStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DictionaryCacheStore.class);
+
+    private static final String DICTIONARY_SOURCE = "LANGUAGETOOL";
+
+    private final DictionaryCacheRepository repository;
+    private final ScrabbleProperties.Caching.Persistent config;
+    private final boolean enabled;
+    private final Map<String, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService writer;
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder readHits = new LongAdder();
+    private final LongAdder queuedWrites = new LongAdder();
+    private final LongAdder droppedWrites = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private volatile long lastFlushMs;
+    private volatile int preloadedEntries;
+    private volatile long preloadTimeMs;
+
+    public DictionaryCacheStore(DictionaryCacheRepository repository, ScrabbleProperties scrabbleProperties) {
+        this.repository = repository;
+        this.config = scrabbleProperties.getDictionary().getCaching().getPersistent();
+        this.enabled = scrabbleProperties.getDictionary().getCaching().isEnabled() && config.isEnabled();
+
+        if (enabled) {
+            // No thread is created until start() schedules the flush or a full batch is queued
+            this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dictionary-cache-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.writer = null;
+            logger.info("Persistent validation cache disabled");
+        }
+    }
+
+    /**
+     * Schedule the periodic flush. Called by the dictionary service once it knows validation
+     * goes through the cache tiers, so no writer runs when the lexicon answers every lookup.
+     */
+    public void start() {
+        if (!enabled || !started.compareAndSet(false, true)) {
+            return;
+        }
+        long interval = Math.max(100, config.getFlushIntervalMs());
+        writer.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        logger.info("Persistent validation cache enabled (batch size {}, flush every {}ms)",
+                config.getBatchSize(), interval);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Load the most frequently accessed results, for warming the in-memory cache at startup.
+     *
+     * @return validity keyed by word, empty if the store is disabled or the read fails
+     */
+    public Map<String, Boolean> loadMostAccessed() {
+        if (!enabled || config.getPreloadSize() <= 0) {
+            return Map.of();
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            List<DictionaryCache> entries = repository.findMostAccessed(
+                    config.getMinAccessCount(), PageRequest.of(0, config.getPreloadSize()));
+            Map<String, Boolean> results = new HashMap<>(entries.size() * 2);
+            for (DictionaryCache entry : entries) {
+                results.put(entry.getWord(), entry.getIsValid());
+            }
+            preloadedEntries = results.size();
+            preloadTimeMs = System.currentTimeMillis() - startTime;
+            logger.info("Preloaded {} validation results from dictionary_cache in {}ms", preloadedEntries, preloadTimeMs);
+            return results;
+        } catch (DataAccessException e) {
+            logger.warn("Failed to preload validation results: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Look up stored results for words missing from the in-memory cache.
+     *
+     * @param words upper-case words
+     * @return validity of the words that have a stored result
+     */
+    public Map<String, Boolean> findAll(Collection<String> words) {
+        if (!enabled || words.isEmpty()) {
+            return Map.of();
+        }
+        reads.add(words.size());
+        try {
+            Map<String, Boolean> results = new HashMap<>();
+            for (DictionaryCache entry : repository.findAllById(words)) {
+                results.put(entry.getWord(), entry.getIsValid());
+            }
+            readHits.add(results.size());
+            return results;
+        } catch (DataAccessException e) {
+            logger.warn("Failed to read stored validation results: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Single-word form of {@link #findAll}.
+     *
+     * @return stored validity, or null if the word has no stored result
+     */
+    public Boolean find(String word) {
+        return findAll(List.of(word)).get(word);
+    }
+
+    /**
+     * Queue a result (new or re-read) for the background writer. Never blocks on the database.
+     */
+    public void record(String word, boolean valid) {
+        if (!enabled) {
+            return;
+        }
+        if (pending.size() >= config.getMaxPendingWrites() && !pending.containsKey(word)) {
+            droppedWrites.increment();
+            return;
+        }
+        pending.merge(word, new PendingWrite(valid, 1),
+                (current, update) -> new PendingWrite(update.valid(), current.accesses() + update.accesses()));
+        queuedWrites.increment();
+
+        if (pending.size() >= config.getBatchSize() && flushQueued.compareAndSet(false, true)) {
+            writer.execute(this::flush);
+        }
+    }
+
+    /**
+     * Write all pending results: insert new words, update validity and access counts of known ones.
+     */
+    public synchronized void flush() {
+        flushQueued.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+
+        Map<String, PendingWrite> drained = new HashMap<>();
+        for (String word : pending.keySet()) {
+            PendingWrite write = pending.remove(word);
+            if (write != null) {
+                drained.put(word, write);
+            }
+        }
+
+        List<String> words = new ArrayList<>(drained.keySet());
+        int batchSize = Math.max(1, config.getBatchSize());
+        for (int from = 0; from < words.size(); from += batchSize) {
+            writeBatch(words.subList(from, Math.min(words.size(), from + batchSize)), drained);
+        }
+        flushes.increment();
+        lastFlushMs = System.currentTimeMillis() - startTime;
+    }
+
+    private void writeBatch(List<String> words, Map<String, PendingWrite> drained) {
+        try {
+            Map<String, DictionaryCache> existing = new HashMap<>();
+            for (DictionaryCache entry : repository.findAllById(words)) {
+                existing.put(entry.getWord(), entry);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<DictionaryCache> rows = new ArrayList<>(words.size());
+            for (String word : words) {
+                PendingWrite write = drained.get(word);
+                DictionaryCache row = existing.get(word);
+                if (row == null) {
+                    row = new DictionaryCache(word, write.valid(), DICTIONARY_SOURCE);
+                    row.setAccessCount(write.accesses());
+                } else {
+                    row.setIsValid(write.valid());
+                    row.setAccessCount((row.getAccessCount() == null ? 0 : row.getAccessCount()) + write.accesses());
+                }
+                row.setLastAccessed(now);
+                rows.add(row);
+            }
+            repository.saveAll(rows);
+            flushedRows.add(rows.size());
+        } catch (DataAccessException e) {
+            failedFlushes.increment();
+            logger.warn("Failed to write {} validation results: {}", words.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Read, write-behind and preload metrics.
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("reads", reads.sum());
+        stats.put("readHits", readHits.sum());
+        stats.put("pendingWrites", pending.size());
+        stats.put("queuedWrites", queuedWrites.sum());
+        stats.put("droppedWrites", droppedWrites.sum());
+        stats.put("flushes", flushes.sum());
+        stats.put("flushedRows", flushedRows.sum());
+        stats.put("failedFlushes", failedFlushes.sum());
+        stats.put("lastFlushMs", lastFlushMs);
+        stats.put("preloadedEntries", preloadedEntries);
+        stats.put("preloadTimeMs", preloadTimeMs);
+        return stats;
+    }
+
+    private record PendingWrite(boolean valid, int accesses) {
+    }
+}
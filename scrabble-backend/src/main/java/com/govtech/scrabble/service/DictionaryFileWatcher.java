@@ -0,0 +1,153 @@
+package com.govtech.scrabble.service;
+
+import com.govtech.scrabble.config.ScrabbleDictionaryConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads the custom {@link ScrabbleDictionary} when its word list or image file changes.
+ *
+ * Only {@code file:} locations can be watched. The parent directories are registered with a
+ * {@link WatchService}, so replacing a file by renaming a new one over it is seen as well as
+ * writing it in place. Changes are debounced: a reload starts once the files have been quiet
+ * for the configured time, so a copy that takes several writes triggers one reload.
+ */
+@Service
+public class DictionaryFileWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DictionaryFileWatcher.class);
+
+    private final ScrabbleDictionary scrabbleDictionary;
+    private final ScrabbleDictionaryConfig config;
+    private volatile WatchService watchService;
+    private volatile Thread watcher;
+
+    public DictionaryFileWatcher(ScrabbleDictionary scrabbleDictionary, ScrabbleDictionaryConfig config) {
+        this.scrabbleDictionary = scrabbleDictionary;
+        this.config = config;
+    }
+
+    /**
+     * Start watching once the application is up, if enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled() || !config.getReload().isWatchEnabled()) {
+            return;
+        }
+
+        Map<Path, Set<Path>> watched = new HashMap<>();
+        for (String location : new String[] {config.getFilePath(), config.getImagePath()}) {
+            Path file = toFile(location);
+            if (file != null && file.getParent() != null) {
+                watched.computeIfAbsent(file.getParent(), dir -> new HashSet<>()).add(file.getFileName());
+            }
+        }
+        if (watched.isEmpty()) {
+            logger.info("Dictionary file watch enabled but no file: sources are configured - not watching");
+            return;
+        }
+
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path dir : watched.keySet()) {
+                dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            watchService = service;
+        } catch (IOException e) {
+            logger.warn("Failed to watch dictionary files: {}", e.getMessage());
+            return;
+        }
+
+        Thread thread = new Thread(() -> watch(watched), "dictionary-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        watcher = thread;
+        logger.info("Watching dictionary files for changes: {}", watched);
+    }
+
+    /**
+     * Whether a watch thread is running.
+     */
+    public boolean isWatching() {
+        Thread thread = watcher;
+        return thread != null && thread.isAlive();
+    }
+
+    private void watch(Map<Path, Set<Path>> watched) {
+        WatchService service = watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!drain(service.take(), watched)) {
+                    continue;
+                }
+                // Wait until the files have been quiet for the debounce period
+                WatchKey key;
+                while ((key = service.poll(config.getReload().getDebounceMs(), TimeUnit.MILLISECONDS)) != null) {
+                    drain(key, watched);
+                }
+                logger.info("Dictionary files changed - reloading");
+                scrabbleDictionary.reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    /**
+     * Consume a key's events and re-arm it.
+     *
+     * @return true if any event concerned a watched file
+     */
+    private static boolean drain(WatchKey key, Map<Path, Set<Path>> watched) {
+        Set<Path> names = watched.getOrDefault((Path) key.watchable(), Set.of());
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || names.contains((Path) event.context())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private static Path toFile(String location) {
+        if (location == null || !location.startsWith("file:")) {
+            return null;
+        }
+        try {
+            Resource resource = new DefaultResourceLoader().getResource(location);
+            return resource.getFile().toPath().toAbsolutePath();
+        } catch (IOException e) {
+            logger.warn("Cannot watch dictionary source {}: {}", location, e.getMessage());
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = watcher;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        WatchService service = watchService;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close dictionary watch service: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.govtech.scrabble.service;
 
+import com.govtech.scrabble.lexicon.Dawg;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for English dictionary operations
@@ -15,6 +20,21 @@ public interface EnglishDictionaryService {
      */
     boolean isValidWord(String word);
     
+    /**
+     * Check many words at once. Each distinct word is validated once.
+     * @param words Words to validate (case-insensitive); null and blank entries are skipped
+     * @return Validity keyed by upper-case word, in order of first appearance
+     */
+    default Map<String, Boolean> isValidWords(Collection<String> words) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        for (String word : words) {
+            if (word != null && !word.isBlank()) {
+                results.computeIfAbsent(word.trim().toUpperCase(), this::isValidWord);
+            }
+        }
+        return results;
+    }
+    
     /**
      * Find all possible words that can be formed from the given letters
      * @param availableLetters List of available letters
@@ -44,4 +64,20 @@ public interface EnglishDictionaryService {
      * @return List of words with the specified length
      */
     List<String> getWordsByLength(int length);
-}
\ No newline at end of file
+    
+    /**
+     * Get the word graph backing this dictionary, for move generators that walk prefixes
+     * @return Immutable lexicon graph, or null if this dictionary cannot provide one
+     */
+    default Dawg getLexicon() {
+        return null;
+    }
+    
+    /**
+     * Get runtime statistics for monitoring (pool usage, cache hit rates, index sizes)
+     * @return Statistics keyed by component, empty if this dictionary has none
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
+}
@@ -1,12 +1,17 @@
 package com.govtech.scrabble.service;
 
 import com.govtech.scrabble.config.ScrabbleDictionaryConfig;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.lexicon.WordWeighting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Feature-aware dictionary adapter that routes validation requests to appropriate dictionary.
@@ -103,6 +108,14 @@ public class FeatureAwareDictionaryAdapter implements EnglishDictionaryService {
         return languageToolDictionary.isValidWord(word);
     }
 
+    @Override
+    public Map<String, Boolean> isValidWords(Collection<String> words) {
+        if (shouldUseCustomDictionary()) {
+            return EnglishDictionaryService.super.isValidWords(words);
+        }
+        return languageToolDictionary.isValidWords(words);
+    }
+
     @Override
     public List<String> findPossibleWords(List<String> availableLetters, int minLength, int maxLength) {
         // Word generation always uses LanguageTool (more comprehensive)
@@ -113,14 +126,10 @@ public class FeatureAwareDictionaryAdapter implements EnglishDictionaryService {
     public String getRandomWord(int minLength, int maxLength) {
         // Word Scramble uses custom dictionary for random words
         if (shouldUseCustomDictionary()) {
-            // Collect all words within the length range
-            java.util.List<String> words = new java.util.ArrayList<>();
-            for (int length = minLength; length <= maxLength; length++) {
-                words.addAll(customDictionary.getWordsByLength(length));
-            }
-            if (!words.isEmpty()) {
-                int randomIndex = (int) (Math.random() * words.size());
-                return words.get(randomIndex);
+            String word = customDictionary.getSnapshot()
+                    .getRandomWord(minLength, maxLength, WordWeighting.UNIFORM, ThreadLocalRandom.current());
+            if (word != null) {
+                return word;
             }
         }
         // Fallback to LanguageTool
@@ -142,4 +151,17 @@ public class FeatureAwareDictionaryAdapter implements EnglishDictionaryService {
         }
         return languageToolDictionary.getWordsByLength(length);
     }
+
+    @Override
+    public Dawg getLexicon() {
+        if (shouldUseCustomDictionary()) {
+            return customDictionary.getDawg();
+        }
+        return languageToolDictionary.getLexicon();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        return languageToolDictionary.getStatistics();
+    }
 }
@@ -1,27 +1,59 @@
 package com.govtech.scrabble.service;
 
 import com.govtech.scrabble.config.ScrabbleDictionaryConfig;
+import com.govtech.scrabble.lexicon.AnagramIndex;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.lexicon.DictionaryImage;
+import com.govtech.scrabble.lexicon.WordListLoader;
+import com.govtech.scrabble.lexicon.WordSampler;
+import com.govtech.scrabble.lexicon.WordWeighting;
+import com.govtech.scrabble.movegen.Rack;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
-import org.yaml.snakeyaml.Yaml;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 
 /**
  * Lightweight custom Scrabble dictionary service.
- * Replaces the heavyweight LanguageTool (95MB, 2-3s load) with a custom YAML dictionary.
+ * Replaces the heavyweight LanguageTool (95MB, 2-3s load) with a custom word list
+ * (YAML or plain text, optionally gzipped, from the classpath or the file system).
  * Benefits:
  * - 90% smaller footprint (~5MB vs 95MB)
  * - 6x faster loading (~0.5s vs 3s)
  * - 10x faster validation (< 1ms vs 5-10ms)
  * - Scrabble-specific words only (4-10 letters)
- * - O(1) word lookup performance using HashSet
+ * - O(word length) lookup in a minimized DAWG that shares common prefixes and suffixes,
+ *   a few bytes per word instead of a String per entry in hash sets
+ * - Prefix traversal via {@link #getDawg()} for move generators
+ * - Constant-time startup from a build-time {@link DictionaryImage}, memory-mapped and shared
+ *   through the OS page cache
+ * - Reload without a restart: a new immutable {@link Snapshot} is built in the background and
+ *   published with one volatile write, so lookups never lock and a caller that holds a snapshot
+ *   (or a DAWG taken from one) keeps a consistent view for as long as it needs it
+ * - O(1) random word selection for Word Scramble from per-length arrays, built by a snapshot on
+ *   its first pick so loads and reloads stay a header read
  */
 @Service
 public class ScrabbleDictionary {
@@ -29,147 +61,370 @@ public class ScrabbleDictionary {
     private static final Logger logger = LoggerFactory.getLogger(ScrabbleDictionary.class);
 
     private final ScrabbleDictionaryConfig config;
-    private final Set<String> dictionary;
-    private final Map<Integer, Set<String>> wordsByLength;
-    private boolean loaded = false;
-    private long loadTimeMs = 0;
+    private final StartupCoordinator startup;
+    private final CompletableFuture<Void> initialLoad = new CompletableFuture<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dictionary-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<CompletableFuture<Snapshot>> pendingReload = new AtomicReference<>();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder failedReloads = new LongAdder();
+    private volatile String lastReloadError;
+    // Classpath image copied out of the jar once and mapped by every later load
+    private Path extractedImage;
+    private String extractedImageSource;
 
     public ScrabbleDictionary(ScrabbleDictionaryConfig config) {
+        this(config, null);
+    }
+
+    @Autowired
+    public ScrabbleDictionary(ScrabbleDictionaryConfig config, StartupCoordinator startup) {
         this.config = config;
-        this.dictionary = ConcurrentHashMap.newKeySet();
-        this.wordsByLength = new ConcurrentHashMap<>();
+        this.startup = startup;
+    }
+
+    /**
+     * Start loading as soon as the bean exists, concurrently with the rest of startup.
+     * Until the load completes {@link #isLoaded()} is false and callers fall back to LanguageTool.
+     */
+    @PostConstruct
+    public void startLoading() {
+        if (startup != null) {
+            startup.submit("customDictionary", this::loadDictionary);
+        }
     }
 
     /**
-     * Load dictionary when application is ready.
-     * Uses @EventListener to ensure Spring context is fully initialized.
+     * Load the dictionary on the calling thread.
+     * The precompiled image is mapped when available; the word list is parsed otherwise.
      */
-    @EventListener(ApplicationReadyEvent.class)
     public void loadDictionary() {
         if (!config.isEnabled()) {
             logger.info("Custom Scrabble dictionary is DISABLED - using fallback (LanguageTool)");
+            initialLoad.complete(null);
             return;
         }
 
-        long startTime = System.currentTimeMillis();
-        logger.info("Loading custom Scrabble dictionary from: {}", config.getFilePath());
+        try {
+            publish(buildSnapshot(1));
+            initialLoad.complete(null);
+        } catch (Exception e) {
+            logger.error("Failed to load custom Scrabble dictionary", e);
+            initialLoad.completeExceptionally(e);
+            throw new RuntimeException("Failed to load custom Scrabble dictionary", e);
+        }
+    }
 
+    /**
+     * Wait for the startup load to finish, for callers that need the custom dictionary rather
+     * than the LanguageTool fallback.
+     *
+     * @return true if the dictionary is loaded (false if disabled, failed or timed out)
+     */
+    public boolean awaitLoaded(long timeout, TimeUnit unit) {
         try {
-            ClassPathResource resource = new ClassPathResource("scrabble-dictionary.yml");
-            InputStream inputStream = resource.getInputStream();
+            initialLoad.get(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Reported through isLoaded()
+        }
+        return isLoaded();
+    }
 
-            Yaml yaml = new Yaml();
-            Map<String, Object> data = yaml.load(inputStream);
+    /**
+     * Completes once the startup load has finished, normally even if it failed or the dictionary
+     * is disabled; {@link #isLoaded()} tells which.
+     */
+    public CompletableFuture<Void> whenLoadFinished() {
+        return initialLoad.exceptionally(e -> null);
+    }
 
-            Map<String, Object> dictData = (Map<String, Object>) data.get("scrabble-dictionary");
-            List<String> words = (List<String>) dictData.get("words");
+    /**
+     * Rebuild the dictionary from its configured sources on a background thread and publish it
+     * once complete. Lookups keep using the current snapshot until then; if the build fails the
+     * current snapshot stays in place. A reload requested while one is running joins it.
+     *
+     * @return the reload in progress, completing with the published snapshot
+     */
+    public CompletableFuture<Snapshot> reload() {
+        if (!config.isEnabled()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Custom Scrabble dictionary is disabled"));
+        }
+        while (true) {
+            CompletableFuture<Snapshot> running = pendingReload.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Snapshot> started = new CompletableFuture<>();
+            if (pendingReload.compareAndSet(null, started)) {
+                reloadExecutor.execute(() -> runReload(started));
+                return started;
+            }
+        }
+    }
 
-            int loadedCount = 0;
-            int skippedCount = 0;
+    private void runReload(CompletableFuture<Snapshot> future) {
+        try {
+            Snapshot built = buildSnapshot(snapshot.version() + 1);
+            publish(built);
+            reloads.increment();
+            lastReloadError = null;
+            pendingReload.set(null);
+            future.complete(built);
+        } catch (Exception e) {
+            failedReloads.increment();
+            lastReloadError = e.getMessage();
+            logger.error("Failed to reload custom Scrabble dictionary - keeping version {}", snapshot.version(), e);
+            pendingReload.set(null);
+            future.completeExceptionally(e);
+        } finally {
+            // Never leave a reload marked as running, even after an Error
+            pendingReload.compareAndSet(future, null);
+        }
+    }
 
-            for (String word : words) {
-                if (word == null || word.trim().isEmpty()) {
-                    continue;
-                }
+    private void publish(Snapshot built) {
+        Snapshot previous = snapshot;
+        snapshot = built;
+        logger.info("Custom Scrabble dictionary version {} published ({} words, previously {})",
+                built.version(), built.getWordCount(), previous.getWordCount());
+    }
 
-                String normalizedWord = word.trim().toLowerCase();
-                int length = normalizedWord.length();
+    @PreDestroy
+    public void shutdown() {
+        reloadExecutor.shutdownNow();
+        try {
+            reloadExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                // Filter by length
-                if (length < config.getMinLength() || length > config.getMaxLength()) {
-                    skippedCount++;
-                    continue;
-                }
+    private Snapshot buildSnapshot(long version) throws IOException {
+        long startTime = System.currentTimeMillis();
+        DictionaryImage image = mapImage();
+        if (image != null) {
+            return describe(new Snapshot(version, image.getDawg(), image.getCountsByLength(), "image",
+                    startTime, image.getSizeBytes(), Map.of(), Instant.now()));
+        }
+
+        logger.info("Loading custom Scrabble dictionary from: {}", config.getFilePath());
+
+        Resource resource = new DefaultResourceLoader().getResource(config.getFilePath());
+        int threads = config.getLoaderThreads() > 0
+                ? config.getLoaderThreads() : Runtime.getRuntime().availableProcessors();
+        WordListLoader loader = new WordListLoader(config.getMinLength(), config.getMaxLength(),
+                threads, config.getLoaderChunkLines());
+
+        WordListLoader.Result result;
+        try (InputStream inputStream = resource.getInputStream()) {
+            result = loader.load(inputStream);
+        }
+
+        logger.info("   Lines read: {} ({} bytes, {} chunks on {} threads)",
+                result.lines(), result.sourceBytes(), result.chunks(), result.threads());
+        logger.info("   Words skipped (length/character filter): {}", result.skipped());
+        logger.info("   Throughput: {} lines/s, {} MB/s",
+                Math.round(result.linesPerSecond()), String.format("%.1f", result.megabytesPerSecond()));
+        return describe(new Snapshot(version, result.image().getDawg(), result.image().getCountsByLength(),
+                "wordList", startTime, 0, result.toStatistics(), Instant.now()));
+    }
+
+    /**
+     * Map the configured dictionary image, if there is one built for the configured length range.
+     * A classpath image inside a jar is copied to a temporary file first, since only files can be
+     * mapped; the copy is made once and reused by reloads. Images on disk should be replaced by
+     * renaming a new file over the old one, not rewritten in place, because earlier snapshots may
+     * still be reading the old mapping. An image older than a word list file is skipped, so a
+     * reload after the list changes picks up the new words.
+     *
+     * @return mapped image, or null to fall back to the word list
+     */
+    private DictionaryImage mapImage() {
+        String imagePath = config.getImagePath();
+        if (imagePath == null || imagePath.isBlank()) {
+            return null;
+        }
+        try {
+            Resource resource = new DefaultResourceLoader().getResource(imagePath);
+            if (!resource.exists()) {
+                logger.info("Dictionary image {} not found - parsing word list", imagePath);
+                return null;
+            }
 
-                dictionary.add(normalizedWord);
-                wordsByLength.computeIfAbsent(length, k -> ConcurrentHashMap.newKeySet())
-                        .add(normalizedWord);
-                loadedCount++;
+            if (isWordListNewer(resource)) {
+                logger.info("Word list {} changed after dictionary image {} was built - parsing word list",
+                        config.getFilePath(), imagePath);
+                return null;
             }
 
-            long endTime = System.currentTimeMillis();
-            loadTimeMs = endTime - startTime;
+            Path path = resource.isFile() ? resource.getFile().toPath() : extractImage(imagePath, resource);
 
-            logger.info("Custom Scrabble dictionary loaded successfully");
-            logger.info("   Words loaded: {}", loadedCount);
-            logger.info("   Words skipped (length filter): {}", skippedCount);
-            logger.info("   Length range: {}-{} letters", config.getMinLength(), config.getMaxLength());
-            logger.info("   Load time: {}ms", loadTimeMs);
-            logger.info("   Estimated memory: ~{}KB", (loadedCount * 8) / 1024);
+            DictionaryImage image = DictionaryImage.map(path);
+            if (image.getMinLength() != config.getMinLength() || image.getMaxLength() != config.getMaxLength()) {
+                logger.info("Dictionary image {} was built for {}-{} letters, configured {}-{} - parsing word list",
+                        imagePath, image.getMinLength(), image.getMaxLength(),
+                        config.getMinLength(), config.getMaxLength());
+                return null;
+            }
+            logger.info("Mapped dictionary image {} ({} bytes)", path, image.getSizeBytes());
+            return image;
+        } catch (IOException e) {
+            logger.warn("Failed to map dictionary image {} - parsing word list: {}", imagePath, e.getMessage());
+            return null;
+        }
+    }
 
-            loaded = true;
+    /**
+     * Whether the word list is a file modified after the image, which then no longer reflects it.
+     */
+    private boolean isWordListNewer(Resource image) {
+        try {
+            Resource list = new DefaultResourceLoader().getResource(config.getFilePath());
+            return list.isFile() && list.exists() && list.lastModified() > image.lastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
 
-        } catch (Exception e) {
-            logger.error("Failed to load custom Scrabble dictionary", e);
-            throw new RuntimeException("Failed to load custom Scrabble dictionary", e);
+    private synchronized Path extractImage(String imagePath, Resource resource) throws IOException {
+        if (extractedImage == null || !imagePath.equals(extractedImageSource) || !Files.exists(extractedImage)) {
+            Path path = Files.createTempFile("scrabble-dictionary", ".dawg");
+            path.toFile().deleteOnExit();
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            extractedImage = path;
+            extractedImageSource = imagePath;
         }
+        return extractedImage;
+    }
+
+    private Snapshot describe(Snapshot built) {
+        Dawg dawg = built.getDawg();
+        logger.info("Custom Scrabble dictionary loaded successfully");
+        logger.info("   Source: {}", built.source());
+        logger.info("   Words loaded: {}", dawg.size());
+        logger.info("   Length range: {}-{} letters", config.getMinLength(), config.getMaxLength());
+        logger.info("   Load time: {}ms", built.loadTimeMs());
+        logger.info("   DAWG edges: {}", dawg.edgeCount());
+        logger.info("   Estimated memory: ~{}KB{}", dawg.estimatedMemoryBytes() / 1024,
+                dawg.isMapped() ? " (memory-mapped, off-heap)" : "");
+        return built;
     }
 
     /**
      * Check if a word is valid in the Scrabble dictionary.
-     * Time complexity: O(1) - HashSet lookup.
-     * Space complexity: O(1) - no additional memory allocation.
+     * Time complexity: O(word length) - one DAWG edge lookup per letter.
      *
      * @param word Word to check (case-insensitive)
      * @return true if valid Scrabble word, false otherwise
      */
     public boolean isValidWord(String word) {
-        if (!loaded || word == null || word.trim().isEmpty()) {
-            return false;
-        }
+        return snapshot.isValidWord(word);
+    }
 
-        String normalizedWord = word.trim().toLowerCase();
-        return dictionary.contains(normalizedWord);
+    /**
+     * Check if any dictionary word starts with the given prefix.
+     *
+     * @param prefix Prefix to check (case-insensitive)
+     * @return true if at least one word extends the prefix
+     */
+    public boolean hasPrefix(String prefix) {
+        return snapshot.hasPrefix(prefix);
     }
 
     /**
      * Get all words of a specific length.
+     * The returned set is a read-only view over the DAWG: membership checks walk the graph and
+     * iteration enumerates the words of that length in alphabetical order, without materialising
+     * a copy of the word list.
      *
      * @param length Word length (4-10)
-     * @return Set of words (empty set if none)
+     * @return Set of lowercase words (empty set if none)
      */
     public Set<String> getWordsByLength(int length) {
-        return wordsByLength.getOrDefault(length, Collections.emptySet());
+        return snapshot.getWordsByLength(length);
+    }
+
+    /**
+     * Get the current dictionary version. Callers that make several lookups for one request
+     * should take the snapshot once and query it, so a concurrent reload cannot change the
+     * dictionary part-way through.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Get the underlying DAWG for prefix walks (e.g. anchor-based move generation).
+     * Words are stored upper-case in the graph; the instance is immutable.
+     */
+    public Dawg getDawg() {
+        return snapshot.getDawg();
     }
 
     /**
      * Get total word count in dictionary.
      */
     public int getWordCount() {
-        return dictionary.size();
+        return snapshot.getWordCount();
     }
 
     /**
      * Check if dictionary is loaded and ready.
      */
     public boolean isLoaded() {
-        return loaded;
+        return snapshot.isLoaded();
     }
 
     /**
      * Get dictionary load time in milliseconds.
      */
     public long getLoadTimeMs() {
-        return loadTimeMs;
+        return snapshot.loadTimeMs();
     }
 
     /**
      * Get dictionary statistics for monitoring and diagnostics.
      */
     public Map<String, Object> getStatistics() {
+        Snapshot current = snapshot;
+        Dawg dawg = current.getDawg();
         Map<String, Object> stats = new HashMap<>();
         stats.put("enabled", config.isEnabled());
-        stats.put("loaded", loaded);
-        stats.put("loadTimeMs", loadTimeMs);
-        stats.put("totalWords", dictionary.size());
+        stats.put("loaded", current.isLoaded());
+        stats.put("loadTimeMs", current.loadTimeMs());
+        stats.put("totalWords", dawg.size());
         stats.put("minLength", config.getMinLength());
         stats.put("maxLength", config.getMaxLength());
+        stats.put("dawgEdges", dawg.edgeCount());
+        stats.put("estimatedMemoryBytes", dawg.estimatedMemoryBytes());
+        stats.put("source", current.source());
+        stats.put("memoryMapped", dawg.isMapped());
+        stats.put("imageBytes", current.imageBytes());
+        stats.put("wordListLoad", current.wordListLoad());
+        stats.put("version", current.version());
+        stats.put("loadedAt", current.loadedAt() == null ? null : current.loadedAt().toString());
+        stats.put("reloads", reloads.sum());
+        stats.put("failedReloads", failedReloads.sum());
+        stats.put("reloadInProgress", pendingReload.get() != null);
+        stats.put("lastReloadError", lastReloadError);
 
-        Map<Integer, Integer> countsByLength = new HashMap<>();
-        for (Map.Entry<Integer, Set<String>> entry : wordsByLength.entrySet()) {
-            countsByLength.put(entry.getKey(), entry.getValue().size());
+        int[] counts = current.countsByLength;
+        Map<Integer, Integer> wordsByLength = new HashMap<>();
+        for (int length = 0; length < counts.length; length++) {
+            if (counts[length] > 0) {
+                wordsByLength.put(length, counts[length]);
+            }
         }
-        stats.put("wordsByLength", countsByLength);
+        stats.put("wordsByLength", wordsByLength);
 
         return stats;
     }
@@ -180,4 +435,220 @@ public class ScrabbleDictionary {
     public ScrabbleDictionaryConfig getConfig() {
         return config;
     }
-}
\ No newline at end of file
+
+    /**
+     * One immutable version of the dictionary: the graph, its per-length word counts and how it
+     * was loaded. Replaced as a whole on reload, never modified.
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, Dawg.fromWords(Collections.emptyList()), new int[0],
+                "none", System.currentTimeMillis(), 0, Map.of(), null);
+
+        private final long version;
+        private final Dawg dawg;
+        private final int[] countsByLength;
+        private final String source;
+        private final long loadTimeMs;
+        private final long imageBytes;
+        private final Map<String, Object> wordListLoad;
+        private final Instant loadedAt;
+        // Copies every word onto the heap, so built on the first pick rather than with the snapshot
+        private volatile WordSampler uniform;
+        // Alias tables cost two arrays the size of the dictionary, so only weightings in use get one
+        private final Map<WordWeighting, WordSampler> weighted = new ConcurrentHashMap<>();
+
+        /**
+         * @param startTime when loading began
+         */
+        private Snapshot(long version, Dawg dawg, int[] countsByLength, String source, long startTime,
+                         long imageBytes, Map<String, Object> wordListLoad, Instant loadedAt) {
+            this.version = version;
+            this.dawg = dawg;
+            this.countsByLength = countsByLength;
+            this.source = source;
+            this.loadTimeMs = System.currentTimeMillis() - startTime;
+            this.imageBytes = imageBytes;
+            this.wordListLoad = Collections.unmodifiableMap(wordListLoad);
+            this.loadedAt = loadedAt;
+        }
+
+        public boolean isValidWord(String word) {
+            if (!isLoaded() || word == null || word.trim().isEmpty()) {
+                return false;
+            }
+            return dawg.contains(word.trim());
+        }
+
+        public boolean hasPrefix(String prefix) {
+            return isLoaded() && prefix != null && dawg.hasPrefix(prefix.trim());
+        }
+
+        public Set<String> getWordsByLength(int length) {
+            if (length < 0 || length >= countsByLength.length || countsByLength[length] == 0) {
+                return Collections.emptySet();
+            }
+            return new WordsOfLength(dawg, length, countsByLength[length]);
+        }
+
+        /**
+         * Pick a random word with length in [minLength, maxLength] in O(1), without allocating
+         * (after a weighting's first pick, which builds its alias tables).
+         *
+         * @return an upper-case word, or null if this version has no words in the range
+         */
+        public String getRandomWord(int minLength, int maxLength, WordWeighting weighting, RandomGenerator random) {
+            return sampler(weighting).sample(minLength, maxLength, random);
+        }
+
+        /**
+         * Number of words with length in [minLength, maxLength].
+         */
+        public int countWords(int minLength, int maxLength) {
+            int count = 0;
+            for (int length = Math.max(0, minLength); length <= maxLength && length < countsByLength.length; length++) {
+                count += countsByLength[length];
+            }
+            return count;
+        }
+
+        /**
+         * Sampler for a weighting, building the word arrays and its alias tables on first use.
+         */
+        private WordSampler sampler(WordWeighting weighting) {
+            WordSampler sampler = uniform;
+            if (sampler == null) {
+                synchronized (this) {
+                    sampler = uniform;
+                    if (sampler == null) {
+                        long startTime = System.currentTimeMillis();
+                        sampler = WordSampler.build(dawg);
+                        uniform = sampler;
+                        logger.info("Word sampler for dictionary version {} built: {} words ({}ms)",
+                                version, sampler.size(), System.currentTimeMillis() - startTime);
+                    }
+                }
+            }
+            return weighting == WordWeighting.UNIFORM ? sampler : weighted.computeIfAbsent(weighting, sampler::weighted);
+        }
+
+        /**
+         * Number of words in this version spelled with exactly the same letters as the given word,
+         * the word itself included; 0 when neither it nor any anagram is in the dictionary.
+         * Walks the DAWG with the word's letters as a rack, following only edges whose suffix
+         * lengths can use up every remaining letter, so no index beyond the graph is needed.
+         */
+        public int countAnagrams(String word) {
+            if (!isLoaded() || word == null) {
+                return 0;
+            }
+            Rack rack = Rack.of(AnagramIndex.letterCounts(word));
+            if (rack.isEmpty() || rack.size() >= Integer.SIZE) {
+                return 0;
+            }
+            return countAnagrams(dawg.root(), rack);
+        }
+
+        private int countAnagrams(int node, Rack rack) {
+            int count = 0;
+            for (int edge = dawg.firstEdge(node); edge != Dawg.NONE; edge = dawg.nextEdge(edge)) {
+                int letter = dawg.symbol(edge);
+                if (letter >= 26 || (dawg.lengthMask(edge) & (1 << rack.size())) == 0 || !rack.take(letter)) {
+                    continue;
+                }
+                if (rack.isEmpty()) {
+                    if (dawg.isTerminal(edge)) {
+                        count++;
+                    }
+                } else {
+                    count += countAnagrams(dawg.target(edge), rack);
+                }
+                rack.putBack(letter);
+            }
+            return count;
+        }
+
+        public Dawg getDawg() {
+            return dawg;
+        }
+
+        public int getWordCount() {
+            return dawg.size();
+        }
+
+        public boolean isLoaded() {
+            return version > 0;
+        }
+
+        /** Version number, starting at 1 for the startup load; 0 before anything is loaded. */
+        public long version() {
+            return version;
+        }
+
+        /** "image" or "wordList". */
+        public String source() {
+            return source;
+        }
+
+        public long loadTimeMs() {
+            return loadTimeMs;
+        }
+
+        public long imageBytes() {
+            return imageBytes;
+        }
+
+        public Map<String, Object> wordListLoad() {
+            return wordListLoad;
+        }
+
+        public Instant loadedAt() {
+            return loadedAt;
+        }
+    }
+
+    /**
+     * Read-only set of the lowercase words of one length, backed by the DAWG.
+     */
+    private static final class WordsOfLength extends AbstractSet<String> {
+
+        private final Dawg dawg;
+        private final int length;
+        private final int size;
+
+        private WordsOfLength(Dawg dawg, int length, int size) {
+            this.dawg = dawg;
+            this.length = length;
+            this.size = size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String word
+                    && word.length() == length
+                    && word.equals(word.toLowerCase(Locale.ROOT))
+                    && dawg.contains(word);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            Iterator<String> words = dawg.iterateWordsOfLength(length);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return words.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return words.next().toLowerCase(Locale.ROOT);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.govtech.scrabble.service;
 
+import com.govtech.scrabble.dto.BatchValidateResponse;
 import com.govtech.scrabble.dto.CalculateScoreRequest;
 import com.govtech.scrabble.dto.CalculateScoreResponse;
 import com.govtech.scrabble.dto.ScoreRequest;
@@ -55,4 +56,11 @@ public interface ScrabbleService {
      * @return CalculateScoreResponse containing only validation results
      */
     CalculateScoreResponse validateWordOnly(String word);
+
+    /**
+     * Validate several words without calculating scores
+     * @param words The words to validate; duplicates (ignoring case) are validated once
+     * @return BatchValidateResponse with one result per distinct word
+     */
+    BatchValidateResponse validateWords(List<String> words);
 }
\ No newline at end of file
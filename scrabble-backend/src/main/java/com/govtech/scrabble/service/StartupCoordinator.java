@@ -0,0 +1,195 @@
+package com.govtech.scrabble.service;
+
+import com.govtech.scrabble.config.ScrabbleProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the heavy startup work (LanguageTool and the custom dictionary) concurrently on a small
+ * startup executor, tracks when it has all finished, and records a timeline of startup phases.
+ *
+ * Tasks are submitted while the Spring context is still being built, so they overlap with
+ * context refresh and with each other instead of running one after another. The application
+ * is ready for traffic once every submitted task has completed successfully; the readiness
+ * probe reports that through {@link com.govtech.scrabble.config.StartupHealthIndicator}.
+ *
+ * Phase times are measured from JVM start, so the timeline also shows how long the JVM and
+ * Spring took before the first phase began.
+ */
+@Service
+public class StartupCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupCoordinator.class);
+
+    private final ExecutorService executor;
+    private final long jvmStartMs = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final List<Phase> timeline = new CopyOnWriteArrayList<>();
+    private final Map<String, CompletableFuture<Void>> tasks = new ConcurrentHashMap<>();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private volatile long readyAtMs;
+
+    public StartupCoordinator(ScrabbleProperties scrabbleProperties) {
+        int threads = Math.max(1, scrabbleProperties.getStartup().getThreads());
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run a startup task in the background and record it as a phase. The application is not
+     * ready until the task completes; if it fails, the application never becomes ready.
+     *
+     * @param phase phase name, unique per task
+     * @param task work to run
+     * @return completion of the task
+     */
+    public CompletableFuture<Void> submit(String phase, Runnable task) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> time(phase, () -> {
+            task.run();
+            return null;
+        }), executor);
+        tasks.put(phase, future);
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                logger.error("Startup phase '{}' failed - application will not become ready", phase, error);
+            } else if (isReady()) {
+                readyAtMs = System.currentTimeMillis();
+                logTimeline();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Run a step on the calling thread and record it as a phase.
+     */
+    public <T> T time(String phase, Supplier<T> step) {
+        long startMs = System.currentTimeMillis();
+        try {
+            T result = step.get();
+            record(phase, startMs, System.currentTimeMillis(), null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record(phase, startMs, System.currentTimeMillis(), e.toString());
+            throw e;
+        }
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        // Spans JVM start to the end of bean creation
+        record("contextRefresh", jvmStartMs, System.currentTimeMillis(), null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long now = System.currentTimeMillis();
+        record("applicationStarted", now, now, null);
+        if (!isReady()) {
+            logger.info("Application started; waiting for startup tasks {} before reporting ready", pendingTasks());
+        }
+    }
+
+    /**
+     * Whether every submitted startup task has completed successfully.
+     */
+    public boolean isReady() {
+        return tasks.values().stream().allMatch(task -> task.isDone() && !task.isCompletedExceptionally());
+    }
+
+    /**
+     * Whether any startup task has failed.
+     */
+    public boolean hasFailed() {
+        return tasks.values().stream().anyMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    /**
+     * Names of tasks still running.
+     */
+    public List<String> pendingTasks() {
+        return tasks.entrySet().stream()
+                .filter(entry -> !entry.getValue().isDone())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Recorded phases in order of start time, each with its start offset from JVM start,
+     * duration, thread and error (if it failed).
+     */
+    public List<Map<String, Object>> getTimeline() {
+        return timeline.stream()
+                .sorted(Comparator.comparingLong(Phase::startMs).thenComparing(Phase::name))
+                .map(phase -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("phase", phase.name());
+                    entry.put("startOffsetMs", phase.startMs() - jvmStartMs);
+                    entry.put("durationMs", phase.endMs() - phase.startMs());
+                    entry.put("thread", phase.thread());
+                    if (phase.error() != null) {
+                        entry.put("error", phase.error());
+                    }
+                    return entry;
+                })
+                .toList();
+    }
+
+    /**
+     * Readiness state and the startup timeline.
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", isReady());
+        stats.put("failed", hasFailed());
+        stats.put("pendingTasks", pendingTasks());
+        stats.put("readyAfterMs", readyAtMs == 0 ? null : readyAtMs - jvmStartMs);
+        stats.put("timeline", getTimeline());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(String phase, long startMs, long endMs, String error) {
+        timeline.add(new Phase(phase, startMs, endMs, Thread.currentThread().getName(), error));
+    }
+
+    private void logTimeline() {
+        StringBuilder summary = new StringBuilder();
+        for (Map<String, Object> phase : getTimeline()) {
+            summary.append(String.format("%n   %-32s +%6dms  %6dms  [%s]", phase.get("phase"),
+                    phase.get("startOffsetMs"), phase.get("durationMs"), phase.get("thread")));
+        }
+        logger.info("Startup tasks complete, ready {}ms after JVM start:{}", readyAtMs - jvmStartMs, summary);
+    }
+
+    private record Phase(String name, long startMs, long endMs, String thread, String error) {
+    }
+}
@@ -3,6 +3,8 @@ package com.govtech.scrabble.service;
 import com.govtech.scrabble.dto.ScrambleCheckResponse;
 import com.govtech.scrabble.dto.ScrambleResponse;
 
+import java.util.Map;
+
 /**
  * Interface for word scramble game operations
  * Provides functionality for generating, reshuffling, and checking scrambled words
@@ -55,4 +57,16 @@ public interface WordScrambleService {
      * @return Number of active sessions
      */
     int getActiveSessionsCount();
+    
+    /**
+     * Get session store metrics: size, lookup hits and misses, expired and evicted sessions
+     * @return Session statistics
+     */
+    Map<String, Object> getSessionStatistics();
+    
+    /**
+     * Get puzzle pool metrics: depth per difficulty, hits, misses and refill lag
+     * @return Pool statistics
+     */
+    Map<String, Object> getPuzzlePoolStatistics();
 }
\ No newline at end of file
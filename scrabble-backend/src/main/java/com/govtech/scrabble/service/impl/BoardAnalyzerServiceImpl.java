@@ -3,14 +3,27 @@ package com.govtech.scrabble.service.impl;
 import com.govtech.scrabble.config.ScrabbleProperties;
 import com.govtech.scrabble.dto.BoardAnalyzerRequest;
 import com.govtech.scrabble.dto.BoardAnalyzerResponse;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.movegen.Board;
+import com.govtech.scrabble.movegen.CrossChecks;
+import com.govtech.scrabble.movegen.LineMoveGenerator;
+import com.govtech.scrabble.movegen.Rack;
+import com.govtech.scrabble.movegen.TopMoves;
+import com.govtech.scrabble.ranking.RankedResultCache;
+import com.govtech.scrabble.ranking.RankedResults;
+import com.govtech.scrabble.ranking.RankingMode;
 import com.govtech.scrabble.service.BoardAnalyzerService;
 import com.govtech.scrabble.service.EnglishDictionaryService;
 import com.govtech.scrabble.util.ScrabbleScoreUtil;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,11 +33,50 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
 
     private final ScrabbleProperties scrabbleProperties;
     private final EnglishDictionaryService englishDictionaryService;
+    private final RankedResultCache rankedResultCache;
+    // Null unless parallel analysis is enabled
+    private final ForkJoinPool analysisPool;
+    private final int maxTasksPerRequest;
 
     public BoardAnalyzerServiceImpl(ScrabbleProperties scrabbleProperties,
-                              EnglishDictionaryService englishDictionaryService) {
+                              EnglishDictionaryService englishDictionaryService,
+                              RankedResultCache rankedResultCache) {
         this.scrabbleProperties = scrabbleProperties;
         this.englishDictionaryService = englishDictionaryService;
+        this.rankedResultCache = rankedResultCache;
+        
+        ScrabbleProperties.BoardAnalyzer.Parallel parallel = scrabbleProperties.getBoardAnalyzer().getParallel();
+        this.maxTasksPerRequest = Math.max(1, parallel.getMaxTasksPerRequest());
+        if (parallel.isEnabled()) {
+            int threads = parallel.getThreads() > 0 ? parallel.getThreads() : Runtime.getRuntime().availableProcessors();
+            this.analysisPool = new ForkJoinPool(threads, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("board-analyzer-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+            logger.info("Parallel board analysis enabled: {} threads, at most {} tasks per request",
+                       threads, maxTasksPerRequest);
+        } else {
+            this.analysisPool = null;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (analysisPool != null) {
+            analysisPool.shutdownNow();
+        }
+    }
+    
+    /**
+     * What scoring and ranking a placement needs besides the placement itself. Cross-checks are
+     * null when none were computed, in which case perpendicular words are not scored.
+     */
+    private record Analysis(int boardSize, String[][] specialTiles, RankingMode ranking,
+                            CrossChecks horizontalChecks, CrossChecks verticalChecks) {
+        CrossChecks crossChecks(boolean horizontal) {
+            return horizontal ? horizontalChecks : verticalChecks;
+        }
     }
     
     public boolean isBoardAnalyzerEnabled() {
@@ -36,7 +88,15 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
             throw new IllegalStateException("Board analyzer feature is disabled");
         }
         
-        logger.info("Analyzing board for top scoring combinations");
+        int limit = rankedResultCache.resolveLimit(request.getLimit());
+        
+        // A cursor continues an earlier analysis from its cached ranking
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            return toResponse(rankedResultCache.nextPage(request.getCursor(), BoardAnalyzerResponse.WordCombination.class, limit));
+        }
+        
+        RankingMode ranking = RankingMode.from(request.getRanking());
+        logger.info("Analyzing board for top combinations (ranking: {})", ranking);
         
         List<String> boardLetters = request.getBoardLetters() != null ? request.getBoardLetters() : new ArrayList<>();
         List<String> handLetters = request.getHandLetters() != null ? request.getHandLetters() : new ArrayList<>();
@@ -70,13 +130,8 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
                 .map(s -> s != null ? s.toUpperCase().trim() : "")
                 .collect(Collectors.toList());
         
-        // Convert board to 2D array for easier processing
-        String[][] board = new String[boardSize][boardSize];
-        for (int i = 0; i < boardSize * boardSize; i++) {
-            int row = i / boardSize;
-            int col = i % boardSize;
-            board[row][col] = boardLetters.get(i);
-        }
+        // Build the compact board once; every placement check reads it without allocating
+        Board board = Board.of(boardLetters, boardSize, boardSize);
         
         // Initialize special tiles board from request
         String[][] specialTilesBoard = new String[boardSize][boardSize];
@@ -94,45 +149,264 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
         }
         logger.debug("Using special tiles from request");
         
-        // Find all possible word combinations
-        List<BoardAnalyzerResponse.WordCombination> allCombinations = findAllWordCombinations(board, handLetters, specialTilesBoard);
+        // Rank every possible word combination while generating it, keeping only the best and counting the rest
+        TopMoves topMoves = new TopMoves(rankedResultCache.capacity(), boardSize);
+        Analysis analysis = findAllWordCombinations(board, handLetters, specialTilesBoard, ranking, topMoves);
         
-        // Sort by score (descending)
-        allCombinations.sort((c1, c2) -> Integer.compare(c2.getTotalScore(), c1.getTotalScore()));
+        // Responses are only built for the ranks a page returns
+        int[] ranked = topMoves.ranked();
+        RankedResults<BoardAnalyzerResponse.WordCombination> results = new RankedResults<>(
+                BoardAnalyzerResponse.WordCombination.class, topMoves.total(), ranked.length,
+                rank -> toCombination(analysis, topMoves, ranked[rank]));
+        BoardAnalyzerResponse response = toResponse(rankedResultCache.firstPage(results, limit));
         
-        // Get top 10
-        List<BoardAnalyzerResponse.WordCombination> topCombinations = allCombinations.stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        logger.info("Board analysis completed: {} total combinations, top score: {}", 
+                   response.getTotalCombinationsCount(), 
+                   response.getTopCombinations().isEmpty() ? 0 : response.getTopCombinations().get(0).getTotalScore());
         
-        String message = allCombinations.isEmpty() ? 
-                "No valid word combinations found" :
-                String.format("Found %d valid combinations (showing top %d)", 
-                             allCombinations.size(), topCombinations.size());
+        return response;
+    }
+    
+    private BoardAnalyzerResponse toResponse(RankedResultCache.Page<BoardAnalyzerResponse.WordCombination> page) {
+        int totalCombinations = Math.toIntExact(page.total());
+        int shown = page.items().size();
         
-        logger.info("Board analysis completed: {} total combinations, top score: {}", 
-                   allCombinations.size(), 
-                   topCombinations.isEmpty() ? 0 : topCombinations.get(0).getTotalScore());
+        String message;
+        if (totalCombinations == 0) {
+            message = "No valid word combinations found";
+        } else if (page.offset() == 0) {
+            message = String.format("Found %d valid combinations (showing top %d)", totalCombinations, shown);
+        } else {
+            message = String.format("Found %d valid combinations (showing %d-%d)",
+                                    totalCombinations, page.offset() + 1, page.offset() + shown);
+        }
         
-        return new BoardAnalyzerResponse(topCombinations, allCombinations.size(), message);
+        BoardAnalyzerResponse response = new BoardAnalyzerResponse(page.items(), totalCombinations, message);
+        response.setNextCursor(page.nextCursor());
+        return response;
     }
     
-    private List<BoardAnalyzerResponse.WordCombination> findAllWordCombinations(String[][] board, List<String> handLetters, String[][] specialTiles) {
-        List<BoardAnalyzerResponse.WordCombination> combinations = new ArrayList<>();
-        int boardSize = board.length;
+    /**
+     * Offer every legal placement to the collector.
+     *
+     * @return what is needed to score the kept placements again when building their responses
+     */
+    private Analysis findAllWordCombinations(Board board, List<String> handLetters, String[][] specialTiles,
+                                             RankingMode ranking, TopMoves topMoves) {
+        Dawg lexicon = englishDictionaryService.getLexicon();
+        if (lexicon != null) {
+            Analysis analysis = new Analysis(board.rows(), specialTiles, ranking,
+                    CrossChecks.compute(board, lexicon, true), CrossChecks.compute(board, lexicon, false));
+            generateAnchoredCombinations(board, handLetters, lexicon, analysis, topMoves);
+            return analysis;
+        }
+        
+        // No lexicon graph available - place each candidate word at every offset
+        Analysis analysis = new Analysis(board.rows(), specialTiles, ranking, null, null);
+        placeCandidateWords(board, handLetters, analysis, topMoves);
+        return analysis;
+    }
+    
+    /**
+     * Generate every legal placement by walking the lexicon graph from anchor squares,
+     * one row and one column at a time. Only prefixes of real words that the hand can
+     * supply are explored, and each reported word is the complete main-line word formed.
+     * Cross-checks computed once per board reject letters that would form an invalid
+     * perpendicular word and supply the perpendicular words' scores.
+     *
+     * Once cross-checks are known the lines are independent, so with parallel analysis enabled
+     * they are split into contiguous groups, each generated on the analysis pool into its own
+     * collector. Merging the collectors in line order keeps exactly what a sequential pass
+     * would have kept.
+     */
+    private void generateAnchoredCombinations(Board board, List<String> handLetters, Dawg lexicon,
+                                              Analysis analysis, TopMoves topMoves) {
+        LineMoveGenerator generator = new LineMoveGenerator(lexicon);
+        int lines = 2 * board.rows();
+        if (analysisPool == null) {
+            generateLines(board, Rack.of(handLetters), generator, analysis, 0, lines, topMoves);
+            return;
+        }
+        
+        int tasks = Math.min(maxTasksPerRequest, lines);
+        List<ForkJoinTask<TopMoves>> forks = new ArrayList<>(tasks);
+        for (int task = 0; task < tasks; task++) {
+            int fromLine = lines * task / tasks;
+            int toLine = lines * (task + 1) / tasks;
+            forks.add(analysisPool.submit(() -> {
+                TopMoves taskMoves = new TopMoves(topMoves.capacity(), board.rows());
+                generateLines(board, Rack.of(handLetters), generator, analysis, fromLine, toLine, taskMoves);
+                return taskMoves;
+            }));
+        }
+        for (ForkJoinTask<TopMoves> fork : forks) {
+            topMoves.addAll(fork.join());
+        }
+    }
+    
+    /**
+     * Generate the placements along a range of lines: 0 to boardSize-1 are the rows,
+     * boardSize to 2*boardSize-1 the columns.
+     */
+    private void generateLines(Board board, Rack rack, LineMoveGenerator generator, Analysis analysis,
+                               int fromLine, int toLine, TopMoves topMoves) {
+        int boardSize = board.rows();
+        boolean hasExistingTiles = board.hasTiles();
+        char[] cells = new char[boardSize];
+        int[] crossMasks = new int[boardSize];
+        boolean[] anchors = new boolean[boardSize];
+        int center = boardSize / 2;
+        
+        for (int line = fromLine; line < toLine; line++) {
+            boolean horizontal = line < boardSize;
+            int index = horizontal ? line : line - boardSize;
+            CrossChecks crossChecks = analysis.crossChecks(horizontal);
+            if (horizontal) {
+                board.copyRow(index, cells);
+            } else {
+                board.copyColumn(index, cells);
+            }
+            for (int i = 0; i < boardSize; i++) {
+                int row = horizontal ? index : i;
+                int col = horizontal ? i : index;
+                crossMasks[i] = crossChecks.mask(row, col);
+                anchors[i] = hasExistingTiles ? board.isAnchor(row, col) : row == center && col == center;
+            }
+            generator.generate(cells, crossMasks, anchors, rack, 2, (start, letters, placed, length) -> {
+                if (horizontal) {
+                    offer(analysis, topMoves, index, start, true, letters, placed, length);
+                } else {
+                    offer(analysis, topMoves, start, index, false, letters, placed, length);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Score and rank a placement without building anything and offer it to the collector. The
+     * origin packs the start square and direction.
+     */
+    private void offer(Analysis analysis, TopMoves topMoves, int startRow, int startCol, boolean horizontal,
+                       char[] letters, boolean[] placed, int length) {
+        int score = calculateWordScore(startRow, startCol, horizontal, letters, placed, length, analysis.specialTiles())
+                + calculateCrossWordsScore(startRow, startCol, horizontal, letters, placed, length,
+                                           analysis.specialTiles(), analysis.crossChecks(horizontal));
+        int tilesUsed = 0;
+        for (int i = 0; i < length; i++) {
+            if (placed[i]) {
+                tilesUsed++;
+            }
+        }
+        int origin = (startRow * analysis.boardSize() + startCol) * 2 + (horizontal ? 0 : 1);
+        RankingMode ranking = analysis.ranking();
+        topMoves.offer(ranking.primaryKey(score, length, tilesUsed), ranking.secondaryKey(score, length, tilesUsed),
+                       origin, letters, placed, length);
+    }
+    
+    private BoardAnalyzerResponse.WordCombination toCombination(Analysis analysis, TopMoves topMoves, int slot) {
+        int length = topMoves.length(slot);
+        char[] letters = new char[length];
+        boolean[] placed = new boolean[length];
+        topMoves.copyMove(slot, letters, placed);
+        
+        int origin = topMoves.origin(slot);
+        boolean horizontal = origin % 2 == 0;
+        int square = origin / 2;
+        return toCombination(square / analysis.boardSize(), square % analysis.boardSize(),
+                             horizontal ? "HORIZONTAL" : "VERTICAL", letters, placed, length,
+                             analysis.specialTiles(), analysis.crossChecks(horizontal));
+    }
+    
+    /**
+     * Build the response for a placement. Cross-checks are null when none were computed, in
+     * which case perpendicular words are not scored.
+     */
+    private BoardAnalyzerResponse.WordCombination toCombination(int startRow, int startCol, String direction,
+                                                                char[] letters, boolean[] placed, int length,
+                                                                String[][] specialTiles, CrossChecks crossChecks) {
+        boolean horizontal = "HORIZONTAL".equals(direction);
+        List<String> usedHandTiles = new ArrayList<>();
+        List<BoardAnalyzerResponse.BoardPosition> positions = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            String letter = String.valueOf(letters[i]);
+            int row = horizontal ? startRow : startRow + i;
+            int col = horizontal ? startCol + i : startCol;
+            positions.add(new BoardAnalyzerResponse.BoardPosition(row, col, letter, placed[i]));
+            if (placed[i]) {
+                usedHandTiles.add(letter);
+            }
+        }
+        
+        String word = new String(letters, 0, length);
+        int crossWordScore = calculateCrossWordsScore(startRow, startCol, horizontal, letters, placed, length,
+                                                      specialTiles, crossChecks);
+        int score = calculateWordScore(startRow, startCol, horizontal, letters, placed, length, specialTiles) + crossWordScore;
+        
+        List<String> bonusesApplied = new ArrayList<>();
+        if (scrabbleProperties.getSpecialTiles().getBoardAnalyzer().isEnabled()) {
+            bonusesApplied.add("Special tiles considered");
+        }
+        if (crossWordScore > 0) {
+            bonusesApplied.add("Cross words +" + crossWordScore);
+        }
+        
+        return new BoardAnalyzerResponse.WordCombination(
+            word, score, startRow, startCol, direction,
+            usedHandTiles, positions, bonusesApplied);
+    }
+    
+    /**
+     * Total score of the perpendicular words formed by a placement's new tiles.
+     */
+    private int calculateCrossWordsScore(int startRow, int startCol, boolean horizontal, char[] letters, boolean[] placed,
+                                         int length, String[][] specialTiles, CrossChecks crossChecks) {
+        if (crossChecks == null) {
+            return 0;
+        }
+        int crossWordScore = 0;
+        for (int i = 0; i < length; i++) {
+            if (placed[i]) {
+                int row = horizontal ? startRow : startRow + i;
+                int col = horizontal ? startCol + i : startCol;
+                crossWordScore += calculateCrossWordScore(letters[i], row, col, specialTiles, crossChecks);
+            }
+        }
+        return crossWordScore;
+    }
+    
+    /**
+     * Score of the perpendicular word formed by a newly placed tile: the cached face value of
+     * the existing tiles plus the placed letter, with the square's multipliers applied.
+     */
+    private int calculateCrossWordScore(char letter, int row, int col, String[][] specialTiles, CrossChecks crossChecks) {
+        int existingTilesScore = crossChecks.crossScore(row, col);
+        if (existingTilesScore == CrossChecks.NO_CROSS_WORD) {
+            return 0;
+        }
+        
+        int letterScore = ScrabbleScoreUtil.getLetterScore(letter);
+        ScrabbleScoreUtil.SpecialTileMultiplier multiplierTracker = new ScrabbleScoreUtil.SpecialTileMultiplier();
+        if (scrabbleProperties.getSpecialTiles().getBoardAnalyzer().isEnabled()) {
+            letterScore = ScrabbleScoreUtil.applySpecialTileMultiplier(letterScore, specialTiles[row][col], multiplierTracker);
+        }
+        return (existingTilesScore + letterScore) * multiplierTracker.getWordMultiplier();
+    }
+    
+    private void placeCandidateWords(Board board, List<String> handLetters, Analysis analysis, TopMoves topMoves) {
+        int boardSize = board.rows();
         
         // Combine hand letters with board letters for dictionary search
         List<String> allAvailableLetters = new ArrayList<>(handLetters);
         for (int row = 0; row < boardSize; row++) {
             for (int col = 0; col < boardSize; col++) {
-                if (!board[row][col].isEmpty()) {
-                    allAvailableLetters.add(board[row][col]);
+                if (board.isOccupied(row, col)) {
+                    allAvailableLetters.add(String.valueOf(board.letter(row, col)));
                 }
             }
         }
         
         if (allAvailableLetters.isEmpty()) {
-            return combinations;
+            return;
         }
         
         // Get possible words from dictionary
@@ -142,17 +416,24 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
         List<String> possibleWords = englishDictionaryService.findPossibleWords(
             allAvailableLetters, minLength, maxLength);
         
+        // The full hand, and a working copy each placement check takes letters from
+        Rack hand = Rack.of(handLetters);
+        Rack rack = new Rack();
+        char[] letters = new char[boardSize];
+        boolean[] placed = new boolean[boardSize];
+        
         // For each word, try to place it on the board
         for (String word : possibleWords) {
             // Try horizontal placements
             for (int row = 0; row < boardSize; row++) {
                 for (int col = 0; col <= boardSize - word.length(); col++) {
-                    if (wordConnectsToExistingTiles(board, word, row, col, "HORIZONTAL", handLetters)) {
-                        BoardAnalyzerResponse.WordCombination combination = 
-                            tryPlaceWordHorizontally(board, word, row, col, handLetters, specialTiles);
-                        if (combination != null) {
-                            combinations.add(combination);
+                    if (wordConnectsToExistingTiles(board, word, row, col, "HORIZONTAL", hand, rack)
+                            && canPlaceWordHorizontally(board, word, row, col, hand, rack)) {
+                        for (int i = 0; i < word.length(); i++) {
+                            letters[i] = word.charAt(i);
+                            placed[i] = !board.isOccupied(row, col + i);
                         }
+                        offer(analysis, topMoves, row, col, true, letters, placed, word.length());
                     }
                 }
             }
@@ -160,177 +441,128 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
             // Try vertical placements
             for (int row = 0; row <= boardSize - word.length(); row++) {
                 for (int col = 0; col < boardSize; col++) {
-                    if (wordConnectsToExistingTiles(board, word, row, col, "VERTICAL", handLetters)) {
-                        BoardAnalyzerResponse.WordCombination combination = 
-                            tryPlaceWordVertically(board, word, row, col, handLetters, specialTiles);
-                        if (combination != null) {
-                            combinations.add(combination);
+                    if (wordConnectsToExistingTiles(board, word, row, col, "VERTICAL", hand, rack)
+                            && canPlaceWordVertically(board, word, row, col, hand, rack)) {
+                        for (int i = 0; i < word.length(); i++) {
+                            letters[i] = word.charAt(i);
+                            placed[i] = !board.isOccupied(row + i, col);
                         }
+                        offer(analysis, topMoves, row, col, false, letters, placed, word.length());
                     }
                 }
             }
         }
-        
-        return combinations;
     }
     
-    private BoardAnalyzerResponse.WordCombination tryPlaceWordHorizontally(String[][] board, String word,
-                                                                          int startRow, int startCol,
-                                                                          List<String> handLetters, String[][] specialTiles) {
-        List<String> availableHandTiles = new ArrayList<>(handLetters);
-        List<String> usedHandTiles = new ArrayList<>();
-        List<BoardAnalyzerResponse.BoardPosition> positions = new ArrayList<>();
+    private boolean canPlaceWordHorizontally(Board board, String word, int startRow, int startCol, Rack hand, Rack rack) {
+        // Check the placement against the board and a fresh copy of the hand before building anything
+        rack.copyFrom(hand);
         boolean usedAtLeastOneHandTile = false;
-        boolean connectsToExistingTile = false;
 
-        // Check if word can be placed
         for (int i = 0; i < word.length(); i++) {
             char wordChar = word.charAt(i);
             int col = startCol + i;
-            String boardTile = board[startRow][col];
 
-            if (!boardTile.isEmpty()) {
-                // Position has existing tile
-                if (boardTile.equals(String.valueOf(wordChar))) {
-                    // Use board tile
-                    positions.add(new BoardAnalyzerResponse.BoardPosition(startRow, col, boardTile, false));
-                    connectsToExistingTile = true;
-                } else {
-                    // Board tile doesn't match
-                    return null;
+            if (board.isOccupied(startRow, col)) {
+                // Position has existing tile, which must match
+                if (board.letter(startRow, col) != wordChar) {
+                    return false;
                 }
+            } else if (rack.takeLetter(wordChar)) {
+                usedAtLeastOneHandTile = true;
             } else {
-                // Need hand tile
-                String neededTile = String.valueOf(wordChar);
-                if (availableHandTiles.contains(neededTile)) {
-                    availableHandTiles.remove(neededTile);
-                    usedHandTiles.add(neededTile);
-                    positions.add(new BoardAnalyzerResponse.BoardPosition(startRow, col, neededTile, true));
-                    usedAtLeastOneHandTile = true;
-                } else {
-                    return null;
-                }
+                // Don't have the required hand tile
+                return false;
             }
         }
 
         // Must use at least one hand tile to be a valid play
         if (!usedAtLeastOneHandTile) {
-            return null;
+            return false;
         }
 
         // CRITICAL: Validate the complete word formed (including tiles before and after)
         // This prevents invalid words like "ATLOPHO" when placing "LOP" between "AT" and "PHO"
-        String completeWord = extractCompleteWordFormedHorizontally(word, startRow, startCol, board);
-        if (!completeWord.equals(word)) {
+        if (extendsIntoTilesHorizontally(board, word, startRow, startCol)) {
             // Word extends existing tiles - validate complete word is also valid
+            String completeWord = extractCompleteWordFormedHorizontally(word, startRow, startCol, board);
             if (!englishDictionaryService.isValidWord(completeWord)) {
                 logger.debug("Rejecting '{}' at position ({},{}) - forms invalid complete word '{}'",
                     word, startRow, startCol, completeWord);
-                return null;
+                return false;
             }
             logger.debug("Validated complete word '{}' formed by placing '{}' at position ({},{})",
                 completeWord, word, startRow, startCol);
         }
 
-        // Calculate score
-        int score = calculateWordScore(word, positions, specialTiles);
-
-        List<String> bonusesApplied = new ArrayList<>();
-        if (scrabbleProperties.getSpecialTiles().getBoardAnalyzer().isEnabled()) {
-            bonusesApplied.add("Special tiles considered");
-        }
-
-        return new BoardAnalyzerResponse.WordCombination(
-            word, score, startRow, startCol, "HORIZONTAL",
-            usedHandTiles, positions, bonusesApplied);
+        return true;
     }
     
-    private BoardAnalyzerResponse.WordCombination tryPlaceWordVertically(String[][] board, String word,
-                                                                        int startRow, int startCol,
-                                                                        List<String> handLetters, String[][] specialTiles) {
-        List<String> availableHandTiles = new ArrayList<>(handLetters);
-        List<String> usedHandTiles = new ArrayList<>();
-        List<BoardAnalyzerResponse.BoardPosition> positions = new ArrayList<>();
+    private boolean canPlaceWordVertically(Board board, String word, int startRow, int startCol, Rack hand, Rack rack) {
+        // Check the placement against the board and a fresh copy of the hand before building anything
+        rack.copyFrom(hand);
         boolean usedAtLeastOneHandTile = false;
-        boolean connectsToExistingTile = false;
 
-        // Check if word can be placed
         for (int i = 0; i < word.length(); i++) {
             char wordChar = word.charAt(i);
             int row = startRow + i;
-            String boardTile = board[row][startCol];
 
-            if (!boardTile.isEmpty()) {
-                // Position has existing tile
-                if (boardTile.equals(String.valueOf(wordChar))) {
-                    // Use board tile
-                    positions.add(new BoardAnalyzerResponse.BoardPosition(row, startCol, boardTile, false));
-                    connectsToExistingTile = true;
-                } else {
-                    // Board tile doesn't match
-                    return null;
+            if (board.isOccupied(row, startCol)) {
+                // Position has existing tile, which must match
+                if (board.letter(row, startCol) != wordChar) {
+                    return false;
                 }
+            } else if (rack.takeLetter(wordChar)) {
+                usedAtLeastOneHandTile = true;
             } else {
-                // Need hand tile
-                String neededTile = String.valueOf(wordChar);
-                if (availableHandTiles.contains(neededTile)) {
-                    availableHandTiles.remove(neededTile);
-                    usedHandTiles.add(neededTile);
-                    positions.add(new BoardAnalyzerResponse.BoardPosition(row, startCol, neededTile, true));
-                    usedAtLeastOneHandTile = true;
-                } else {
-                    return null;
-                }
+                // Don't have the required hand tile
+                return false;
             }
         }
 
         // Must use at least one hand tile to be a valid play
         if (!usedAtLeastOneHandTile) {
-            return null;
+            return false;
         }
 
         // CRITICAL: Validate the complete word formed (including tiles before and after)
         // This prevents invalid words like "ATLOPHO" when placing "LOP" between "AT" and "PHO"
-        String completeWord = extractCompleteWordFormedVertically(word, startRow, startCol, board);
-        if (!completeWord.equals(word)) {
+        if (extendsIntoTilesVertically(board, word, startRow, startCol)) {
             // Word extends existing tiles - validate complete word is also valid
+            String completeWord = extractCompleteWordFormedVertically(word, startRow, startCol, board);
             if (!englishDictionaryService.isValidWord(completeWord)) {
                 logger.debug("Rejecting '{}' at position ({},{}) - forms invalid complete word '{}'",
                     word, startRow, startCol, completeWord);
-                return null;
+                return false;
             }
             logger.debug("Validated complete word '{}' formed by placing '{}' at position ({},{})",
                 completeWord, word, startRow, startCol);
         }
 
-        // Calculate score
-        int score = calculateWordScore(word, positions, specialTiles);
-
-        List<String> bonusesApplied = new ArrayList<>();
-        if (scrabbleProperties.getSpecialTiles().getBoardAnalyzer().isEnabled()) {
-            bonusesApplied.add("Special tiles considered");
-        }
-
-        return new BoardAnalyzerResponse.WordCombination(
-            word, score, startRow, startCol, "VERTICAL",
-            usedHandTiles, positions, bonusesApplied);
+        return true;
     }
     
-    private int calculateWordScore(String word, List<BoardAnalyzerResponse.BoardPosition> positions, String[][] specialTiles) {
+    private int calculateWordScore(int startRow, int startCol, boolean horizontal, char[] letters, boolean[] placed,
+                                   int length, String[][] specialTiles) {
         int baseScore = 0;
+        int handTilesUsed = 0;
         ScrabbleScoreUtil.SpecialTileMultiplier multiplierTracker = new ScrabbleScoreUtil.SpecialTileMultiplier();
 
         // Calculate base score with letter multipliers using centralized utility
-        for (BoardAnalyzerResponse.BoardPosition pos : positions) {
-            char letter = pos.getLetter().charAt(0);
-            int letterScore = ScrabbleScoreUtil.getLetterScore(letter);
+        for (int i = 0; i < length; i++) {
+            int letterScore = ScrabbleScoreUtil.getLetterScore(letters[i]);
+            if (placed[i]) {
+                handTilesUsed++;
+            }
 
             // Apply special tile bonuses ONLY if:
             // 1. Special tiles are enabled
             // 2. This position uses a hand tile (newly placed)
             // 3. The special tile is not already "used" by an existing board tile
-            if (scrabbleProperties.getSpecialTiles().getBoardAnalyzer().isEnabled() && pos.isUsesHandTile()) {
-                String specialTileType = specialTiles[pos.getRow()][pos.getCol()];
+            if (scrabbleProperties.getSpecialTiles().getBoardAnalyzer().isEnabled() && placed[i]) {
+                int row = horizontal ? startRow : startRow + i;
+                int col = horizontal ? startCol + i : startCol;
+                String specialTileType = specialTiles[row][col];
                 int originalLetterScore = letterScore;
 
                 // Use centralized special tile logic (single source of truth)
@@ -340,15 +572,15 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
                 if (letterScore != originalLetterScore) {
                     if (letterScore == originalLetterScore * 2) {
                         logger.debug("Applied Double Letter bonus at {},{}: {} -> {}",
-                                   pos.getRow(), pos.getCol(), originalLetterScore, letterScore);
+                                   row, col, originalLetterScore, letterScore);
                     } else if (letterScore == originalLetterScore * 3) {
                         logger.debug("Applied Triple Letter bonus at {},{}: {} -> {}",
-                                   pos.getRow(), pos.getCol(), originalLetterScore, letterScore);
+                                   row, col, originalLetterScore, letterScore);
                     }
                 } else if ("dw".equals(specialTileType) || "double_word".equals(specialTileType)) {
-                    logger.debug("Applied Double Word bonus at {},{}", pos.getRow(), pos.getCol());
+                    logger.debug("Applied Double Word bonus at {},{}", row, col);
                 } else if ("tw".equals(specialTileType) || "triple_word".equals(specialTileType)) {
-                    logger.debug("Applied Triple Word bonus at {},{}", pos.getRow(), pos.getCol());
+                    logger.debug("Applied Triple Word bonus at {},{}", row, col);
                 }
             }
 
@@ -358,17 +590,39 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
         int finalScore = baseScore * multiplierTracker.getWordMultiplier();
 
         // Add 50-point bonus if all 7 tiles are used (bingo bonus)
-        long handTilesUsed = positions.stream().filter(BoardAnalyzerResponse.BoardPosition::isUsesHandTile).count();
         if (handTilesUsed == 7) {
             finalScore += 50;
             logger.debug("Applied 50-point bingo bonus for using all 7 tiles");
         }
 
-        logger.debug("Word: {}, Base: {}, Multiplier: {}, Final: {}", word, baseScore, multiplierTracker.getWordMultiplier(), finalScore);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Word: {}, Base: {}, Multiplier: {}, Final: {}",
+                       String.valueOf(letters, 0, length), baseScore, multiplierTracker.getWordMultiplier(), finalScore);
+        }
         return finalScore;
     }
     
     
+    /**
+     * Whether a horizontal placement touches board tiles directly before or after it, so the
+     * complete word formed is longer than the placed word.
+     */
+    private boolean extendsIntoTilesHorizontally(Board board, String word, int row, int startCol) {
+        int endCol = startCol + word.length() - 1;
+        return (startCol > 0 && board.isOccupied(row, startCol - 1))
+            || (endCol < board.cols() - 1 && board.isOccupied(row, endCol + 1));
+    }
+
+    /**
+     * Whether a vertical placement touches board tiles directly above or below it, so the
+     * complete word formed is longer than the placed word.
+     */
+    private boolean extendsIntoTilesVertically(Board board, String word, int startRow, int col) {
+        int endRow = startRow + word.length() - 1;
+        return (startRow > 0 && board.isOccupied(startRow - 1, col))
+            || (endRow < board.rows() - 1 && board.isOccupied(endRow + 1, col));
+    }
+
     /**
      * Extracts the complete word that would be formed by placing a word at a position horizontally.
      * This includes tiles BEFORE and AFTER the placed word if they're consecutive.
@@ -384,40 +638,20 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
      * @param board Current state of the board
      * @return The complete word that would be formed (including prefix and suffix tiles)
      */
-    private String extractCompleteWordFormedHorizontally(String placedWord, int row, int startCol, String[][] board) {
-        StringBuilder completeWord = new StringBuilder();
+    private String extractCompleteWordFormedHorizontally(String placedWord, int row, int startCol, Board board) {
+        // The runs of tiles touching either end of the placement come from the board's run boundaries
+        int endCol = startCol + placedWord.length() - 1;
+        int prefixStart = startCol > 0 && board.isOccupied(row, startCol - 1) ? board.rowRunStart(row, startCol - 1) : startCol;
+        int suffixEnd = endCol < board.cols() - 1 && board.isOccupied(row, endCol + 1) ? board.rowRunEnd(row, endCol + 1) : endCol;
 
-        // Step 1: Scan backward from placement start to find prefix tiles
-        int prefixStart = startCol;
-        while (prefixStart > 0 && !board[row][prefixStart - 1].isEmpty()) {
-            prefixStart--;
-        }
-
-        // Step 2: Add prefix tiles (tiles before the placement)
+        StringBuilder completeWord = new StringBuilder(suffixEnd - prefixStart + 1);
         for (int col = prefixStart; col < startCol; col++) {
-            completeWord.append(board[row][col].toUpperCase());
+            completeWord.append(board.letter(row, col));
         }
-
-        // Step 3: Add the word being placed (mixing board tiles and new tiles)
-        for (int i = 0; i < placedWord.length(); i++) {
-            int col = startCol + i;
-            if (col < board[0].length && !board[row][col].isEmpty()) {
-                // Use existing board tile
-                completeWord.append(board[row][col].toUpperCase());
-            } else {
-                // Use new tile from the word being placed
-                completeWord.append(Character.toUpperCase(placedWord.charAt(i)));
-            }
-        }
-
-        // Step 4: Scan forward from placement end to find suffix tiles
-        int placementEnd = startCol + placedWord.length();
-        int suffixPos = placementEnd;
-        while (suffixPos < board[0].length && !board[row][suffixPos].isEmpty()) {
-            completeWord.append(board[row][suffixPos].toUpperCase());
-            suffixPos++;
+        completeWord.append(placedWord);
+        for (int col = endCol + 1; col <= suffixEnd; col++) {
+            completeWord.append(board.letter(row, col));
         }
-
         return completeWord.toString();
     }
 
@@ -436,78 +670,55 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
      * @param board Current state of the board
      * @return The complete word that would be formed (including prefix and suffix tiles)
      */
-    private String extractCompleteWordFormedVertically(String placedWord, int startRow, int col, String[][] board) {
-        StringBuilder completeWord = new StringBuilder();
-
-        // Step 1: Scan backward from placement start to find prefix tiles
-        int prefixStart = startRow;
-        while (prefixStart > 0 && !board[prefixStart - 1][col].isEmpty()) {
-            prefixStart--;
-        }
+    private String extractCompleteWordFormedVertically(String placedWord, int startRow, int col, Board board) {
+        int endRow = startRow + placedWord.length() - 1;
+        int prefixStart = startRow > 0 && board.isOccupied(startRow - 1, col) ? board.columnRunStart(startRow - 1, col) : startRow;
+        int suffixEnd = endRow < board.rows() - 1 && board.isOccupied(endRow + 1, col) ? board.columnRunEnd(endRow + 1, col) : endRow;
 
-        // Step 2: Add prefix tiles (tiles before the placement)
+        StringBuilder completeWord = new StringBuilder(suffixEnd - prefixStart + 1);
         for (int row = prefixStart; row < startRow; row++) {
-            completeWord.append(board[row][col].toUpperCase());
-        }
-
-        // Step 3: Add the word being placed (mixing board tiles and new tiles)
-        for (int i = 0; i < placedWord.length(); i++) {
-            int row = startRow + i;
-            if (row < board.length && !board[row][col].isEmpty()) {
-                // Use existing board tile
-                completeWord.append(board[row][col].toUpperCase());
-            } else {
-                // Use new tile from the word being placed
-                completeWord.append(Character.toUpperCase(placedWord.charAt(i)));
-            }
+            completeWord.append(board.letter(row, col));
         }
-
-        // Step 4: Scan forward from placement end to find suffix tiles
-        int placementEnd = startRow + placedWord.length();
-        int suffixPos = placementEnd;
-        while (suffixPos < board.length && !board[suffixPos][col].isEmpty()) {
-            completeWord.append(board[suffixPos][col].toUpperCase());
-            suffixPos++;
+        completeWord.append(placedWord);
+        for (int row = endRow + 1; row <= suffixEnd; row++) {
+            completeWord.append(board.letter(row, col));
         }
-
         return completeWord.toString();
     }
 
     /**
      * Checks if a word placement connects to existing board tiles properly following Scrabble rules
      */
-    private boolean wordConnectsToExistingTiles(String[][] board, String word, int startRow, int startCol,
-                                              String direction, List<String> handLetters) {
+    private boolean wordConnectsToExistingTiles(Board board, String word, int startRow, int startCol,
+                                              String direction, Rack hand, Rack rack) {
+        boolean horizontal = direction.equals("HORIZONTAL");
         boolean connectsToExisting = false;
         boolean usesHandTile = false;
         boolean touchesExistingTile = false;
-        List<String> availableHandTiles = new ArrayList<>(handLetters);
+        rack.copyFrom(hand);
         
         for (int i = 0; i < word.length(); i++) {
-            int row = startRow + (direction.equals("VERTICAL") ? i : 0);
-            int col = startCol + (direction.equals("HORIZONTAL") ? i : 0);
+            int row = startRow + (horizontal ? 0 : i);
+            int col = startCol + (horizontal ? i : 0);
             
-            if (row >= board.length || col >= board[0].length) {
+            if (row >= board.rows() || col >= board.cols()) {
                 return false;
             }
             
             char wordChar = word.charAt(i);
-            String boardTile = board[row][col];
             
-            if (!boardTile.isEmpty()) {
-                if (boardTile.equals(String.valueOf(wordChar))) {
+            if (board.isOccupied(row, col)) {
+                if (board.letter(row, col) == wordChar) {
                     connectsToExisting = true;
                 } else {
                     return false; // Board tile doesn't match word
                 }
             } else {
-                String neededTile = String.valueOf(wordChar);
-                if (availableHandTiles.contains(neededTile)) {
-                    availableHandTiles.remove(neededTile);
+                if (rack.takeLetter(wordChar)) {
                     usesHandTile = true;
                     
                     // Check if this position touches an existing tile (adjacent positions)
-                    if (touchesAdjacentTile(board, row, col)) {
+                    if (board.touchesTile(row, col)) {
                         touchesExistingTile = true;
                     }
                 } else {
@@ -516,8 +727,6 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
             }
         }
         
-        boolean hasExistingTiles = hasAnyTilesOnBoard(board);
-        
         // Scrabble rules:
         // 1. Must use at least one hand tile
         // 2. If board is empty, word must pass through center (7,7 for 15x15)
@@ -526,10 +735,10 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
             return false;
         }
         
-        if (!hasExistingTiles) {
+        if (!board.hasTiles()) {
             // First word must pass through center square
-            int center = board.length / 2;
-            if (direction.equals("HORIZONTAL")) {
+            int center = board.rows() / 2;
+            if (horizontal) {
                 return startRow == center && startCol <= center && (startCol + word.length() - 1) >= center;
             } else {
                 return startCol == center && startRow <= center && (startRow + word.length() - 1) >= center;
@@ -539,38 +748,4 @@ public class BoardAnalyzerServiceImpl implements BoardAnalyzerService {
             return connectsToExisting || touchesExistingTile;
         }
     }
-    
-    /**
-     * Check if a position touches an adjacent tile (for proper Scrabble connections)
-     */
-    private boolean touchesAdjacentTile(String[][] board, int row, int col) {
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // up, down, left, right
-        
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            
-            if (newRow >= 0 && newRow < board.length && newCol >= 0 && newCol < board[0].length) {
-                if (!board[newRow][newCol].isEmpty()) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-    
-    /**
-     * Checks if the board has any existing tiles
-     */
-    private boolean hasAnyTilesOnBoard(String[][] board) {
-        for (int row = 0; row < board.length; row++) {
-            for (int col = 0; col < board[row].length; col++) {
-                if (!board[row][col].isEmpty()) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-    
-}
\ No newline at end of file
+}
@@ -3,19 +3,35 @@ package com.govtech.scrabble.service.impl;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.govtech.scrabble.config.ScrabbleProperties;
+import com.govtech.scrabble.lexicon.AnagramIndex;
+import com.govtech.scrabble.lexicon.BloomFilter;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.lexicon.LanguageToolWordList;
+import com.govtech.scrabble.lexicon.SpellingValidatorPool;
+import com.govtech.scrabble.service.DictionaryCacheStore;
 import com.govtech.scrabble.service.EnglishDictionaryService;
+import com.govtech.scrabble.service.StartupCoordinator;
 import com.govtech.scrabble.util.ScrabbleScoreUtil;
-import org.languagetool.JLanguageTool;
+import jakarta.annotation.PreDestroy;
 import org.languagetool.language.AmericanEnglish;
-import org.languagetool.rules.RuleMatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -29,32 +45,54 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
     
     private static final Logger logger = LoggerFactory.getLogger(EnglishDictionaryServiceImpl.class);
     
-    private final JLanguageTool langTool;
+    // Highest scoring potential first, alphabetical among equals so results are stable
+    private static final Comparator<String> BY_SCORING_POTENTIAL =
+            Comparator.comparingInt(EnglishDictionaryServiceImpl::calculateWordScoringPotential).reversed()
+                    .thenComparing(Comparator.naturalOrder());
+    
     private final Cache<String, Boolean> validationCache;
+    private final DictionaryCacheStore cacheStore;
     private final Cache<String, List<String>> wordGenerationCache;
+    private final StartupCoordinator startup;
+    private final CompletableFuture<Void> ready;
+    // Built by initialize(); read only after ready has completed
+    private SpellingValidatorPool validatorPool;
+    private ExecutorService validationExecutor;
+    private AnagramIndex anagramIndex;
+    private Dawg lexicon;
+    private boolean lexiconLookup;
+    private final LongAdder lexiconLookups = new LongAdder();
+    private BloomFilter negativeFilter;
+    private final LongAdder filterChecks = new LongAdder();
+    private final LongAdder filterRejections = new LongAdder();
     private final Random random = new Random();
     private final ScrabbleProperties scrabbleProperties;
     
     
+    /**
+     * In-memory cache only; used outside the Spring context.
+     */
     public EnglishDictionaryServiceImpl(ScrabbleProperties scrabbleProperties) {
+        this(scrabbleProperties, null);
+    }
+    
+    /**
+     * Initializes on the calling thread; used outside the Spring context.
+     */
+    public EnglishDictionaryServiceImpl(ScrabbleProperties scrabbleProperties, DictionaryCacheStore cacheStore) {
+        this(scrabbleProperties, cacheStore, null);
+    }
+    
+    /**
+     * With a startup coordinator, LanguageTool and the word lists are built in the background
+     * while the rest of the application starts; calls made before then wait for them.
+     */
+    @Autowired
+    public EnglishDictionaryServiceImpl(ScrabbleProperties scrabbleProperties, DictionaryCacheStore cacheStore,
+                                        StartupCoordinator startup) {
         this.scrabbleProperties = scrabbleProperties;
-        try {
-            this.langTool = new JLanguageTool(new AmericanEnglish());
-            
-            // Disable expensive rules we don't need for simple word validation
-            langTool.disableRules(Arrays.asList(
-                "WHITESPACE_RULE", 
-                "EN_QUOTES",
-                "UPPERCASE_SENTENCE_START",
-                "SENTENCE_WHITESPACE",
-                "EN_UNPAIRED_BRACKETS"
-            ));
-            
-            logger.info("LanguageTool initialized with {} rules disabled for performance", 5);
-        } catch (Exception e) {
-            logger.error("Failed to initialize LanguageTool", e);
-            throw new RuntimeException("Dictionary service initialization failed", e);
-        }
+        this.cacheStore = cacheStore != null && cacheStore.isEnabled() ? cacheStore : null;
+        this.startup = startup;
         
         // High-performance cache for word validation
         this.validationCache = Caffeine.newBuilder()
@@ -69,49 +107,356 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
                 .expireAfterWrite(30, TimeUnit.MINUTES)
                 .build();
         
+        if (startup != null) {
+            this.ready = startup.submit("languageTool", this::initialize);
+        } else {
+            initialize();
+            this.ready = CompletableFuture.completedFuture(null);
+        }
+    }
+    
+    private void initialize() {
+        try {
+            // Only the speller matters for single-word validation; every other rule is disabled
+            ScrabbleProperties.ValidatorPool poolConfig = scrabbleProperties.getDictionary().getValidatorPool();
+            this.validatorPool = phase("validatorPool", () -> new SpellingValidatorPool(new AmericanEnglish(),
+                    poolConfig.getSize(), poolConfig.getPrewarmed(), poolConfig.getMaxWaitMs()));
+            this.validationExecutor = newValidationExecutor(validatorPool.getMaxSize());
+        } catch (Exception e) {
+            logger.error("Failed to initialize LanguageTool", e);
+            throw new RuntimeException("Dictionary service initialization failed", e);
+        }
+        
+        List<String> spellerWords = phase("spellerWords", this::loadSpellerWords);
+        this.anagramIndex = phase("anagramIndex", () -> buildAnagramIndex(spellerWords));
+        this.lexicon = phase("lexicon", () -> buildLexicon(spellerWords));
+        this.lexiconLookup = lexicon != null && scrabbleProperties.getDictionary().getValidation().isLexiconLookup();
+        if (lexiconLookup) {
+            // Validation never reaches the cache tiers, so neither is warmed nor written
+            logger.info("Word validation answered from the in-memory speller lexicon");
+        } else if (cacheStore != null) {
+            // Words validated in earlier runs skip LanguageTool from the first request
+            validationCache.putAll(phase("cachePreload", cacheStore::loadMostAccessed));
+            cacheStore.start();
+        }
+        this.negativeFilter = lexiconLookup ? null : phase("negativeFilter", () -> buildNegativeFilter(spellerWords));
+        
         logger.info("Optimized LanguageTool dictionary service initialized with caching");
     }
     
+    /**
+     * Batch validation workers block on validator borrows, so they get their own threads, one
+     * per pooled validator, rather than parking workers of the shared common pool.
+     */
+    private static ExecutorService newValidationExecutor(int threads) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "dictionary-validator-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (validationExecutor != null) {
+            validationExecutor.shutdownNow();
+        }
+    }
+    
+    private <T> T phase(String name, Supplier<T> step) {
+        return startup == null ? step.get() : startup.time("languageTool." + name, step);
+    }
+    
+    /**
+     * Block until background initialization has finished.
+     *
+     * @throws IllegalStateException if initialization failed
+     */
+    private void awaitReady() {
+        try {
+            ready.join();
+        } catch (CompletionException | CancellationException e) {
+            throw new IllegalStateException("Dictionary service initialization failed", e.getCause());
+        }
+    }
+    
+    /**
+     * Read LanguageTool's speller word list, or null if it cannot be read.
+     */
+    private List<String> loadSpellerWords() {
+        try {
+            return LanguageToolWordList.load();
+        } catch (IOException e) {
+            logger.warn("Failed to read LanguageTool speller word list: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Build the sub-anagram index from LanguageTool's speller word list.
+     * Returns null (sampling/exhaustive generation is used instead) when the index is
+     * disabled or the word list cannot be read.
+     */
+    private AnagramIndex buildAnagramIndex(List<String> spellerWords) {
+        if (!scrabbleProperties.getDictionary().getWordGeneration().getIndex().isEnabled()) {
+            logger.info("Anagram index disabled - word generation will use {} approach",
+                    scrabbleProperties.getDictionary().getWordGeneration().getExhaustive().isEnabled() ? "exhaustive" : "sampling");
+            return null;
+        }
+        
+        if (spellerWords == null) {
+            logger.warn("Anagram index unavailable, falling back to sampling word generation");
+            return null;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        AnagramIndex index = AnagramIndex.build(spellerWords);
+        logger.info("Anagram index built: {} words in {} signatures ({}ms)",
+                index.getWordCount(), index.getSignatureCount(), System.currentTimeMillis() - startTime);
+        return index;
+    }
+    
+    /**
+     * Build the lexicon graph from the same speller word list. It backs board move generation
+     * and, unless disabled, word validation. Returns null when the word list cannot be read;
+     * callers then fall back to candidate lists and validation to the LanguageTool speller.
+     */
+    private Dawg buildLexicon(List<String> spellerWords) {
+        if (spellerWords == null) {
+            return null;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        Dawg dawg = Dawg.fromWords(spellerWords);
+        logger.info("Lexicon DAWG built: {} words, {} edges, ~{}KB ({}ms)",
+                dawg.size(), dawg.edgeCount(), dawg.estimatedMemoryBytes() / 1024,
+                System.currentTimeMillis() - startTime);
+        return dawg;
+    }
+    
+    /**
+     * Build the filter that rejects non-words before the cache and the speller. Not needed
+     * when the lexicon answers validation itself; null when disabled or the word list is missing.
+     */
+    private BloomFilter buildNegativeFilter(List<String> spellerWords) {
+        ScrabbleProperties.NegativeFilter config = scrabbleProperties.getDictionary().getNegativeFilter();
+        if (!config.isEnabled() || spellerWords == null) {
+            return null;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        BloomFilter filter = BloomFilter.build(spellerWords, config.getFalsePositiveRate());
+        logger.info("Negative filter built: {} words, {} hash functions, ~{}KB, expected false-positive rate {} ({}ms)",
+                filter.size(), filter.hashCount(), filter.estimatedMemoryBytes() / 1024,
+                String.format("%.4f", filter.expectedFalsePositiveRate()), System.currentTimeMillis() - startTime);
+        return filter;
+    }
+    
+    /**
+     * The filter only covers the word list's domain, words of the letters A-Z; anything else,
+     * such as an apostrophe or a digit, always goes on to the speller.
+     *
+     * @return true if the word is definitely not in the speller word list
+     */
+    private boolean isDefinitelyNotAWord(String normalizedWord) {
+        if (negativeFilter == null) {
+            return false;
+        }
+        for (int i = 0; i < normalizedWord.length(); i++) {
+            char c = normalizedWord.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        filterChecks.increment();
+        if (negativeFilter.mightContain(normalizedWord)) {
+            return false;
+        }
+        filterRejections.increment();
+        return true;
+    }
+    
     @Override
     public boolean isValidWord(String word) {
         if (word == null || word.trim().isEmpty()) {
             return false;
         }
+        awaitReady();
         
         String normalizedWord = word.trim().toUpperCase();
         
+        // The lexicon holds the speller's own word list, so a lookup gives the same answer
+        // as a speller run and is cheaper than a cache hit
+        if (lexiconLookup) {
+            lexiconLookups.increment();
+            return lexicon.contains(normalizedWord);
+        }
+        
+        // Non-words never reach the cache or the speller, so they cannot crowd out real words
+        if (isDefinitelyNotAWord(normalizedWord)) {
+            return false;
+        }
+        
         // Use cache only if caching is enabled
         if (scrabbleProperties.getDictionary().getCaching().isEnabled()) {
-            return validationCache.get(normalizedWord, this::validateWithLanguageTool);
+            Boolean isValid = validationCache.get(normalizedWord, this::loadValidation);
+            if (isValid == null) {
+                // Graceful degradation: assume valid, but do not cache the guess
+                return true;
+            }
+            recordAccess(normalizedWord, isValid);
+            return isValid;
         } else {
             return validateWithLanguageTool(normalizedWord);
         }
     }
     
+    /**
+     * In-memory cache miss: use the stored result if there is one, otherwise run the speller.
+     * Returns null when the speller fails, so nothing is cached.
+     */
+    private Boolean loadValidation(String word) {
+        if (cacheStore != null) {
+            Boolean stored = cacheStore.find(word);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        return checkWithLanguageTool(word);
+    }
+    
+    private void recordAccess(String word, boolean isValid) {
+        if (cacheStore != null) {
+            cacheStore.record(word, isValid);
+        }
+    }
+    
+    @Override
+    public Map<String, Boolean> isValidWords(Collection<String> words) {
+        awaitReady();
+        Set<String> distinctWords = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word != null && !word.isBlank()) {
+                distinctWords.add(word.trim().toUpperCase());
+            }
+        }
+        
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        if (lexiconLookup) {
+            lexiconLookups.add(distinctWords.size());
+            for (String word : distinctWords) {
+                results.put(word, lexicon.contains(word));
+            }
+            return results;
+        }
+        
+        Set<String> candidates = new LinkedHashSet<>();
+        for (String word : distinctWords) {
+            if (!isDefinitelyNotAWord(word)) {
+                candidates.add(word);
+            }
+        }
+        
+        boolean caching = scrabbleProperties.getDictionary().getCaching().isEnabled();
+        Map<String, Boolean> cached = caching ? validationCache.getAllPresent(candidates) : Map.of();
+        List<String> misses = new ArrayList<>();
+        for (String word : candidates) {
+            if (!cached.containsKey(word)) {
+                misses.add(word);
+            }
+        }
+        
+        Map<String, Boolean> stored = Map.of();
+        if (caching && cacheStore != null && !misses.isEmpty()) {
+            stored = cacheStore.findAll(misses);
+            if (!stored.isEmpty()) {
+                validationCache.putAll(stored);
+                misses.removeAll(stored.keySet());
+            }
+        }
+        
+        Map<String, Boolean> validated = validateInParallel(misses);
+        if (caching) {
+            validationCache.putAll(validated);
+        }
+        
+        for (String word : distinctWords) {
+            if (!candidates.contains(word)) {
+                results.put(word, false);
+                continue;
+            }
+            Boolean valid = cached.get(word);
+            if (valid == null) {
+                valid = stored.get(word);
+            }
+            if (valid == null) {
+                valid = validated.get(word);
+            }
+            if (valid == null) {
+                // Graceful degradation: assume valid, but do not cache the guess
+                results.put(word, true);
+                continue;
+            }
+            results.put(word, valid);
+            if (caching) {
+                recordAccess(word, valid);
+            }
+        }
+        logger.debug("Batch validation: {} words, {} filtered out, {} cached, {} stored, {} checked",
+                distinctWords.size(), distinctWords.size() - candidates.size(), cached.size(), stored.size(), misses.size());
+        return results;
+    }
+    
+    /**
+     * Validate words with one worker per pooled validator, so a large batch neither queues
+     * on a single instance nor waits on a pool it has exhausted itself. Workers run on the
+     * validation executor. Words whose check failed are left out of the result.
+     */
+    private Map<String, Boolean> validateInParallel(List<String> words) {
+        if (words.isEmpty()) {
+            return Map.of();
+        }
+        int workers = Math.min(validatorPool.getMaxSize(), words.size());
+        Map<String, Boolean> results = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[workers];
+        for (int worker = 0; worker < workers; worker++) {
+            int first = worker;
+            tasks[worker] = CompletableFuture.runAsync(() -> {
+                for (int i = first; i < words.size(); i += workers) {
+                    Boolean isValid = checkWithLanguageTool(words.get(i));
+                    if (isValid != null) {
+                        results.put(words.get(i), isValid);
+                    }
+                }
+            }, validationExecutor);
+        }
+        CompletableFuture.allOf(tasks).join();
+        return results;
+    }
+    
     private Boolean validateWithLanguageTool(String word) {
+        Boolean isValid = checkWithLanguageTool(word);
+        // Graceful degradation: assume valid if validation fails
+        return isValid != null ? isValid : true;
+    }
+    
+    /**
+     * Run the speller; null if it fails.
+     */
+    private Boolean checkWithLanguageTool(String word) {
         try {
-            String lowerWord = word.toLowerCase();
-            List<RuleMatch> matches = langTool.check(lowerWord);
-            
-            // Check for spelling errors specifically
-            boolean hasSpellingErrors = matches.stream()
-                    .anyMatch(match -> 
-                        match.getRule().isDictionaryBasedSpellingRule() || 
-                        match.getRule().getCategory().getId().toString().equals("TYPOS") ||
-                        match.getMessage().toLowerCase().contains("spelling"));
-            
-            boolean isValid = !hasSpellingErrors;
+            boolean isValid = validatorPool.isCorrectlySpelled(word.toLowerCase());
             
             if (logger.isDebugEnabled()) {
-                logger.debug("Word '{}' validation: {} (matches: {})", word, isValid, matches.size());
+                logger.debug("Word '{}' validation: {}", word, isValid);
             }
             
             return isValid;
             
-        } catch (IOException e) {
+        } catch (IOException | IllegalStateException e) {
             logger.warn("LanguageTool validation failed for word '{}': {}", word, e.getMessage());
-            // Graceful degradation: assume valid if validation fails
-            return true;
+            return null;
         }
     }
     
@@ -120,6 +465,7 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
         if (availableLetters == null || availableLetters.isEmpty()) {
             return Collections.emptyList();
         }
+        awaitReady();
         
         // Create cache key
         String cacheKey = String.format("%s_%d_%d", 
@@ -150,6 +496,11 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
             return Collections.emptyList();
         }
         
+        if (anagramIndex != null) {
+            logger.debug("Using anagram index word generation approach");
+            return generateWordsFromIndex(letterCounts, minLength, maxLength);
+        }
+        
         Set<String> possibleWords = new HashSet<>();
         
         // Choose approach based on configuration - use exhaustive only if explicitly enabled
@@ -163,11 +514,7 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
         
         // Convert to list and sort by scoring potential
         List<String> result = new ArrayList<>(possibleWords);
-        result.sort((a, b) -> {
-            int scoreA = calculateWordScoringPotential(a);
-            int scoreB = calculateWordScoringPotential(b);
-            return Integer.compare(scoreB, scoreA); // Highest scoring potential first
-        });
+        result.sort(BY_SCORING_POTENTIAL);
         
         // Apply configured result limit
         int maxResults = scrabbleProperties.getDictionary().getWordGeneration().getExhaustive().isEnabled() ? 
@@ -177,6 +524,26 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
         return result.stream().limit(maxResults).collect(Collectors.toList());
     }
     
+    /**
+     * Deterministic word generation: every lexicon word that the letter multiset can spell,
+     * looked up by signature instead of validating random guesses.
+     */
+    private List<String> generateWordsFromIndex(Map<Character, Integer> letterCounts, int minLength, int maxLength) {
+        int[] counts = new int[26];
+        for (Map.Entry<Character, Integer> entry : letterCounts.entrySet()) {
+            char c = entry.getKey();
+            if (c >= 'A' && c <= 'Z') {
+                counts[c - 'A'] += entry.getValue();
+            }
+        }
+        
+        List<String> result = anagramIndex.findSubAnagrams(counts, minLength, maxLength);
+        result.sort(BY_SCORING_POTENTIAL);
+        
+        int maxResults = scrabbleProperties.getDictionary().getWordGeneration().getIndex().getMaxTotalResults();
+        return result.size() > maxResults ? new ArrayList<>(result.subList(0, maxResults)) : result;
+    }
+    
     private void generateSamplingWords(Set<String> results, Map<Character, Integer> letterCounts, int minLength, int maxLength) {
         // Generate combinations of available letters using sampling approach
         List<Character> availableChars = new ArrayList<>();
@@ -284,7 +651,7 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
         }
     }
     
-    private int calculateWordScoringPotential(String word) {
+    private static int calculateWordScoringPotential(String word) {
         // Calculate base Scrabble score using centralized utility
         int baseScore = ScrabbleScoreUtil.calculateWordScore(word);
         // Bonus for longer words to prioritize high-value candidates
@@ -408,6 +775,12 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
         return result;
     }
     
+    @Override
+    public Dawg getLexicon() {
+        awaitReady();
+        return lexicon;
+    }
+    
     @Override
     public int getWordCount() {
         // Return a more realistic estimate of English words
@@ -468,6 +841,62 @@ public class EnglishDictionaryServiceImpl implements EnglishDictionaryService {
         return true;
     }
     
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (!ready.isDone()) {
+            // Never block a monitoring call on startup
+            stats.put("status", "initializing");
+            return stats;
+        }
+        if (ready.isCompletedExceptionally()) {
+            stats.put("status", "failed");
+            return stats;
+        }
+        stats.put("status", "ready");
+        stats.put("validationSource", lexiconLookup ? "lexicon" : "languageTool");
+        stats.put("lexiconLookups", lexiconLookups.sum());
+        stats.put("validatorPool", validatorPool.getStatistics());
+        
+        var cacheStats = validationCache.stats();
+        Map<String, Object> cache = new LinkedHashMap<>();
+        cache.put("enabled", scrabbleProperties.getDictionary().getCaching().isEnabled());
+        cache.put("size", validationCache.estimatedSize());
+        cache.put("hits", cacheStats.hitCount());
+        cache.put("misses", cacheStats.missCount());
+        cache.put("hitRate", cacheStats.hitRate());
+        cache.put("evictions", cacheStats.evictionCount());
+        stats.put("validationCache", cache);
+        if (cacheStore != null) {
+            stats.put("persistentCache", cacheStore.getStatistics());
+        }
+        
+        if (anagramIndex != null) {
+            stats.put("anagramIndex", Map.of(
+                    "words", anagramIndex.getWordCount(),
+                    "signatures", anagramIndex.getSignatureCount()));
+        }
+        if (negativeFilter != null) {
+            Map<String, Object> filter = new LinkedHashMap<>();
+            filter.put("words", negativeFilter.size());
+            filter.put("bits", negativeFilter.bitCount());
+            filter.put("hashFunctions", negativeFilter.hashCount());
+            filter.put("configuredFalsePositiveRate", scrabbleProperties.getDictionary().getNegativeFilter().getFalsePositiveRate());
+            filter.put("expectedFalsePositiveRate", negativeFilter.expectedFalsePositiveRate());
+            filter.put("estimatedMemoryBytes", negativeFilter.estimatedMemoryBytes());
+            filter.put("checks", filterChecks.sum());
+            filter.put("rejections", filterRejections.sum());
+            stats.put("negativeFilter", filter);
+        }
+        if (lexicon != null) {
+            stats.put("lexicon", Map.of(
+                    "words", lexicon.size(),
+                    "edges", lexicon.edgeCount(),
+                    "estimatedMemoryBytes", lexicon.estimatedMemoryBytes()));
+        }
+        return stats;
+    }
+    
     // Method to get cache statistics for monitoring
     public void logCacheStats() {
         var stats = validationCache.stats();
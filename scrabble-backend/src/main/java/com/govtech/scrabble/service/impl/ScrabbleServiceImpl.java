@@ -3,6 +3,7 @@ package com.govtech.scrabble.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.govtech.scrabble.config.ScrabbleProperties;
+import com.govtech.scrabble.dto.BatchValidateResponse;
 import com.govtech.scrabble.dto.CalculateScoreRequest;
 import com.govtech.scrabble.dto.CalculateScoreResponse;
 import com.govtech.scrabble.dto.ScoreRequest;
@@ -20,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -223,4 +225,32 @@ public class ScrabbleServiceImpl implements ScrabbleService {
             com.govtech.scrabble.service.FeatureAwareDictionaryAdapter.clearFeatureContext();
         }
     }
+
+    @Override
+    public BatchValidateResponse validateWords(List<String> words) {
+        if (words == null || words.isEmpty()) {
+            return new BatchValidateResponse(List.of(), 0, 0, 0);
+        }
+
+        // Same dictionary as single-word validation (Score Calculator uses LanguageTool)
+        Map<String, Boolean> validity;
+        try {
+            com.govtech.scrabble.service.FeatureAwareDictionaryAdapter.setFeatureContext("SCORE_CALCULATOR");
+            validity = englishDictionaryService.isValidWords(words);
+        } finally {
+            com.govtech.scrabble.service.FeatureAwareDictionaryAdapter.clearFeatureContext();
+        }
+
+        List<CalculateScoreResponse> results = new ArrayList<>(validity.size());
+        int validCount = 0;
+        for (Map.Entry<String, Boolean> entry : validity.entrySet()) {
+            boolean isValidWord = entry.getValue();
+            if (isValidWord) {
+                validCount++;
+            }
+            results.add(new CalculateScoreResponse(entry.getKey(), 0, isValidWord,
+                    isValidWord ? null : "Word not found in dictionary"));
+        }
+        return new BatchValidateResponse(results, words.size(), validity.size(), validCount);
+    }
 }
\ No newline at end of file
@@ -2,6 +2,14 @@ package com.govtech.scrabble.service.impl;
 
 import com.govtech.scrabble.dto.WordFinderRequest;
 import com.govtech.scrabble.dto.WordFinderResponse;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.movegen.Board;
+import com.govtech.scrabble.movegen.LineMoveGenerator;
+import com.govtech.scrabble.movegen.Rack;
+import com.govtech.scrabble.movegen.TopMoves;
+import com.govtech.scrabble.ranking.RankedResultCache;
+import com.govtech.scrabble.ranking.RankedResults;
+import com.govtech.scrabble.ranking.RankingMode;
 import com.govtech.scrabble.service.EnglishDictionaryService;
 import com.govtech.scrabble.service.WordFinderService;
 import com.govtech.scrabble.util.ScrabbleScoreUtil;
@@ -16,16 +24,27 @@ import java.util.stream.Collectors;
 public class WordFinderServiceImpl implements WordFinderService {
 
     private static final Logger logger = LoggerFactory.getLogger(WordFinderServiceImpl.class);
+    private static final int MIN_WORD_LENGTH = 3;
 
     private final EnglishDictionaryService englishDictionaryService;
+    private final RankedResultCache rankedResultCache;
 
-    public WordFinderServiceImpl(EnglishDictionaryService englishDictionaryService) {
+    public WordFinderServiceImpl(EnglishDictionaryService englishDictionaryService, RankedResultCache rankedResultCache) {
         this.englishDictionaryService = englishDictionaryService;
+        this.rankedResultCache = rankedResultCache;
     }
     
     public WordFinderResponse findPossibleWords(WordFinderRequest request) {
-        logger.info("Finding possible words for board tiles: {} and hand tiles: {}", 
-                    request.getBoardTiles(), request.getHandTiles());
+        int limit = rankedResultCache.resolveLimit(request.getLimit());
+        
+        // A cursor continues an earlier search from its cached ranking
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            return toResponse(rankedResultCache.nextPage(request.getCursor(), WordFinderResponse.PossibleWord.class, limit));
+        }
+        
+        RankingMode ranking = RankingMode.from(request.getRanking());
+        logger.info("Finding possible words for board tiles: {} and hand tiles: {} (ranking: {})", 
+                    request.getBoardTiles(), request.getHandTiles(), ranking);
         
         List<String> boardTiles = request.getBoardTiles() != null ? request.getBoardTiles() : new ArrayList<>();
         List<String> handTiles = request.getHandTiles() != null ? request.getHandTiles() : new ArrayList<>();
@@ -44,80 +63,164 @@ public class WordFinderServiceImpl implements WordFinderService {
             return new WordFinderResponse(new ArrayList<>(), 0, "No hand tiles provided");
         }
         
+        // Build the row once; every placement check reads it without allocating
+        Board board = Board.of(boardTiles, 1, boardTiles.size());
+        
+        // Rank placements while generating them, keeping only the best and counting the rest
+        TopMoves topMoves = new TopMoves(rankedResultCache.capacity(), board.cols());
+        
+        // Walk the lexicon graph along the row when it is available; otherwise try each candidate word at every offset
+        Dawg lexicon = englishDictionaryService.getLexicon();
+        if (lexicon != null) {
+            generateAnchoredWords(board, handTiles, lexicon, ranking, topMoves);
+        } else {
+            placeCandidateWords(board, handTiles, ranking, topMoves);
+        }
+        
+        // Responses are only built for the ranks a page returns
+        int[] ranked = topMoves.ranked();
+        RankedResults<WordFinderResponse.PossibleWord> results = new RankedResults<>(
+                WordFinderResponse.PossibleWord.class, topMoves.total(), ranked.length,
+                rank -> toPossibleWord(topMoves, ranked[rank]));
+        return toResponse(rankedResultCache.firstPage(results, limit));
+    }
+    
+    private WordFinderResponse toResponse(RankedResultCache.Page<WordFinderResponse.PossibleWord> page) {
+        int totalFound = Math.toIntExact(page.total());
+        int shown = page.items().size();
+        
+        String message;
+        if (totalFound == 0) {
+            message = "No words found with the available tiles";
+        } else if (page.offset() == 0) {
+            message = String.format("Found %d possible words (showing top %d)", totalFound, shown);
+        } else {
+            message = String.format("Found %d possible words (showing %d-%d)",
+                                    totalFound, page.offset() + 1, page.offset() + shown);
+        }
+        
+        WordFinderResponse response = new WordFinderResponse(page.items(), totalFound, message);
+        response.setNextCursor(page.nextCursor());
+        return response;
+    }
+    
+    /**
+     * Generate every legal placement in one pass over the row, walking the lexicon graph from
+     * anchor squares (empty squares next to a board tile, or every square of an empty row).
+     * Only prefixes of real words that the hand can supply are explored, and each reported word
+     * is the complete word formed including the board tiles directly before and after it, so it
+     * needs no further validation.
+     */
+    private void generateAnchoredWords(Board board, List<String> handTiles, Dawg lexicon, RankingMode ranking,
+                                       TopMoves topMoves) {
+        int size = board.cols();
+        char[] cells = new char[size];
+        board.copyRow(0, cells);
+        
+        boolean[] anchors = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            anchors[i] = !board.hasTiles() || board.isAnchor(0, i);
+        }
+        
+        new LineMoveGenerator(lexicon).generate(cells, null, anchors, Rack.of(handTiles), MIN_WORD_LENGTH,
+                (start, letters, placed, length) -> offer(topMoves, ranking, start, letters, placed, length));
+        
+        logger.debug("Generated {} placements from anchors", topMoves.total());
+    }
+    
+    private void offer(TopMoves topMoves, RankingMode ranking, int start, char[] letters, boolean[] placed, int length) {
+        int score = calculateWordScore(letters, length);
+        int tilesUsed = 0;
+        for (int i = 0; i < length; i++) {
+            if (placed[i]) {
+                tilesUsed++;
+            }
+        }
+        // The word finder has always listed longer words first among equal scores
+        int secondaryKey = ranking == RankingMode.SCORE ? length : ranking.secondaryKey(score, length, tilesUsed);
+        topMoves.offer(ranking.primaryKey(score, length, tilesUsed), secondaryKey, start, letters, placed, length);
+    }
+    
+    /**
+     * Build the response for a kept placement, with positions converted to 1-based for user display.
+     */
+    private WordFinderResponse.PossibleWord toPossibleWord(TopMoves topMoves, int slot) {
+        int length = topMoves.length(slot);
+        char[] letters = new char[length];
+        boolean[] placed = new boolean[length];
+        topMoves.copyMove(slot, letters, placed);
+        return convertToUserFriendlyPositions(toPossibleWord(topMoves.origin(slot), letters, placed, length));
+    }
+    
+    private WordFinderResponse.PossibleWord toPossibleWord(int start, char[] letters, boolean[] placed, int length) {
+        List<Integer> positions = new ArrayList<>(length);
+        List<String> usedHandTiles = new ArrayList<>();
+        List<String> usedBoardTiles = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            positions.add(start + i);
+            String letter = String.valueOf(letters[i]);
+            if (placed[i]) {
+                usedHandTiles.add(letter);
+            } else {
+                usedBoardTiles.add(letter);
+            }
+        }
+        
+        String word = new String(letters, 0, length);
+        return new WordFinderResponse.PossibleWord(
+                word, calculateWordScore(word), positions, usedHandTiles, usedBoardTiles);
+    }
+    
+    private void placeCandidateWords(Board board, List<String> handTiles, RankingMode ranking, TopMoves topMoves) {
         // Combine all available letters for dictionary search
         List<String> allAvailableLetters = new ArrayList<>(handTiles);
         
         // Add non-empty board tiles as available letters
-        boardTiles.stream()
-            .filter(tile -> !tile.isEmpty())
-            .forEach(allAvailableLetters::add);
-        
-        if (allAvailableLetters.isEmpty()) {
-            return new WordFinderResponse(new ArrayList<>(), 0, "No tiles available");
+        for (int i = 0; i < board.cols(); i++) {
+            if (board.isOccupied(0, i)) {
+                allAvailableLetters.add(String.valueOf(board.letter(0, i)));
+            }
         }
         
         // Use external dictionary service to find possible words
-        int minLength = 3; // Minimum word length
         int maxLength = Math.min(15, allAvailableLetters.size()); // Maximum reasonable word length
 
         logger.debug("Finding words with available letters: {} (min: {}, max: {})",
-                   allAvailableLetters, minLength, maxLength);
+                   allAvailableLetters, MIN_WORD_LENGTH, maxLength);
 
         List<String> dictionaryWords = englishDictionaryService.findPossibleWords(
-            allAvailableLetters, minLength, maxLength);
+            allAvailableLetters, MIN_WORD_LENGTH, maxLength);
 
         logger.debug("Dictionary returned {} potential words", dictionaryWords.size());
 
-        List<WordFinderResponse.PossibleWord> possibleWords = new ArrayList<>();
+        // The full hand, and a working copy each placement check takes letters from
+        Rack hand = Rack.of(handTiles);
+        Rack rack = new Rack();
+        char[] letters = new char[board.cols()];
+        boolean[] placed = new boolean[board.cols()];
 
         // Find words that can be formed with board/hand tile constraints
-        for (String word : dictionaryWords) {
+        for (String candidate : dictionaryWords) {
+            // Board letters are upper-case, so compare against the upper-case word
+            String word = candidate.toUpperCase();
+
             // Additional validation: ensure word is actually valid in dictionary
             if (!englishDictionaryService.isValidWord(word)) {
                 logger.debug("Skipping invalid dictionary word: '{}'", word);
                 continue;
             }
 
-            List<WordFinderResponse.PossibleWord> wordMatches = findWordMatches(word, boardTiles, handTiles);
-            possibleWords.addAll(wordMatches);
-        }
-        
-        // Sort by score (descending) and then by word length (descending)
-        possibleWords.sort((w1, w2) -> {
-            int scoreCompare = Integer.compare(w2.getScore(), w1.getScore());
-            if (scoreCompare != 0) return scoreCompare;
-            return Integer.compare(w2.getWord().length(), w1.getWord().length());
-        });
-        
-        // Convert positions to 1-based for user display and limit results to top 10
-        List<WordFinderResponse.PossibleWord> topWords = possibleWords.stream()
-                .limit(10)
-                .map(this::convertToUserFriendlyPositions)
-                .collect(Collectors.toList());
-        
-        String message = possibleWords.isEmpty() ? 
-                "No words found with the available tiles" :
-                String.format("Found %d possible words (showing top %d)", 
-                             possibleWords.size(), topWords.size());
-        
-        return new WordFinderResponse(topWords, possibleWords.size(), message);
-    }
-    
-    private List<WordFinderResponse.PossibleWord> findWordMatches(String word, List<String> boardTiles, List<String> handTiles) {
-        List<WordFinderResponse.PossibleWord> matches = new ArrayList<>();
-
-        // Find board tile sets (consecutive non-empty tiles)
-        List<BoardTileSet> boardTileSets = findBoardTileSets(boardTiles);
-
-        // Try to place the word at different positions, ensuring it connects to at least one board tile set
-        for (int startPos = 0; startPos <= Math.max(0, boardTiles.size() - word.length()); startPos++) {
-            WordFinderResponse.PossibleWord match = tryPlaceWord(word, startPos, boardTiles, handTiles, boardTileSets);
-            if (match != null) {
-                matches.add(match);
+            // Try to place the word at different positions, ensuring it connects to at least one run of board tiles
+            for (int startPos = 0; startPos <= Math.max(0, board.cols() - word.length()); startPos++) {
+                if (canPlaceWord(word, startPos, board, hand, rack)) {
+                    for (int i = 0; i < word.length(); i++) {
+                        letters[i] = word.charAt(i);
+                        placed[i] = !board.isOccupied(0, startPos + i);
+                    }
+                    offer(topMoves, ranking, startPos, letters, placed, word.length());
+                }
             }
         }
-
-        return matches;
     }
 
     /**
@@ -131,171 +234,116 @@ public class WordFinderServiceImpl implements WordFinderService {
      *
      * @param placedWord The word being placed
      * @param startPos Starting position (0-indexed) where the word is placed
-     * @param boardTiles Current state of the board tiles
+     * @param board Current state of the row
      * @return The complete word that would be formed (including prefix and suffix tiles)
      */
-    private String extractCompleteWordFormed(String placedWord, int startPos, List<String> boardTiles) {
-        StringBuilder completeWord = new StringBuilder();
-
-        // Step 1: Scan backward from placement start to find prefix tiles
-        int prefixStart = startPos;
-        while (prefixStart > 0 && !boardTiles.get(prefixStart - 1).isEmpty()) {
-            prefixStart--;
+    private String extractCompleteWordFormed(String placedWord, int startPos, Board board) {
+        // The runs of tiles touching either end of the placement come from the board's run boundaries
+        int endPos = startPos + placedWord.length() - 1;
+        int prefixStart = startPos > 0 && board.isOccupied(0, startPos - 1) ? board.rowRunStart(0, startPos - 1) : startPos;
+        int suffixEnd = endPos < board.cols() - 1 && board.isOccupied(0, endPos + 1) ? board.rowRunEnd(0, endPos + 1) : endPos;
+        if (prefixStart == startPos && suffixEnd == endPos) {
+            return placedWord;
         }
 
-        // Step 2: Add prefix tiles (tiles before the placement)
+        StringBuilder completeWord = new StringBuilder(suffixEnd - prefixStart + 1);
         for (int i = prefixStart; i < startPos; i++) {
-            completeWord.append(boardTiles.get(i).toUpperCase());
+            completeWord.append(board.letter(0, i));
         }
-
-        // Step 3: Add the word being placed (mixing board tiles and new tiles)
-        for (int i = 0; i < placedWord.length(); i++) {
-            int boardPos = startPos + i;
-            if (boardPos < boardTiles.size() && !boardTiles.get(boardPos).isEmpty()) {
-                // Use existing board tile
-                completeWord.append(boardTiles.get(boardPos).toUpperCase());
-            } else {
-                // Use new tile from the word being placed
-                completeWord.append(Character.toUpperCase(placedWord.charAt(i)));
-            }
+        completeWord.append(placedWord);
+        for (int i = endPos + 1; i <= suffixEnd; i++) {
+            completeWord.append(board.letter(0, i));
         }
-
-        // Step 4: Scan forward from placement end to find suffix tiles
-        int placementEnd = startPos + placedWord.length();
-        int suffixPos = placementEnd;
-        while (suffixPos < boardTiles.size() && !boardTiles.get(suffixPos).isEmpty()) {
-            completeWord.append(boardTiles.get(suffixPos).toUpperCase());
-            suffixPos++;
-        }
-
         return completeWord.toString();
     }
     
-    private WordFinderResponse.PossibleWord tryPlaceWord(String word, int startPos, List<String> boardTiles,
-                                                       List<String> handTiles, List<BoardTileSet> boardTileSets) {
-        List<String> availableHandTiles = new ArrayList<>(handTiles);
-        List<String> usedHandTiles = new ArrayList<>();
-        List<String> usedBoardTiles = new ArrayList<>();
-        List<Integer> positions = new ArrayList<>();
-        boolean usedAtLeastOneHandTile = false;
-        boolean connectsToExistingTileSet = false;
-
-        // Check if word placement would connect to at least one existing board tile set
+    private boolean canPlaceWord(String word, int startPos, Board board, Rack hand, Rack rack) {
         int wordStart = startPos;
         int wordEnd = startPos + word.length() - 1;
 
         // Validate that word doesn't go out of bounds
-        if (wordEnd >= boardTiles.size()) {
-            return null;
+        if (wordEnd >= board.cols()) {
+            return false;
         }
 
-        for (BoardTileSet tileSet : boardTileSets) {
-            if (wordOverlapsOrConnectsToSet(wordStart, wordEnd, tileSet)) {
-                connectsToExistingTileSet = true;
-                break;
-            }
+        // If there are board tiles, the word must overlap or touch at least one of them
+        if (board.hasTiles() && !overlapsOrTouchesTiles(wordStart, wordEnd, board)) {
+            return false;
         }
 
-        // If there are board tiles but word doesn't connect to any set, skip
-        if (!boardTileSets.isEmpty() && !connectsToExistingTileSet) {
-            return null;
-        }
-
-        // First pass: verify all existing board tiles match the word exactly
+        // First pass: verify board tiles match the word exactly and the hand holds the other letters
+        rack.copyFrom(hand);
+        boolean usedAtLeastOneHandTile = false;
+        boolean usedAtLeastOneBoardTile = false;
         for (int i = 0; i < word.length(); i++) {
             char wordChar = word.charAt(i);
             int boardPos = startPos + i;
-
-            // Check if this position has a board tile
-            if (boardPos < boardTiles.size() && !boardTiles.get(boardPos).isEmpty()) {
-                String boardTile = boardTiles.get(boardPos).toUpperCase();
-                String expectedChar = String.valueOf(wordChar).toUpperCase();
-                if (!boardTile.equals(expectedChar)) {
+            if (board.isOccupied(0, boardPos)) {
+                if (board.letter(0, boardPos) != wordChar) {
                     // Board tile doesn't match word letter - invalid placement
                     logger.debug("Word '{}' cannot be placed at position {} - board has '{}' but word needs '{}'",
-                               word, boardPos, boardTile, expectedChar);
-                    return null;
+                               word, boardPos, board.letter(0, boardPos), wordChar);
+                    return false;
                 }
-            }
-        }
-
-        // CRITICAL: Validate the complete word formed (including tiles before and after)
-        // This prevents invalid words like "ATLOPHO" when placing "LOP" between "AT" and "PHO"
-        String completeWord = extractCompleteWordFormed(word, startPos, boardTiles);
-        if (!completeWord.equals(word)) {
-            // Word extends existing tiles - validate complete word is also valid
-            if (!englishDictionaryService.isValidWord(completeWord)) {
-                logger.debug("Rejecting '{}' at position {} - forms invalid complete word '{}'",
-                    word, startPos, completeWord);
-                return null;
-            }
-            logger.debug("Validated complete word '{}' formed by placing '{}' at position {}",
-                completeWord, word, startPos);
-        }
-        
-        // Second pass: build the word placement if first pass succeeded
-        for (int i = 0; i < word.length(); i++) {
-            char wordChar = word.charAt(i);
-            int boardPos = startPos + i;
-            positions.add(boardPos);
-            
-            // Check if this position has a board tile
-            if (boardPos < boardTiles.size() && !boardTiles.get(boardPos).isEmpty()) {
-                String boardTile = boardTiles.get(boardPos).toUpperCase();
-                // Use existing board tile - we already verified it matches
-                usedBoardTiles.add(boardTile);
+                usedAtLeastOneBoardTile = true;
+            } else if (rack.takeLetter(wordChar)) {
+                usedAtLeastOneHandTile = true;
             } else {
-                // Position is empty, need to use a hand tile
-                String neededTile = String.valueOf(wordChar).toUpperCase();
-                if (availableHandTiles.contains(neededTile)) {
-                    availableHandTiles.remove(neededTile);
-                    usedHandTiles.add(neededTile);
-                    usedAtLeastOneHandTile = true;
-                } else {
-                    // Don't have the required hand tile
-                    logger.debug("Word '{}' cannot be placed - missing hand tile '{}'", word, neededTile);
-                    return null;
-                }
+                // Don't have the required hand tile
+                logger.debug("Word '{}' cannot be placed - missing hand tile '{}'", word, wordChar);
+                return false;
             }
         }
         
         // Must use at least one hand tile to be a valid play
         if (!usedAtLeastOneHandTile) {
             logger.debug("Word '{}' rejected - no hand tiles used", word);
-            return null;
+            return false;
         }
         
         // Must connect to existing board tiles if any exist
-        if (!boardTileSets.isEmpty() && usedBoardTiles.isEmpty()) {
+        if (board.hasTiles() && !usedAtLeastOneBoardTile) {
             logger.debug("Word '{}' rejected - doesn't connect to existing board tiles", word);
-            return null;
+            return false;
         }
         
         // Additional Scrabble rule validation: if placing a word that uses existing board tiles,
         // ensure the word placement makes logical sense (consecutive tiles)
-        if (!usedBoardTiles.isEmpty()) {
-            // Validate that the word forms a proper consecutive sequence
-            // and doesn't create invalid intersections with existing tiles
-            if (!validateScrabbleWordPlacement(word, startPos, boardTiles)) {
-                logger.debug("Word '{}' rejected - violates Scrabble placement rules", word);
-                return null;
+        if (usedAtLeastOneBoardTile && !validateScrabbleWordPlacement(word, startPos, board)) {
+            logger.debug("Word '{}' rejected - violates Scrabble placement rules", word);
+            return false;
+        }
+
+        // CRITICAL: Validate the complete word formed (including tiles before and after)
+        // This prevents invalid words like "ATLOPHO" when placing "LOP" between "AT" and "PHO"
+        String completeWord = extractCompleteWordFormed(word, startPos, board);
+        if (!completeWord.equals(word)) {
+            // Word extends existing tiles - validate complete word is also valid
+            if (!englishDictionaryService.isValidWord(completeWord)) {
+                logger.debug("Rejecting '{}' at position {} - forms invalid complete word '{}'",
+                    word, startPos, completeWord);
+                return false;
             }
+            logger.debug("Validated complete word '{}' formed by placing '{}' at position {}",
+                completeWord, word, startPos);
         }
         
-        // Calculate score
-        int score = calculateWordScore(word);
-        
-        logger.debug("Valid word placement found: '{}' at positions {} (startPos={}) using hand tiles {} and board tiles {}",
-                   word, positions, startPos, usedHandTiles, usedBoardTiles);
-        
-        return new WordFinderResponse.PossibleWord(
-                word, score, positions, usedHandTiles, usedBoardTiles);
+        logger.debug("Valid word placement found: '{}' at position {}", word, startPos);
+        return true;
     }
     
     private int calculateWordScore(String word) {
         return ScrabbleScoreUtil.calculateWordScore(word);
     }
     
+    private int calculateWordScore(char[] letters, int length) {
+        int score = 0;
+        for (int i = 0; i < length; i++) {
+            score += ScrabbleScoreUtil.getLetterScore(letters[i]);
+        }
+        return score;
+    }
+    
     /**
      * Converts internal 0-based positions to user-friendly 1-based positions
      */
@@ -316,217 +364,34 @@ public class WordFinderServiceImpl implements WordFinderService {
     
     /**
      * Validates that a word placement follows Scrabble rules for using existing board tiles.
-     * Key rules:
-     * 1. Existing board tiles must be used consecutively (no gaps)
-     * 2. All existing tiles in the word range must match the word characters
-     * 3. The word must form a valid consecutive sequence with existing tiles
+     * Every placed letter has already been matched against the board, so the tiles a word covers
+     * are always used consecutively. What remains is "tile skipping": a word may not start in the
+     * middle of a run of board tiles.
+     *
+     * Example: Board has P-H-O at positions 2-3-4
+     *   - PHONE at position 2: uses P-H-O consecutively - VALID
+     *   - HOSE at position 3: uses H-O but skips P - INVALID
      */
-    private boolean validateScrabbleWordPlacement(String word, int startPos, List<String> boardTiles) {
-        // Collect information about existing tiles in the word placement range
-        List<Integer> existingTilePositions = new ArrayList<>();
-        List<Character> existingTileChars = new ArrayList<>();
-
-        // First pass: identify all existing board tiles in the placement range
-        for (int i = 0; i < word.length(); i++) {
-            int boardPos = startPos + i;
-            char wordChar = word.charAt(i);
-
-            // If this position has an existing board tile
-            if (boardPos < boardTiles.size() && !boardTiles.get(boardPos).isEmpty()) {
-                String boardTile = boardTiles.get(boardPos).toUpperCase();
-                String expectedChar = String.valueOf(wordChar).toUpperCase();
-
-                // Board tile must match the word character exactly
-                if (!boardTile.equals(expectedChar)) {
-                    logger.debug("Scrabble rule violation: position {} has '{}' but word '{}' needs '{}'",
-                               boardPos, boardTile, word, expectedChar);
-                    return false;
-                }
-
-                existingTilePositions.add(boardPos);
-                existingTileChars.add(boardTile.charAt(0));
-            }
+    private boolean validateScrabbleWordPlacement(String word, int startPos, Board board) {
+        if (board.isOccupied(0, startPos) && board.rowRunStart(0, startPos) < startPos) {
+            logger.debug("Scrabble rule violation: word '{}' at position {} skips beginning of tile run starting at {}",
+                       word, startPos, board.rowRunStart(0, startPos));
+            return false;
         }
-
-        // If there are existing tiles, validate they form a consecutive sequence
-        if (!existingTilePositions.isEmpty()) {
-            // Check that existing tiles are consecutive (no gaps between them)
-            for (int i = 1; i < existingTilePositions.size(); i++) {
-                int prevPos = existingTilePositions.get(i - 1);
-                int currPos = existingTilePositions.get(i);
-
-                // Check if there's a gap (more than 1 position apart)
-                if (currPos - prevPos > 1) {
-                    // There's a gap - check if the word uses positions in between
-                    // This is allowed only if we're filling the gap with hand tiles
-                    boolean hasHandTileInGap = false;
-                    for (int gapPos = prevPos + 1; gapPos < currPos; gapPos++) {
-                        int wordIndex = gapPos - startPos;
-                        if (wordIndex >= 0 && wordIndex < word.length()) {
-                            hasHandTileInGap = true;
-                            break;
-                        }
-                    }
-
-                    if (!hasHandTileInGap) {
-                        logger.debug("Scrabble rule violation: word '{}' has non-consecutive existing tiles (gap between positions {} and {})",
-                                   word, prevPos, currPos);
-                        return false;
-                    }
-                }
-            }
-
-            // Validate that existing tiles form a substring of the word
-            String existingSequence = existingTileChars.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining());
-
-            // Find where in the word the existing tiles should appear
-            int firstExistingPos = existingTilePositions.get(0);
-            int wordStartIndex = firstExistingPos - startPos;
-
-            // Extract the corresponding substring from the word
-            StringBuilder wordSubstring = new StringBuilder();
-            for (int pos : existingTilePositions) {
-                int wordIndex = pos - startPos;
-                if (wordIndex >= 0 && wordIndex < word.length()) {
-                    wordSubstring.append(word.charAt(wordIndex));
-                }
-            }
-
-            // The extracted characters must match the existing tiles exactly
-            if (!existingSequence.equalsIgnoreCase(wordSubstring.toString())) {
-                logger.debug("Scrabble rule violation: existing tiles '{}' don't match word substring '{}'",
-                           existingSequence, wordSubstring);
-                return false;
-            }
-
-            // Additional validation: ensure existing tiles appear consecutively in the WORD itself
-            // For example, if board has P-H-O at positions 2-3-4, and we're placing "HOSE" at position 3,
-            // the word "HOSE" uses H-O but not P, which means it's skipping P (invalid)
-
-            // Get the range of board tiles
-            int minExistingPos = existingTilePositions.get(0);
-            int maxExistingPos = existingTilePositions.get(existingTilePositions.size() - 1);
-
-            // Critical validation: Check for "tile skipping" within consecutive board tile sets
-            // Rule: If a word uses tiles from a consecutive board tile set, it cannot skip
-            // any tiles from that set that fall within the word's placement range.
-            //
-            // Example: Board has P-H-O at positions 2-3-4 (consecutive set)
-            //   - PHONE at position 2: uses P-H-O consecutively ✅ VALID
-            //   - HOSE at position 3: uses H-O but skips P ❌ INVALID (P is before word start)
-            //   - THOSE at position 2: uses only H-O, skipping P in between ❌ INVALID
-
-            for (BoardTileSet tileSet : findBoardTileSets(boardTiles)) {
-                int wordEndPos = startPos + word.length() - 1;
-
-                // Check if word's range overlaps with this tile set
-                boolean wordOverlapsSet = (startPos <= tileSet.end && wordEndPos >= tileSet.start);
-
-                if (!wordOverlapsSet) {
-                    continue; // No overlap, skip this tile set
-                }
-
-                // Word overlaps with this tile set
-                // Calculate the range of overlap
-                int overlapStart = Math.max(startPos, tileSet.start);
-                int overlapEnd = Math.min(wordEndPos, tileSet.end);
-
-                // Count how many tiles from this set the word uses
-                int tilesUsedFromSet = 0;
-                for (int pos = overlapStart; pos <= overlapEnd; pos++) {
-                    if (existingTilePositions.contains(pos)) {
-                        tilesUsedFromSet++;
-                    }
-                }
-
-                // Calculate expected number of tiles in overlap range
-                int tilesInOverlapRange = overlapEnd - overlapStart + 1;
-
-                // If word uses ANY tiles from this set in the overlap range, it must use ALL of them
-                if (tilesUsedFromSet > 0 && tilesUsedFromSet < tilesInOverlapRange) {
-                    logger.debug("Scrabble rule violation: word '{}' at position {} overlaps tile set [{}-{}] " +
-                               "(overlap range [{}-{}]) but only uses {} out of {} tiles (skipping tiles)",
-                               word, startPos, tileSet.start, tileSet.end,
-                               overlapStart, overlapEnd, tilesUsedFromSet, tilesInOverlapRange);
-                    return false;
-                }
-
-                // Additional check: If word uses tiles from this set, but starts AFTER the set starts,
-                // it means we're skipping the beginning of the set (like HOSE skipping P in P-H-O)
-                if (tilesUsedFromSet > 0 && startPos > tileSet.start && startPos <= tileSet.end) {
-                    logger.debug("Scrabble rule violation: word '{}' at position {} skips beginning of tile set [{}-{}] " +
-                               "(set starts at {} but word starts at {})",
-                               word, startPos, tileSet.start, tileSet.end, tileSet.start, startPos);
-                    return false;
-                }
-            }
-        }
-
         return true;
     }
     
     /**
-     * Finds consecutive sets of board tiles (non-empty tiles that are adjacent)
+     * Checks if a word placement overlaps or is directly next to any board tile
      */
-    private List<BoardTileSet> findBoardTileSets(List<String> boardTiles) {
-        List<BoardTileSet> tileSets = new ArrayList<>();
-        int currentSetStart = -1;
-        
-        for (int i = 0; i < boardTiles.size(); i++) {
-            boolean hasLetter = i < boardTiles.size() && !boardTiles.get(i).isEmpty();
-            
-            if (hasLetter && currentSetStart == -1) {
-                // Starting a new set
-                currentSetStart = i;
-            } else if (!hasLetter && currentSetStart != -1) {
-                // Ending current set
-                tileSets.add(new BoardTileSet(currentSetStart, i - 1));
-                currentSetStart = -1;
+    private boolean overlapsOrTouchesTiles(int wordStart, int wordEnd, Board board) {
+        int from = Math.max(0, wordStart - 1);
+        int to = Math.min(board.cols() - 1, wordEnd + 1);
+        for (int i = from; i <= to; i++) {
+            if (board.isOccupied(0, i)) {
+                return true;
             }
         }
-        
-        // Handle set that ends at the last position
-        if (currentSetStart != -1) {
-            tileSets.add(new BoardTileSet(currentSetStart, boardTiles.size() - 1));
-        }
-        
-        return tileSets;
-    }
-    
-    /**
-     * Checks if a word placement overlaps or connects to an existing tile set
-     */
-    private boolean wordOverlapsOrConnectsToSet(int wordStart, int wordEnd, BoardTileSet tileSet) {
-        // Word overlaps with tile set
-        if ((wordStart <= tileSet.end && wordEnd >= tileSet.start)) {
-            return true;
-        }
-        
-        // Word connects adjacent to tile set (no gap)
-        if (wordEnd == tileSet.start - 1 || wordStart == tileSet.end + 1) {
-            return true;
-        }
-        
         return false;
     }
-    
-    /**
-     * Represents a set of consecutive board tiles
-     */
-    private static class BoardTileSet {
-        final int start;
-        final int end;
-        
-        BoardTileSet(int start, int end) {
-            this.start = start;
-            this.end = end;
-        }
-        
-        @Override
-        public String toString() {
-            return String.format("BoardTileSet[%d-%d]", start, end);
-        }
-    }
-}
\ No newline at end of file
+}
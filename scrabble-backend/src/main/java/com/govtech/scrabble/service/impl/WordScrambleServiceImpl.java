@@ -3,21 +3,33 @@ package com.govtech.scrabble.service.impl;
 import com.govtech.scrabble.config.ScrabbleProperties;
 import com.govtech.scrabble.dto.ScrambleCheckResponse;
 import com.govtech.scrabble.dto.ScrambleResponse;
+import com.govtech.scrabble.lexicon.AnagramIndex;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.lexicon.WordWeighting;
+import com.govtech.scrabble.scramble.ScramblePuzzlePool;
+import com.govtech.scrabble.scramble.ScrambleSessionStore;
+import com.govtech.scrabble.scramble.ScrambleTokenCodec;
 import com.govtech.scrabble.service.EnglishDictionaryService;
 import com.govtech.scrabble.service.ScrabbleDictionary;
 import com.govtech.scrabble.service.ScrabbleService;
 import com.govtech.scrabble.service.WordScrambleService;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class WordScrambleServiceImpl implements WordScrambleService {
 
     private static final Logger logger = LoggerFactory.getLogger(WordScrambleServiceImpl.class);
+    private static final String ANY_DIFFICULTY = "any";
+    // Draws spent looking for a word whose letters spell nothing else before settling for any word
+    private static final int UNIQUE_ANAGRAM_ATTEMPTS = 5;
     private static final Map<String, String> CATEGORY_HINTS = Map.of(
         "BUSINESS", "Related to work and commerce",
         "COMPUTER", "Electronic device for processing data",
@@ -29,19 +41,25 @@ public class WordScrambleServiceImpl implements WordScrambleService {
     private final ScrabbleDictionary scrabbleDictionary;
     private final EnglishDictionaryService englishDictionaryService;
     private final ScrabbleService scrabbleService;
+    private final ScrambleSessionStore activeScrambles;
+    private final ScrambleTokenCodec tokenCodec;
 
     public WordScrambleServiceImpl(ScrabbleProperties scrabbleProperties,
                                  ScrabbleDictionary scrabbleDictionary,
                                  EnglishDictionaryService englishDictionaryService,
-                                 ScrabbleService scrabbleService) {
+                                 ScrabbleService scrabbleService,
+                                 ScrambleSessionStore activeScrambles,
+                                 ScrambleTokenCodec tokenCodec) {
         this.scrabbleProperties = scrabbleProperties;
         this.scrabbleDictionary = scrabbleDictionary;
         this.englishDictionaryService = englishDictionaryService;
         this.scrabbleService = scrabbleService;
+        this.activeScrambles = activeScrambles;
+        this.tokenCodec = tokenCodec;
     }
     
     private final Random random = new Random();
-    private final Map<String, String> activeScrambles = new ConcurrentHashMap<>();
+    private volatile ScramblePuzzlePool puzzlePool;
     
     public boolean isScrambleEnabled() {
         return scrabbleProperties.getScramble().isEnabled();
@@ -56,27 +74,89 @@ public class WordScrambleServiceImpl implements WordScrambleService {
             throw new IllegalStateException("Word scramble feature is disabled");
         }
         
+        // Take a ready puzzle from the pool; build one here only if the pool is empty or off
+        String poolKey = poolKey(difficulty);
+        ScramblePuzzlePool pool = puzzlePool;
+        ScramblePuzzlePool.Puzzle puzzle = pool != null ? pool.poll(poolKey) : null;
+        if (puzzle == null) {
+            puzzle = createPuzzle(poolKey);
+        }
+        String originalWord = puzzle.word();
+        String scrambledWord = puzzle.scrambled();
+        
+        String sessionId;
+        if (tokenCodec.isEnabled()) {
+            // Stateless: the answer travels in the signed token
+            sessionId = tokenCodec.issue(originalWord);
+        } else {
+            sessionId = generateSessionId();
+            activeScrambles.put(sessionId, originalWord);
+        }
+        
+        List<Character> availableLetters = new ArrayList<>();
+        for (char c : originalWord.toCharArray()) {
+            availableLetters.add(c);
+        }
+        
+        logger.debug("Generated scramble for word '{}': '{}'", originalWord, scrambledWord);
+        
+        ScrambleResponse response = new ScrambleResponse(
+            scrambledWord,
+            null, // Don't expose the original word to client
+            availableLetters,
+            originalWord.length(),
+            puzzle.difficulty(),
+            puzzle.hint()
+        );
+        
+        response.setOriginalWord(sessionId); // Use session ID instead of actual word
+        
+        return response;
+    }
+    
+    /**
+     * Pool key for a requested difficulty: the configured level, or "any" for the full length range.
+     */
+    private String poolKey(String difficulty) {
+        if (difficulty != null) {
+            String level = difficulty.toLowerCase();
+            if (scrabbleProperties.getScramble().getDifficultyLevels().containsKey(level)) {
+                return level;
+            }
+        }
+        return ANY_DIFFICULTY;
+    }
+    
+    /**
+     * Pick a word for the pool key and shuffle it. Runs on the pool's producer thread, or on the
+     * request thread when no pooled puzzle is available.
+     */
+    private ScramblePuzzlePool.Puzzle createPuzzle(String poolKey) {
         int minLength = scrabbleProperties.getScramble().getWordLength().getMin();
         int maxLength = scrabbleProperties.getScramble().getWordLength().getMax();
+        WordWeighting weighting = WordWeighting.UNIFORM;
         
-        if (difficulty != null) {
-            ScrabbleProperties.DifficultyLevel difficultyLevel = 
-                scrabbleProperties.getScramble().getDifficultyLevels().get(difficulty.toLowerCase());
-            
-            if (difficultyLevel != null) {
-                minLength = Math.max(difficultyLevel.getMin(), scrabbleProperties.getScramble().getWordLength().getMin());
-                maxLength = Math.min(difficultyLevel.getMax(), scrabbleProperties.getScramble().getWordLength().getMax());
+        ScrabbleProperties.DifficultyLevel difficultyLevel = 
+            scrabbleProperties.getScramble().getDifficultyLevels().get(poolKey);
+        if (difficultyLevel != null) {
+            minLength = Math.max(difficultyLevel.getMin(), scrabbleProperties.getScramble().getWordLength().getMin());
+            maxLength = Math.min(difficultyLevel.getMax(), scrabbleProperties.getScramble().getWordLength().getMax());
+            if (difficultyLevel.getWeighting() != null) {
+                weighting = difficultyLevel.getWeighting();
             }
         }
         
         // Use custom ScrabbleDictionary if loaded, otherwise fall back to EnglishDictionaryService
         String originalWord;
+        long dictionaryVersion = 0;
         try {
             com.govtech.scrabble.service.FeatureAwareDictionaryAdapter.setFeatureContext("WORD_SCRAMBLE");
 
             if (scrabbleDictionary.isLoaded()) {
                 logger.debug("Using ScrabbleDictionary for word scramble");
-                originalWord = getRandomWordFromScrabbleDictionary(minLength, maxLength);
+                ScrabbleDictionary.Snapshot current = scrabbleDictionary.getSnapshot();
+                dictionaryVersion = current.version();
+                originalWord = getRandomWordFromScrabbleDictionary(current, minLength, maxLength, weighting);
             } else {
                 logger.debug("Falling back to EnglishDictionaryService for word scramble");
                 originalWord = englishDictionaryService.getRandomWord(minLength, maxLength);
@@ -91,31 +171,53 @@ public class WordScrambleServiceImpl implements WordScrambleService {
             scrambledWord = scrambleWord(originalWord);
         }
         
-        String sessionId = generateSessionId();
-        activeScrambles.put(sessionId, originalWord);
-        
-        List<Character> availableLetters = new ArrayList<>();
-        for (char c : originalWord.toCharArray()) {
-            availableLetters.add(c);
+        return new ScramblePuzzlePool.Puzzle(originalWord, scrambledWord, generateHint(originalWord),
+            determineDifficulty(originalWord.length()), dictionaryVersion, System.nanoTime());
+    }
+    
+    /**
+     * Once the application is up, wait for the custom dictionary's startup load before filling
+     * the puzzle pools, so they are never filled from the LanguageTool fallback.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedulePuzzlePool() {
+        scrabbleDictionary.whenLoadFinished().thenRun(this::startPuzzlePool);
+    }
+    
+    /**
+     * Start filling the puzzle pools, if enabled and the custom dictionary is loaded. Without it
+     * every puzzle is built on request.
+     */
+    public synchronized void startPuzzlePool() {
+        ScrabbleProperties.Pool poolConfig = scrabbleProperties.getScramble().getPool();
+        if (!isScrambleEnabled() || poolConfig == null || !poolConfig.isEnabled() || puzzlePool != null) {
+            return;
         }
-        
-        String hint = generateHint(originalWord);
-        String difficultyLevel = determineDifficulty(originalWord.length());
-        
-        logger.debug("Generated scramble for word '{}': '{}'", originalWord, scrambledWord);
-        
-        ScrambleResponse response = new ScrambleResponse(
-            scrambledWord,
-            null, // Don't expose the original word to client
-            availableLetters,
-            originalWord.length(),
-            difficultyLevel,
-            hint
-        );
-        
-        response.setOriginalWord(sessionId); // Use session ID instead of actual word
-        
-        return response;
+        if (!scrabbleDictionary.isLoaded()) {
+            logger.info("Custom dictionary not loaded - scramble puzzles are built on request");
+            return;
+        }
+        List<String> keys = new ArrayList<>(scrabbleProperties.getScramble().getDifficultyLevels().keySet());
+        keys.add(ANY_DIFFICULTY);
+        ScramblePuzzlePool pool = new ScramblePuzzlePool(keys, this::createPuzzle,
+            () -> scrabbleDictionary.getSnapshot().version(), poolConfig.getTargetSize(), poolConfig.getRefillBelow());
+        puzzlePool = pool;
+        pool.start();
+        logger.info("Scramble puzzle pools started for {} (target size {}, refill below {})",
+            keys, poolConfig.getTargetSize(), poolConfig.getRefillBelow());
+    }
+    
+    @PreDestroy
+    public void stopPuzzlePool() {
+        ScramblePuzzlePool pool = puzzlePool;
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+    
+    public Map<String, Object> getPuzzlePoolStatistics() {
+        ScramblePuzzlePool pool = puzzlePool;
+        return pool != null ? pool.getStatistics() : Map.of("running", false);
     }
     
     public ScrambleResponse reshuffleScramble(String sessionId) {
@@ -123,7 +225,7 @@ public class WordScrambleServiceImpl implements WordScrambleService {
             throw new IllegalStateException("Word scramble feature is disabled");
         }
         
-        String originalWord = activeScrambles.get(sessionId);
+        String originalWord = findSession(sessionId);
         if (originalWord == null) {
             throw new IllegalArgumentException("Invalid or expired scramble session");
         }
@@ -158,22 +260,28 @@ public class WordScrambleServiceImpl implements WordScrambleService {
             throw new IllegalStateException("Word scramble feature is disabled");
         }
         
-        String originalWord = activeScrambles.get(sessionId);
+        String originalWord = findSession(sessionId);
         if (originalWord == null) {
             return new ScrambleCheckResponse(false, userAnswer, null, 0, "Invalid or expired scramble session");
         }
         
         String normalizedAnswer = userAnswer != null ? userAnswer.toUpperCase().trim() : "";
-        boolean isCorrect = originalWord.equals(normalizedAnswer);
+        boolean exactMatch = originalWord.equals(normalizedAnswer);
+        boolean isCorrect = exactMatch || isOtherAnagram(originalWord, normalizedAnswer);
         
         int score = 0;
         String message;
         
         if (isCorrect) {
-            score = scrabbleService.calculateScore(originalWord).getTotalScore();
-            message = "Congratulations! You unscrambled the word correctly!";
-            activeScrambles.remove(sessionId);
-            logger.debug("User correctly unscrambled word '{}' with score {}", originalWord, score);
+            // Only the node that removes the session scores it, so a shared session is won once
+            if (!tokenCodec.isEnabled() && !activeScrambles.remove(sessionId)) {
+                return new ScrambleCheckResponse(false, normalizedAnswer, null, 0, "Invalid or expired scramble session");
+            }
+            score = scrabbleService.calculateScore(normalizedAnswer).getTotalScore();
+            message = exactMatch
+                ? "Congratulations! You unscrambled the word correctly!"
+                : "Congratulations! " + normalizedAnswer + " is also a valid word from these letters!";
+            logger.debug("User correctly unscrambled word '{}' as '{}' with score {}", originalWord, normalizedAnswer, score);
         } else {
             message = "Incorrect! Try again or get a new scramble.";
             logger.debug("User provided incorrect answer '{}' for word '{}'", normalizedAnswer, originalWord);
@@ -182,12 +290,50 @@ public class WordScrambleServiceImpl implements WordScrambleService {
         return new ScrambleCheckResponse(isCorrect, normalizedAnswer, originalWord, score, message);
     }
     
+    /**
+     * Whether an answer uses exactly the puzzle's letters and is itself a word: one signature
+     * comparison and one lexicon lookup, from the same word list the puzzles are drawn from.
+     */
+    private boolean isOtherAnagram(String originalWord, String answer) {
+        if (answer.length() != originalWord.length()
+            || !AnagramIndex.signatureOf(answer).equals(AnagramIndex.signatureOf(originalWord))) {
+            return false;
+        }
+        if (scrabbleDictionary.isLoaded()) {
+            return scrabbleDictionary.getSnapshot().isValidWord(answer);
+        }
+        Dawg lexicon = englishDictionaryService.getLexicon();
+        return lexicon != null && lexicon.contains(answer);
+    }
+    
     public void clearSession(String sessionId) {
-        activeScrambles.remove(sessionId);
+        // Tokens cannot be revoked; they lapse when they expire
+        if (!tokenCodec.isEnabled()) {
+            activeScrambles.remove(sessionId);
+        }
+    }
+    
+    /**
+     * @return the answer for a session id or token, or null if it is unknown, invalid or expired
+     */
+    private String findSession(String sessionId) {
+        return tokenCodec.isEnabled() ? tokenCodec.verify(sessionId) : activeScrambles.get(sessionId);
     }
     
     public int getActiveSessionsCount() {
-        return activeScrambles.size();
+        return (int) activeScrambles.size();
+    }
+    
+    public Map<String, Object> getSessionStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (tokenCodec.isEnabled()) {
+            stats.put("mode", "token");
+            stats.putAll(tokenCodec.getStatistics());
+        } else {
+            stats.put("mode", "server");
+            stats.putAll(activeScrambles.getStatistics());
+        }
+        return stats;
     }
     
     private String scrambleWord(String word) {
@@ -235,36 +381,41 @@ public class WordScrambleServiceImpl implements WordScrambleService {
         return "medium";
     }
     
+    /**
+     * Full random UUID (122 random bits): session ids share one key space across every node of a
+     * shared session store, where a truncated id would collide at realistic session counts.
+     */
     private String generateSessionId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        return UUID.randomUUID().toString();
     }
 
     /**
-     * Get a random word from the custom Scrabble dictionary within the specified length range.
+     * Get a random word from a version of the custom Scrabble dictionary within the specified length range.
+     * @param current dictionary version to draw from
      * @param minLength minimum word length
      * @param maxLength maximum word length
+     * @param weighting how likely each word is to be picked
      * @return random word from the dictionary
      */
-    private String getRandomWordFromScrabbleDictionary(int minLength, int maxLength) {
-        List<String> eligibleWords = new ArrayList<>();
-
-        // Collect all words within the length range
-        for (int len = minLength; len <= maxLength; len++) {
-            Set<String> wordsOfLength = scrabbleDictionary.getWordsByLength(len);
-            eligibleWords.addAll(wordsOfLength);
+    private String getRandomWordFromScrabbleDictionary(ScrabbleDictionary.Snapshot current, int minLength, int maxLength,
+                                                      WordWeighting weighting) {
+        // O(1) picks from the dictionary version's per-length word arrays, preferring a word with
+        // no other anagram so the scramble has a single answer
+        String word = null;
+        for (int attempt = 0; attempt < UNIQUE_ANAGRAM_ATTEMPTS; attempt++) {
+            word = current.getRandomWord(minLength, maxLength, weighting, ThreadLocalRandom.current());
+            if (word == null || current.countAnagrams(word) <= 1) {
+                break;
+            }
         }
 
-        if (eligibleWords.isEmpty()) {
+        if (word == null) {
             logger.warn("No words found in custom dictionary for length range {}-{}, falling back to EnglishDictionaryService",
                 minLength, maxLength);
             return englishDictionaryService.getRandomWord(minLength, maxLength);
         }
 
-        // Select a random word
-        int randomIndex = random.nextInt(eligibleWords.size());
-        String word = eligibleWords.get(randomIndex).toUpperCase();
-
         logger.debug("Selected random word '{}' from custom dictionary (length: {})", word, word.length());
         return word;
     }
-}
\ No newline at end of file
+}
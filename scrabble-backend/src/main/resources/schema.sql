@@ -62,12 +62,22 @@ CREATE TABLE IF NOT EXISTS word_generation_history (
     user_session VARCHAR(255)
 );
 
+-- Scramble game sessions, when shared between nodes (scrabble.scramble.sessions.store=jdbc)
+CREATE TABLE IF NOT EXISTS scramble_sessions (
+    session_id VARCHAR(64) PRIMARY KEY,
+    word VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_accessed TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Create indexes for performance
 CREATE INDEX IF NOT EXISTS idx_scores_points ON scores(points DESC);
 CREATE INDEX IF NOT EXISTS idx_scores_created_at ON scores(created_at DESC);
 CREATE INDEX IF NOT EXISTS idx_dictionary_cache_source ON dictionary_cache(dictionary_source);
 CREATE INDEX IF NOT EXISTS idx_dictionary_cache_accessed ON dictionary_cache(last_accessed DESC);
 
+CREATE INDEX IF NOT EXISTS idx_scramble_sessions_accessed ON scramble_sessions(last_accessed);
+
 -- Indexes for board_states table
 CREATE INDEX IF NOT EXISTS idx_board_states_user_session ON board_states(user_session);
 CREATE INDEX IF NOT EXISTS idx_board_states_created_at ON board_states(created_at);
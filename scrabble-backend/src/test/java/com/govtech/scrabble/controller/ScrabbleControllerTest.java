@@ -1,6 +1,8 @@
 package com.govtech.scrabble.controller;
 
 import com.govtech.scrabble.controller.impl.ScrabbleControllerImpl;
+import com.govtech.scrabble.dto.BatchValidateRequest;
+import com.govtech.scrabble.dto.BatchValidateResponse;
 import com.govtech.scrabble.dto.CalculateScoreRequest;
 import com.govtech.scrabble.dto.CalculateScoreResponse;
 import com.govtech.scrabble.dto.ScoreRequest;
@@ -369,4 +371,32 @@ class ScrabbleControllerTest {
         assertEquals(0, response.getBody().size());
         verify(scrabbleService, times(1)).getTopScores();
     }
+
+    @Test
+    void testValidateWords() {
+        List<String> words = Arrays.asList("hello", "HELLO", "zxqy");
+        BatchValidateResponse mockResponse = new BatchValidateResponse(List.of(
+                new CalculateScoreResponse("HELLO", 0, true, null),
+                new CalculateScoreResponse("ZXQY", 0, false, "Word not found in dictionary")), 3, 2, 1);
+        when(scrabbleService.validateWords(words)).thenReturn(mockResponse);
+
+        ResponseEntity<BatchValidateResponse> response = scrabbleController.validateWords(new BatchValidateRequest(words));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(2, response.getBody().getDistinctCount());
+        assertEquals(1, response.getBody().getValidCount());
+        verify(inputValidationService, times(3)).validateWord(anyString());
+    }
+
+    @Test
+    void testValidateWords_WithInvalidWord_ValidationException() {
+        doNothing().when(inputValidationService).validateWord(anyString());
+        doThrow(new IllegalArgumentException("Word must contain only alphabetic characters (A-Z)"))
+                .when(inputValidationService).validateWord("c4t");
+
+        assertThrows(IllegalArgumentException.class, () ->
+                scrabbleController.validateWords(new BatchValidateRequest(Arrays.asList("cat", "c4t"))));
+
+        verify(scrabbleService, never()).validateWords(any());
+    }
 }
\ No newline at end of file
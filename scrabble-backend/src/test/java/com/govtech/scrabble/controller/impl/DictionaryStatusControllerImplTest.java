@@ -0,0 +1,103 @@
+package com.govtech.scrabble.controller.impl;
+
+import com.govtech.scrabble.config.ScrabbleDictionaryConfig;
+import com.govtech.scrabble.service.EnglishDictionaryService;
+import com.govtech.scrabble.service.ScrabbleDictionary;
+import com.govtech.scrabble.service.StartupCoordinator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DictionaryStatusControllerImplTest {
+
+    @Mock
+    private EnglishDictionaryService englishDictionaryService;
+
+    @Mock
+    private ScrabbleDictionary scrabbleDictionary;
+
+    @Mock
+    private StartupCoordinator startupCoordinator;
+
+    @InjectMocks
+    private DictionaryStatusControllerImpl dictionaryStatusController;
+
+    @Test
+    void testGetStats_CombinesBothDictionaries() {
+        when(englishDictionaryService.getStatistics()).thenReturn(Map.of("validatorPool", Map.of("maxSize", 4)));
+        when(scrabbleDictionary.getStatistics()).thenReturn(Map.of("totalWords", 569));
+        when(startupCoordinator.getStatistics()).thenReturn(Map.of("ready", true));
+
+        ResponseEntity<Map<String, Object>> response = dictionaryStatusController.getStats();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertNotNull(response.getBody());
+        assertEquals(Map.of("validatorPool", Map.of("maxSize", 4)), response.getBody().get("languageTool"));
+        assertEquals(Map.of("totalWords", 569), response.getBody().get("customDictionary"));
+        assertEquals(Map.of("ready", true), response.getBody().get("startup"));
+        verify(englishDictionaryService, times(1)).getStatistics();
+        verify(scrabbleDictionary, times(1)).getStatistics();
+    }
+
+    @Test
+    void testReload_RejectedWhenEndpointDisabled() {
+        when(scrabbleDictionary.getConfig()).thenReturn(new ScrabbleDictionaryConfig());
+
+        ResponseEntity<Map<String, Object>> response = dictionaryStatusController.reload(false);
+
+        assertEquals(403, response.getStatusCode().value());
+        verify(scrabbleDictionary, never()).reload();
+    }
+
+    @Test
+    void testReload_StartsInBackgroundOrWaits() {
+        ScrabbleDictionaryConfig config = new ScrabbleDictionaryConfig();
+        config.getReload().setEndpointEnabled(true);
+        ScrabbleDictionary.Snapshot current = mock(ScrabbleDictionary.Snapshot.class);
+        ScrabbleDictionary.Snapshot reloaded = mock(ScrabbleDictionary.Snapshot.class);
+        when(current.version()).thenReturn(1L);
+        when(reloaded.version()).thenReturn(2L);
+        when(reloaded.getWordCount()).thenReturn(600);
+        when(scrabbleDictionary.getConfig()).thenReturn(config);
+        when(scrabbleDictionary.getSnapshot()).thenReturn(current);
+        when(scrabbleDictionary.reload())
+                .thenReturn(new CompletableFuture<>())
+                .thenReturn(CompletableFuture.completedFuture(reloaded));
+
+        ResponseEntity<Map<String, Object>> started = dictionaryStatusController.reload(false);
+        assertEquals(202, started.getStatusCode().value());
+        assertEquals("reloading", started.getBody().get("status"));
+        assertEquals(1L, started.getBody().get("currentVersion"));
+
+        ResponseEntity<Map<String, Object>> finished = dictionaryStatusController.reload(true);
+        assertEquals(200, finished.getStatusCode().value());
+        assertEquals(2L, finished.getBody().get("version"));
+        assertEquals(600, finished.getBody().get("totalWords"));
+    }
+
+    @Test
+    void testReload_ReportsFailure() {
+        ScrabbleDictionaryConfig config = new ScrabbleDictionaryConfig();
+        config.getReload().setEndpointEnabled(true);
+        ScrabbleDictionary.Snapshot current = mock(ScrabbleDictionary.Snapshot.class);
+        when(scrabbleDictionary.getConfig()).thenReturn(config);
+        when(scrabbleDictionary.getSnapshot()).thenReturn(current);
+        when(scrabbleDictionary.reload()).thenReturn(CompletableFuture.failedFuture(new IOException("missing word list")));
+
+        ResponseEntity<Map<String, Object>> response = dictionaryStatusController.reload(true);
+
+        assertEquals(500, response.getStatusCode().value());
+        assertEquals("missing word list", response.getBody().get("error"));
+    }
+}
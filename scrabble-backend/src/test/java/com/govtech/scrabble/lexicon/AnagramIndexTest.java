@@ -0,0 +1,111 @@
+package com.govtech.scrabble.lexicon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnagramIndexTest {
+
+    private AnagramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = AnagramIndex.build(Arrays.asList(
+            "cat", "act", "tac", "cats", "cast", "scat", "at", "a", "tea", "eat", "ate",
+            "Seat", "east", "teas", "zebra", "don't", "", null, "cat"
+        ));
+    }
+
+    @Test
+    void testBuildNormalizesAndDeduplicates() {
+        // "don't", "", null and the duplicate "cat" are skipped
+        assertEquals(15, index.getWordCount());
+        assertTrue(index.anagramsOf("cat").contains("CAT"));
+        assertTrue(index.anagramsOf("SEAT").contains("SEAT"));
+    }
+
+    @Test
+    void testAnagramsOfReturnsWholeClass() {
+        assertEquals(List.of("ACT", "CAT", "TAC"), index.anagramsOf("tca"));
+        assertEquals(List.of("CAST", "CATS", "SCAT"), index.anagramsOf("CATS"));
+        assertTrue(index.anagramsOf("dog").isEmpty());
+        assertTrue(index.anagramsOf(null).isEmpty());
+    }
+
+    @Test
+    void testFindSubAnagramsUsesEachLetterAtMostOnce() {
+        List<String> words = index.findSubAnagrams("CATS", 2, 4);
+
+        assertTrue(words.containsAll(List.of("AT", "ACT", "CAT", "TAC", "CAST", "CATS", "SCAT")));
+        assertFalse(words.contains("A"), "Below minimum length");
+        assertFalse(words.contains("TEA"), "Needs a letter that is not available");
+    }
+
+    @Test
+    void testFindSubAnagramsRespectsLetterMultiplicity() {
+        AnagramIndex doubles = AnagramIndex.build(List.of("book", "bok", "boo"));
+
+        assertEquals(List.of("BOK"), doubles.findSubAnagrams("BOK", 1, 10));
+        assertEquals(List.of("BOK", "BOO", "BOOK"), doubles.findSubAnagrams("KOOB", 1, 10));
+    }
+
+    @Test
+    void testFindSubAnagramsRespectsLengthRange() {
+        List<String> words = index.findSubAnagrams("SEATCS", 4, 4);
+
+        assertFalse(words.isEmpty());
+        words.forEach(word -> assertEquals(4, word.length()));
+        assertTrue(index.findSubAnagrams("CATS", 5, 10).isEmpty());
+        assertTrue(index.findSubAnagrams("", 1, 10).isEmpty());
+    }
+
+    @Test
+    void testEnumerationAndScanMatchBruteForce() {
+        // Every 3-letter string over A-H: small racks are answered by enumerating
+        // sub-multisets, large racks by scanning signatures - both must match brute force
+        List<String> words = new ArrayList<>();
+        for (char a = 'a'; a <= 'h'; a++) {
+            for (char b = 'a'; b <= 'h'; b++) {
+                for (char c = 'a'; c <= 'h'; c++) {
+                    words.add("" + a + b + c);
+                }
+            }
+        }
+        AnagramIndex large = AnagramIndex.build(words);
+
+        for (String rack : List.of("ABC", "AAB", "ABCDEFGH", "AABBCCDDEEFFGGHH")) {
+            List<String> expected = words.stream()
+                .map(String::toUpperCase)
+                .filter(word -> canSpell(word, rack))
+                .sorted()
+                .toList();
+            List<String> actual = new ArrayList<>(large.findSubAnagrams(rack, 3, 3));
+            Collections.sort(actual);
+            assertEquals(expected, actual, "Rack " + rack);
+        }
+    }
+
+    @Test
+    void testResultsAreDeterministic() {
+        List<String> first = index.findSubAnagrams("TEASCAT", 2, 7);
+        List<String> second = index.findSubAnagrams("TACTEAS", 2, 7);
+
+        assertEquals(first, second);
+    }
+
+    private boolean canSpell(String word, String rack) {
+        int[] counts = AnagramIndex.letterCounts(rack);
+        for (char c : word.toCharArray()) {
+            if (--counts[c - 'A'] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package com.govtech.scrabble.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testAddedWordsAreAlwaysReported() {
+        BloomFilter filter = BloomFilter.build(List.of("cat", "dog", "quiz"), 0.01);
+
+        assertTrue(filter.mightContain("cat"));
+        assertTrue(filter.mightContain("CAT"), "Case-insensitive");
+        assertTrue(filter.mightContain("Quiz"));
+        assertEquals(3, filter.size());
+    }
+
+    @Test
+    void testSpellerListFalsePositiveRateAndMemory() throws IOException {
+        List<String> words = LanguageToolWordList.load();
+        Set<String> known = new HashSet<>(words);
+        BloomFilter filter = BloomFilter.build(words, 0.01);
+
+        for (String word : words) {
+            assertTrue(filter.mightContain(word), word);
+        }
+
+        Random random = new Random(42);
+        int absent = 0;
+        int falsePositives = 0;
+        while (absent < 100_000) {
+            char[] letters = new char[3 + random.nextInt(6)];
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = (char) ('a' + random.nextInt(26));
+            }
+            String candidate = new String(letters);
+            if (known.contains(candidate)) {
+                continue;
+            }
+            absent++;
+            if (filter.mightContain(candidate)) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / absent;
+        assertTrue(observed < 0.02, "Observed false-positive rate " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.002);
+        // About 1.2 bytes per word at 1%
+        assertTrue(filter.estimatedMemoryBytes() < words.size() * 2L,
+                "Filter uses " + filter.estimatedMemoryBytes() + " bytes");
+    }
+
+    @Test
+    void testRejectsInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.build(List.of("cat"), 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.build(List.of("cat"), 1));
+    }
+}
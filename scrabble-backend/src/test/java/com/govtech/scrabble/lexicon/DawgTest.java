@@ -0,0 +1,116 @@
+package com.govtech.scrabble.lexicon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DawgTest {
+
+    private Dawg dawg;
+
+    @BeforeEach
+    void setUp() {
+        dawg = Dawg.fromWords(Arrays.asList(
+            "cat", "cats", "car", "cart", "carts", "dog", "dogs", "at", "a",
+            "Cat", "don't", "", null
+        ));
+    }
+
+    @Test
+    void testContainsIsCaseInsensitiveAndExact() {
+        assertEquals(9, dawg.size());
+        assertTrue(dawg.contains("cat"));
+        assertTrue(dawg.contains("CARTS"));
+        assertTrue(dawg.contains("a"));
+        assertFalse(dawg.contains("ca"), "Prefix only");
+        assertFalse(dawg.contains("cartsy"));
+        assertFalse(dawg.contains("don't"));
+        assertFalse(dawg.contains(""));
+    }
+
+    @Test
+    void testPrefixWalks() {
+        assertTrue(dawg.hasPrefix("ca"));
+        assertTrue(dawg.hasPrefix("DOG"));
+        assertFalse(dawg.hasPrefix("cx"));
+        assertEquals(List.of("CAR", "CART", "CARTS", "CAT", "CATS"), dawg.wordsWithPrefix("ca"));
+        assertTrue(dawg.wordsWithPrefix("z").isEmpty());
+
+        int node = dawg.nodeFor("CAR");
+        int edge = dawg.findEdge(node, Dawg.symbolOf('T'));
+        assertTrue(edge != Dawg.NONE && dawg.isTerminal(edge));
+        assertEquals(Dawg.NONE, dawg.nodeFor("CARX"));
+    }
+
+    @Test
+    void testWordsOfLength() {
+        assertEquals(List.of("CAR", "CAT", "DOG"), dawg.wordsOfLength(3));
+        assertEquals(List.of("CARTS"), dawg.wordsOfLength(5));
+        assertTrue(dawg.wordsOfLength(6).isEmpty());
+        assertTrue(dawg.wordsOfLength(0).isEmpty());
+        assertFalse(dawg.iterateWordsOfLength(6).hasNext());
+        assertFalse(dawg.iterateWordsOfLength(0).hasNext());
+    }
+
+    @Test
+    void testBuilderRejectsUnsortedInput() {
+        Dawg.Builder builder = Dawg.builder().add("BAT");
+        assertThrows(IllegalArgumentException.class, () -> builder.add("ANT"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("BAT"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("BE-T"));
+    }
+
+    @Test
+    void testSharesSuffixesAndMatchesWordList() {
+        // Random words with heavy suffix overlap; the graph must enumerate exactly the input
+        Random random = new Random(42);
+        String[] suffixes = {"ING", "ED", "S", "ER", ""};
+        TreeSet<String> words = new TreeSet<>();
+        while (words.size() < 2000) {
+            StringBuilder stem = new StringBuilder();
+            int length = 2 + random.nextInt(5);
+            for (int i = 0; i < length; i++) {
+                stem.append((char) ('A' + random.nextInt(26)));
+            }
+            words.add(stem + suffixes[random.nextInt(suffixes.length)]);
+        }
+
+        Dawg large = Dawg.fromWords(words);
+        List<String> enumerated = new ArrayList<>();
+        large.forEachWord(enumerated::add);
+
+        assertEquals(new ArrayList<>(words), enumerated);
+        int totalLetters = words.stream().mapToInt(String::length).sum();
+        assertTrue(large.edgeCount() < totalLetters, "Minimization should share common prefixes and suffixes");
+        for (int length = 1; length <= 12; length++) {
+            final int expectedLength = length;
+            assertEquals(words.stream().filter(w -> w.length() == expectedLength).toList(),
+                large.wordsOfLength(length), "Length " + length);
+            List<String> iterated = new ArrayList<>();
+            large.iterateWordsOfLength(length).forEachRemaining(iterated::add);
+            assertEquals(large.wordsOfLength(length), iterated, "Iterated length " + length);
+        }
+    }
+
+    @Test
+    void testSpellerListIsTenTimesSmallerThanHashSet() throws Exception {
+        List<String> words = LanguageToolWordList.load();
+        Dawg speller = Dawg.fromWords(words);
+
+        assertEquals(words.size(), speller.size());
+        assertTrue(speller.contains("quartz"));
+        assertFalse(speller.contains("qzxv"));
+
+        // A HashSet<String> costs roughly 100 bytes per short word (entry, String, byte[])
+        long hashSetEstimate = 100L * words.size();
+        assertTrue(speller.estimatedMemoryBytes() * 10 < hashSetEstimate,
+            "DAWG should use under a tenth of a hash set, was " + speller.estimatedMemoryBytes() + " bytes");
+    }
+}
@@ -0,0 +1,78 @@
+package com.govtech.scrabble.lexicon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryImageTest {
+
+    private static final List<String> WORDS = Arrays.asList(
+        "game", "games", "gamer", "tile", "tiles", "board", "boards", "scrabble",
+        "cat", "extraordinarily", "don't", "Tile", "", null
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCompileFiltersAndCounts() {
+        DictionaryImage image = DictionaryImage.compile(WORDS, 4, 10);
+
+        assertEquals(8, image.getDawg().size());
+        int[] counts = image.getCountsByLength();
+        assertEquals(11, counts.length);
+        assertEquals(2, counts[4]);
+        assertEquals(4, counts[5]);
+        assertEquals(1, counts[6]);
+        assertEquals(1, counts[8]);
+        assertFalse(image.getDawg().contains("cat"), "Shorter than min length");
+        assertFalse(image.getDawg().contains("extraordinarily"), "Longer than max length");
+    }
+
+    @Test
+    void testWriteAndMapRoundTrip() throws IOException {
+        DictionaryImage compiled = DictionaryImage.compile(WORDS, 4, 10);
+        Path file = tempDir.resolve("words.dawg");
+        compiled.write(file);
+
+        DictionaryImage mapped = DictionaryImage.map(file);
+        Dawg dawg = mapped.getDawg();
+
+        assertTrue(dawg.isMapped());
+        assertFalse(compiled.getDawg().isMapped());
+        assertEquals(Files.size(file), mapped.getSizeBytes());
+        assertEquals(compiled.getSizeBytes(), mapped.getSizeBytes());
+        assertEquals(4, mapped.getMinLength());
+        assertEquals(10, mapped.getMaxLength());
+        assertArrayEquals(compiled.getCountsByLength(), mapped.getCountsByLength());
+        assertEquals(compiled.getDawg().size(), dawg.size());
+        assertEquals(compiled.getDawg().edgeCount(), dawg.edgeCount());
+
+        assertTrue(dawg.contains("SCRABBLE"));
+        assertTrue(dawg.hasPrefix("gam"));
+        assertFalse(dawg.contains("gam"));
+        assertEquals(List.of("GAME", "TILE"), dawg.wordsOfLength(4));
+        assertEquals(List.of("GAME", "GAMER", "GAMES"), dawg.wordsWithPrefix("game"));
+    }
+
+    @Test
+    void testMapRejectsForeignAndTruncatedFiles() throws IOException {
+        Path foreign = tempDir.resolve("foreign.dawg");
+        Files.write(foreign, new byte[64]);
+        assertThrows(IOException.class, () -> DictionaryImage.map(foreign));
+
+        Path image = tempDir.resolve("words.dawg");
+        DictionaryImage.compile(WORDS, 4, 10).write(image);
+        byte[] bytes = Files.readAllBytes(image);
+        Path truncated = tempDir.resolve("truncated.dawg");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(IOException.class, () -> DictionaryImage.map(truncated));
+    }
+}
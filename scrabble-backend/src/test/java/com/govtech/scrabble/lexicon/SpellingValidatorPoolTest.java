@@ -0,0 +1,55 @@
+package com.govtech.scrabble.lexicon;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.languagetool.language.AmericanEnglish;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpellingValidatorPoolTest {
+
+    private static SpellingValidatorPool pool;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new SpellingValidatorPool(new AmericanEnglish(), 2, 1, 5000);
+    }
+
+    @Test
+    void testChecksSpelling() throws Exception {
+        assertTrue(pool.isCorrectlySpelled("quartz"));
+        assertTrue(pool.isCorrectlySpelled("table"));
+        assertFalse(pool.isCorrectlySpelled("qzxv"));
+        assertFalse(pool.isCorrectlySpelled("atlopho"));
+    }
+
+    @Test
+    void testConcurrentChecksStayWithinPoolSize() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String word = i % 2 == 0 ? "friend" : "frend";
+                results.add(executor.submit(() -> pool.isCorrectlySpelled(word)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i % 2 == 0, results.get(i).get(30, TimeUnit.SECONDS), "Result " + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Object> stats = pool.getStatistics();
+        assertEquals(2, stats.get("maxSize"));
+        assertTrue((Integer) stats.get("created") <= 2, "Never more instances than the pool size");
+        assertEquals(0, stats.get("inUse"));
+        assertEquals(stats.get("created"), stats.get("idle"));
+        assertTrue((Long) stats.get("checkouts") >= 64);
+        assertEquals(0L, stats.get("timeouts"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.govtech.scrabble.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordListLoaderTest {
+
+    private static final String YAML = """
+        scrabble-dictionary:
+          version: "1.0.0"
+          min-length: 4
+          words:
+            # 4-letter words
+            - able
+            - "quiz"
+            - cat
+            - 'zebra'
+            - don't
+        """;
+
+    @Test
+    void testParsesYamlListEntries() throws IOException {
+        WordListLoader.Result result = new WordListLoader(4, 10, 1, 100).load(stream(YAML));
+        Dawg dawg = result.image().getDawg();
+
+        assertEquals(List.of("ABLE", "QUIZ", "ZEBRA"), words(dawg));
+        assertEquals(2, result.skipped(), "cat and don't are rejected; keys and comments are ignored");
+        assertEquals(YAML.getBytes(StandardCharsets.UTF_8).length, result.sourceBytes());
+        assertEquals(1, result.chunks());
+    }
+
+    @Test
+    void testParallelChunksMatchSingleChunk() throws IOException {
+        Random random = new Random(7);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            int length = 2 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                text.append((char) ('a' + random.nextInt(6)));
+            }
+            text.append(i % 97 == 0 ? "1\n" : "\n");
+        }
+
+        WordListLoader.Result single = new WordListLoader(4, 10, 1, 10_000).load(stream(text.toString()));
+        WordListLoader.Result parallel = new WordListLoader(4, 10, 4, 37).load(stream(text.toString()));
+
+        assertEquals(words(single.image().getDawg()), words(parallel.image().getDawg()));
+        assertArrayEquals(single.image().getCountsByLength(), parallel.image().getCountsByLength());
+        assertEquals(single.skipped(), parallel.skipped());
+        assertEquals(single.duplicates(), parallel.duplicates());
+        assertEquals(5000, parallel.lines());
+        assertEquals((5000 + 36) / 37, parallel.chunks());
+        assertTrue(parallel.duplicates() > 0, "Six-letter alphabet should repeat short words");
+    }
+
+    @Test
+    void testReadsGzippedText() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write("Tiles\r\nboard\n\nGAME\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        WordListLoader.Result result = new WordListLoader(4, 10, 2, 2)
+            .load(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(List.of("BOARD", "GAME", "TILES"), words(result.image().getDawg()));
+        assertEquals(bytes.size(), result.sourceBytes(), "Throughput is measured on the compressed source");
+        assertEquals(4, result.lines());
+        assertEquals(0, result.skipped());
+        assertTrue(result.megabytesPerSecond() > 0);
+        assertEquals(3, result.toStatistics().get("wordsAccepted"));
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> words(Dawg dawg) {
+        List<String> words = new ArrayList<>();
+        dawg.forEachWord(words::add);
+        return words;
+    }
+}
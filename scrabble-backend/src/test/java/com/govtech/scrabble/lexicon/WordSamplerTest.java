@@ -0,0 +1,72 @@
+package com.govtech.scrabble.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordSamplerTest {
+
+    private static final List<String> WORDS = List.of(
+        "able", "game", "tile", "quiz", "board", "tiles", "jazzy", "letters");
+
+    @Test
+    void testUniformSamplingCoversRangeEvenly() {
+        WordSampler sampler = WordSampler.build(Dawg.fromWords(WORDS));
+        Random random = new Random(11);
+
+        Map<String, Integer> picks = new HashMap<>();
+        for (int i = 0; i < 70_000; i++) {
+            picks.merge(sampler.sample(4, 5, random), 1, Integer::sum);
+        }
+
+        assertEquals(7, picks.size(), "Every 4 and 5 letter word is picked and nothing else");
+        assertFalse(picks.containsKey("LETTERS"));
+        picks.values().forEach(count -> assertEquals(10_000, count, 600));
+        assertEquals(7, sampler.count(4, 5));
+        assertEquals(8, sampler.size());
+    }
+
+    @Test
+    void testEmptyAndOutOfBoundsRanges() {
+        WordSampler sampler = WordSampler.build(Dawg.fromWords(WORDS));
+        Random random = new Random(3);
+
+        assertNull(sampler.sample(6, 6, random));
+        assertNull(sampler.sample(8, 4, random));
+        assertEquals("LETTERS", sampler.sample(6, 99, random));
+        assertEquals(0, sampler.count(6, 6));
+        assertNull(WordSampler.build(Dawg.fromWords(List.of())).sample(1, 31, random));
+    }
+
+    @Test
+    void testWeightedSamplingFollowsWeights() {
+        WordSampler sampler = WordSampler.build(Dawg.fromWords(WORDS)).weighted(WordWeighting.RARE_LETTERS);
+        Random random = new Random(5);
+
+        double total = 0;
+        Map<String, Double> weights = new HashMap<>();
+        for (String word : List.of("ABLE", "GAME", "TILE", "QUIZ", "BOARD", "TILES", "JAZZY")) {
+            weights.put(word, WordWeighting.RARE_LETTERS.weight(word));
+            total += weights.get(word);
+        }
+
+        int samples = 200_000;
+        Map<String, Integer> picks = new HashMap<>();
+        for (int i = 0; i < samples; i++) {
+            picks.merge(sampler.sample(4, 5, random), 1, Integer::sum);
+        }
+
+        for (Map.Entry<String, Double> entry : weights.entrySet()) {
+            double expected = entry.getValue() / total;
+            double actual = picks.getOrDefault(entry.getKey(), 0) / (double) samples;
+            assertEquals(expected, actual, 0.01, "Pick rate of " + entry.getKey());
+        }
+        assertTrue(picks.get("JAZZY") > picks.get("TILES"), "Rare letters are favoured");
+        assertEquals(WordWeighting.RARE_LETTERS, sampler.getWeighting());
+    }
+}
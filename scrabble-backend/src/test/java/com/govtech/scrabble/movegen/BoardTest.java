@@ -0,0 +1,79 @@
+package com.govtech.scrabble.movegen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardTest {
+
+    @Test
+    void testTilesAreNormalizedAndIndexedRowMajor() {
+        Board board = Board.of(Arrays.asList("c", " a ", null, "", "t", "", "", "", ""), 3, 3);
+
+        assertEquals('C', board.letter(0, 0));
+        assertEquals('A', board.letter(0, 1));
+        assertEquals(LineMoveGenerator.EMPTY, board.letter(0, 2));
+        assertTrue(board.isOccupied(1, 1));
+        assertFalse(board.isOccupied(1, 0));
+        assertEquals(3, board.tileCount());
+        assertTrue(board.hasTiles());
+        assertFalse(Board.of(List.of(), 2, 2).hasTiles(), "Missing tiles are empty squares");
+    }
+
+    @Test
+    void testRunBoundaries() {
+        // Row 1 reads AT.PHO; column 3 holds the vertical run X-P-Y
+        Board board = Board.of(Arrays.asList(
+            "", "", "", "X", "", "",
+            "A", "T", "", "P", "H", "O",
+            "", "", "", "Y", "", ""), 3, 6);
+
+        assertEquals(0, board.rowRunStart(1, 1));
+        assertEquals(1, board.rowRunEnd(1, 0));
+        assertEquals(3, board.rowRunStart(1, 5));
+        assertEquals(5, board.rowRunEnd(1, 3));
+        assertEquals(2, board.rowRunStart(1, 2), "Empty square is its own run");
+        assertEquals(0, board.columnRunStart(2, 3));
+        assertEquals(2, board.columnRunEnd(0, 3));
+        assertEquals(1, board.columnRunEnd(1, 4), "H has no tile above or below");
+    }
+
+    @Test
+    void testAnchorsAndLines() {
+        Board board = Board.of(new char[][] {
+            {'\0', '\0', '\0'},
+            {'\0', 'A', '\0'},
+            {'\0', '\0', '\0'}});
+
+        assertTrue(board.isAnchor(0, 1));
+        assertTrue(board.isAnchor(1, 2));
+        assertFalse(board.isAnchor(0, 0), "Diagonal neighbours do not count");
+        assertFalse(board.isAnchor(1, 1), "Occupied squares are never anchors");
+
+        char[] line = new char[3];
+        board.copyColumn(1, line);
+        assertArrayEquals(new char[] {'\0', 'A', '\0'}, line);
+        board.copyRow(1, line);
+        assertArrayEquals(new char[] {'\0', 'A', '\0'}, line);
+    }
+
+    @Test
+    void testOccupancyBeyondOneWord() {
+        // 15x15 board spans several 64-bit words of the occupancy bitset
+        String[] tiles = new String[225];
+        Arrays.fill(tiles, "");
+        tiles[63] = "Q";
+        tiles[64] = "I";
+        tiles[224] = "Z";
+        Board board = Board.of(Arrays.asList(tiles), 15, 15);
+
+        assertTrue(board.isOccupied(4, 3));
+        assertTrue(board.isOccupied(4, 4));
+        assertTrue(board.isOccupied(14, 14));
+        assertFalse(board.isOccupied(4, 5));
+        assertEquals(3, board.rowRunStart(4, 4));
+    }
+}
@@ -0,0 +1,74 @@
+package com.govtech.scrabble.movegen;
+
+import com.govtech.scrabble.lexicon.Dawg;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrossChecksTest {
+
+    private final Dawg lexicon = Dawg.fromWords(List.of("CAT", "CUT", "COT", "AT", "TA", "ZA"));
+
+    @Test
+    void testMaskAllowsOnlyLettersCompletingAWord() {
+        // Column 1 holds C above and T below row 1: only A, U and O fit between them
+        char[][] grid = grid(
+            ".C.",
+            "...",
+            ".T.");
+
+        CrossChecks horizontal = CrossChecks.compute(grid, lexicon, true);
+
+        assertEquals(bits('A', 'U', 'O'), horizontal.mask(1, 1));
+        assertEquals(3 + 1, horizontal.crossScore(1, 1), "C + T face value");
+        assertEquals(0, horizontal.mask(0, 1), "Occupied square");
+    }
+
+    @Test
+    void testSquaresWithoutNeighboursAreUnconstrained() {
+        char[][] grid = grid(
+            "...",
+            ".A.",
+            "...");
+
+        CrossChecks horizontal = CrossChecks.compute(grid, lexicon, true);
+        CrossChecks vertical = CrossChecks.compute(grid, lexicon, false);
+
+        assertEquals(LineMoveGenerator.ALL_LETTERS, horizontal.mask(1, 0), "No tile above or below");
+        assertEquals(CrossChecks.NO_CROSS_WORD, horizontal.crossScore(1, 0));
+        assertEquals(bits('Z', 'T'), vertical.mask(1, 0), "?A across: ZA and TA");
+        assertEquals(bits('T'), vertical.mask(1, 2), "A? across: AT");
+        assertEquals(bits('T'), horizontal.mask(2, 1), "A? down: AT");
+    }
+
+    @Test
+    void testDeadPrefixAllowsNothing() {
+        char[][] grid = grid(
+            "Q..",
+            "...",
+            "...");
+
+        assertEquals(0, CrossChecks.compute(grid, lexicon, true).mask(1, 0));
+    }
+
+    private static int bits(char... letters) {
+        int mask = 0;
+        for (char letter : letters) {
+            mask |= 1 << (letter - 'A');
+        }
+        return mask;
+    }
+
+    private static char[][] grid(String... rows) {
+        char[][] grid = new char[rows.length][];
+        for (int r = 0; r < rows.length; r++) {
+            grid[r] = new char[rows[r].length()];
+            for (int c = 0; c < rows[r].length(); c++) {
+                grid[r][c] = rows[r].charAt(c) == '.' ? LineMoveGenerator.EMPTY : rows[r].charAt(c);
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,161 @@
+package com.govtech.scrabble.movegen;
+
+import com.govtech.scrabble.lexicon.AnagramIndex;
+import com.govtech.scrabble.lexicon.Dawg;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineMoveGeneratorTest {
+
+    private static final List<String> WORDS = List.of(
+        "AT", "CAT", "CATS", "SCAT", "ACT", "TA", "TAT", "RAT", "RATS", "STAR", "ARTS", "TSAR",
+        "CART", "CARTS", "SCAR", "CARS", "ARC", "ARCS", "AS", "TAS", "ATE", "EAT", "TEA", "SEAT"
+    );
+
+    private final Dawg lexicon = Dawg.fromWords(WORDS);
+    private final LineMoveGenerator generator = new LineMoveGenerator(lexicon);
+
+    @Test
+    void testEmptyLineMustCoverAnchor() {
+        char[] cells = new char[7];
+        boolean[] anchors = new boolean[7];
+        anchors[3] = true;
+
+        Set<String> moves = generate(cells, anchors, "CAT");
+
+        assertTrue(moves.contains("CAT@1"), "CAT ending on the anchor");
+        assertTrue(moves.contains("CAT@3"), "CAT starting on the anchor");
+        assertFalse(moves.contains("CAT@4"), "Does not cover the anchor");
+        assertTrue(moves.contains("AT@2"));
+    }
+
+    @Test
+    void testExtendsThroughBoardTiles() {
+        // ".A.." with rack C,T,S: CAT / CATS / TA / AT / AS / TAT ... all through the A
+        char[] cells = line(".A....");
+        Set<String> moves = generate(cells, anchorsNextToTiles(cells), "CTS");
+
+        assertTrue(moves.contains("CAT@0"));
+        assertTrue(moves.contains("CATS@0"));
+        assertTrue(moves.contains("AT@1"));
+        assertTrue(moves.contains("TA@0"));
+        assertFalse(moves.contains("SCAT@0"), "Would need a square before the start of the line");
+    }
+
+    @Test
+    void testRejectsWordsThatRunIntoAdjacentTiles() {
+        // "AT..PHO": playing LOP would form ATLOPHO
+        char[] cells = line("AT..PHO");
+        Set<String> moves = generate(cells, anchorsNextToTiles(cells), "LOP");
+
+        assertTrue(moves.stream().noneMatch(move -> move.startsWith("LOP")));
+    }
+
+    @Test
+    void testMatchesBruteForcePlacement() {
+        char[] cells = line("..A..T...C.S.");
+        boolean[] anchors = anchorsNextToTiles(cells);
+
+        for (String rack : List.of("CAT", "SRATE", "CARTSEA", "Z")) {
+            Set<String> expected = bruteForce(cells, anchors, rack);
+            assertEquals(expected, generate(cells, anchors, rack), "Rack " + rack);
+        }
+    }
+
+    @Test
+    void testRackIsRestored() {
+        Rack rack = Rack.of(AnagramIndex.letterCounts("CARTS"));
+        int maskBefore = rack.mask();
+        char[] cells = line("...A...");
+
+        generator.generate(cells, null, anchorsNextToTiles(cells), rack, 2, (start, letters, placed, length) -> { });
+
+        int[] after = new int[26];
+        for (int letter = 0; letter < 26; letter++) {
+            after[letter] = rack.count(letter);
+        }
+        assertArrayEquals(AnagramIndex.letterCounts("CARTS"), after);
+        assertEquals(maskBefore, rack.mask());
+        assertEquals(5, rack.size());
+    }
+
+    @Test
+    void testCrossMasksRestrictLetters() {
+        char[] cells = new char[5];
+        boolean[] anchors = new boolean[5];
+        anchors[2] = true;
+        int[] crossMasks = new int[5];
+        Arrays.fill(crossMasks, LineMoveGenerator.ALL_LETTERS);
+        crossMasks[2] = 1 << ('A' - 'A');
+
+        List<String> words = new ArrayList<>();
+        generator.generate(cells, crossMasks, anchors, Rack.of(AnagramIndex.letterCounts("CAT")), 2,
+            (start, letters, placed, length) -> words.add(new String(letters, 0, length) + "@" + start));
+
+        assertFalse(words.isEmpty());
+        for (String move : words) {
+            String word = move.substring(0, move.indexOf('@'));
+            int start = Integer.parseInt(move.substring(move.indexOf('@') + 1));
+            assertEquals('A', word.charAt(2 - start), "Square 2 only accepts A: " + move);
+        }
+    }
+
+    private Set<String> generate(char[] cells, boolean[] anchors, String rack) {
+        Set<String> moves = new HashSet<>();
+        int count = generator.generate(cells, null, anchors, Rack.of(AnagramIndex.letterCounts(rack)), 2,
+            (start, letters, placed, length) -> assertTrue(
+                moves.add(new String(letters, 0, length) + "@" + start), "Duplicate move"));
+        assertEquals(moves.size(), count);
+        return moves;
+    }
+
+    private Set<String> bruteForce(char[] cells, boolean[] anchors, String rack) {
+        Set<String> moves = new HashSet<>();
+        for (String word : WORDS) {
+            for (int start = 0; start + word.length() <= cells.length; start++) {
+                int end = start + word.length();
+                if ((start > 0 && cells[start - 1] != LineMoveGenerator.EMPTY)
+                        || (end < cells.length && cells[end] != LineMoveGenerator.EMPTY)) {
+                    continue;
+                }
+                int[] counts = AnagramIndex.letterCounts(rack);
+                boolean fits = true;
+                boolean coversAnchor = false;
+                for (int i = 0; i < word.length() && fits; i++) {
+                    char cell = cells[start + i];
+                    if (cell == LineMoveGenerator.EMPTY) {
+                        coversAnchor |= anchors[start + i];
+                        fits = --counts[word.charAt(i) - 'A'] >= 0;
+                    } else {
+                        fits = cell == word.charAt(i);
+                    }
+                }
+                if (fits && coversAnchor) {
+                    moves.add(word + "@" + start);
+                }
+            }
+        }
+        return moves;
+    }
+
+    private static char[] line(String pattern) {
+        char[] cells = new char[pattern.length()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = pattern.charAt(i) == '.' ? LineMoveGenerator.EMPTY : pattern.charAt(i);
+        }
+        return cells;
+    }
+
+    private static boolean[] anchorsNextToTiles(char[] cells) {
+        boolean[] anchors = new boolean[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            anchors[i] = cells[i] == LineMoveGenerator.EMPTY
+                && ((i > 0 && cells[i - 1] != LineMoveGenerator.EMPTY)
+                    || (i < cells.length - 1 && cells[i + 1] != LineMoveGenerator.EMPTY));
+        }
+        return anchors;
+    }
+}
@@ -0,0 +1,69 @@
+package com.govtech.scrabble.movegen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RackTest {
+
+    @Test
+    void testTilesAreCountedByLetter() {
+        Rack rack = Rack.of(Arrays.asList("a", "A", "Z", "?", null, "", "1"));
+
+        assertEquals(2, rack.count(0));
+        assertEquals(1, rack.count(25));
+        assertEquals(1, rack.blanks());
+        assertEquals(4, rack.size(), "Null, empty and non-letter tiles are ignored");
+        assertEquals((1 << 0) | (1 << 25), rack.mask());
+    }
+
+    @Test
+    void testTakeAndPutBackKeepMaskInStep() {
+        Rack rack = Rack.of(Arrays.asList("E", "E", "S"));
+
+        assertTrue(rack.takeLetter('E'));
+        assertNotEquals(0, rack.mask() & (1 << ('E' - 'A')), "One E is still left");
+        assertTrue(rack.takeLetter('E'));
+        assertEquals(0, rack.mask() & (1 << ('E' - 'A')));
+        assertFalse(rack.takeLetter('E'));
+        assertFalse(rack.takeLetter('e'), "Only upper-case letters are taken");
+        assertEquals(1, rack.size());
+
+        rack.putBackLetter('E');
+        assertEquals(1, rack.count('E' - 'A'));
+        assertNotEquals(0, rack.mask() & (1 << ('E' - 'A')));
+        assertEquals(2, rack.size());
+    }
+
+    @Test
+    void testBlanks() {
+        Rack rack = Rack.of(Arrays.asList("?", "Q"));
+
+        assertTrue(rack.takeBlank());
+        assertFalse(rack.takeBlank());
+        assertEquals(1, rack.size());
+        assertEquals(1 << ('Q' - 'A'), rack.mask(), "Blanks are not part of the letter mask");
+        rack.putBackBlank();
+        assertEquals(1, rack.blanks());
+    }
+
+    @Test
+    void testCopyFromResetsToFullHand() {
+        Rack hand = Rack.of(Arrays.asList("C", "A", "T", "?"));
+        Rack rack = new Rack();
+
+        rack.copyFrom(hand);
+        assertTrue(rack.takeLetter('C'));
+        assertTrue(rack.takeBlank());
+        assertEquals(2, rack.size());
+
+        rack.copyFrom(hand);
+        assertEquals(4, rack.size());
+        assertEquals(1, rack.count('C' - 'A'));
+        assertEquals(1, rack.blanks());
+        assertEquals(hand.mask(), rack.mask());
+        assertEquals(4, hand.size(), "The source rack is left untouched");
+    }
+}
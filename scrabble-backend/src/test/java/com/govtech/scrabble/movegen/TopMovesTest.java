@@ -0,0 +1,101 @@
+package com.govtech.scrabble.movegen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopMovesTest {
+
+    @Test
+    void testKeepsWhatAStableSortAndLimitWouldReturn() {
+        Random random = new Random(42);
+        TopMoves topMoves = new TopMoves(10, 1);
+        List<int[]> all = new ArrayList<>();
+        char[] letters = new char[1];
+        boolean[] placed = new boolean[1];
+
+        for (int origin = 0; origin < 5000; origin++) {
+            // Narrow key ranges so plenty of moves tie on both keys
+            int primary = random.nextInt(30);
+            int secondary = random.nextInt(3);
+            topMoves.offer(primary, secondary, origin, letters, placed, 1);
+            all.add(new int[] {primary, secondary, origin});
+        }
+
+        all.sort(Comparator.<int[]>comparingInt(move -> -move[0]).thenComparingInt(move -> -move[1]));
+        int[] ranked = topMoves.ranked();
+        assertEquals(5000, topMoves.total());
+        assertEquals(10, ranked.length);
+        for (int i = 0; i < ranked.length; i++) {
+            assertEquals(all.get(i)[2], topMoves.origin(ranked[i]), "Rank " + i);
+            assertEquals(all.get(i)[0], topMoves.primaryKey(ranked[i]));
+            assertEquals(all.get(i)[1], topMoves.secondaryKey(ranked[i]));
+        }
+    }
+
+    @Test
+    void testMergingPerTaskCollectorsInOrderMatchesOneCollector() {
+        Random random = new Random(7);
+        TopMoves single = new TopMoves(10, 1);
+        TopMoves[] tasks = {new TopMoves(10, 1), new TopMoves(10, 1), new TopMoves(10, 1)};
+        char[] letters = new char[1];
+        boolean[] placed = new boolean[1];
+
+        for (int origin = 0; origin < 3000; origin++) {
+            int primary = random.nextInt(20);
+            single.offer(primary, 0, origin, letters, placed, 1);
+            tasks[origin / 1000].offer(primary, 0, origin, letters, placed, 1);
+        }
+        TopMoves merged = new TopMoves(10, 1);
+        for (TopMoves task : tasks) {
+            merged.addAll(task);
+        }
+
+        assertEquals(single.total(), merged.total());
+        int[] expected = single.ranked();
+        int[] actual = merged.ranked();
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(single.origin(expected[i]), merged.origin(actual[i]), "Rank " + i);
+        }
+    }
+
+    @Test
+    void testMovesAreCopiedIntoTheirSlots() {
+        TopMoves topMoves = new TopMoves(2, 5);
+        char[] letters = new char[5];
+        boolean[] placed = new boolean[5];
+
+        "CAT".getChars(0, 3, letters, 0);
+        placed[0] = true;
+        topMoves.offer(5, 0, 1, letters, placed, 3);
+        "DOGS".getChars(0, 4, letters, 0);
+        placed[0] = false;
+        placed[3] = true;
+        topMoves.offer(7, 0, 2, letters, placed, 4);
+        assertFalse(topMoves.offer(1, 0, 3, letters, placed, 4), "Worse than both moves kept");
+
+        int[] ranked = topMoves.ranked();
+        char[] outLetters = new char[5];
+        boolean[] outPlaced = new boolean[5];
+        topMoves.copyMove(ranked[1], outLetters, outPlaced);
+        assertEquals("CAT", new String(outLetters, 0, topMoves.length(ranked[1])));
+        assertTrue(outPlaced[0]);
+        assertFalse(outPlaced[2]);
+        assertEquals(2, topMoves.origin(ranked[0]));
+        assertEquals(3, topMoves.total());
+    }
+
+    @Test
+    void testZeroCapacityOnlyCounts() {
+        TopMoves topMoves = new TopMoves(0, 3);
+        assertFalse(topMoves.offer(9, 9, 0, new char[3], new boolean[3], 3));
+        assertEquals(1, topMoves.total());
+        assertEquals(0, topMoves.ranked().length);
+    }
+}
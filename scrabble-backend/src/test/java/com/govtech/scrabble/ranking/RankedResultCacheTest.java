@@ -0,0 +1,69 @@
+package com.govtech.scrabble.ranking;
+
+import com.govtech.scrabble.config.ScrabbleProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedResultCacheTest {
+
+    private RankedResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ScrabbleProperties properties = new ScrabbleProperties();
+        properties.getResults().setMaxLimit(4);
+        properties.getResults().setMaxRanked(8);
+        cache = new RankedResultCache(properties);
+    }
+
+    @Test
+    void testPagesThroughRankedResults() {
+        int[] built = new int[1];
+        RankedResults<String> results = new RankedResults<>(String.class, 20, 8, rank -> {
+            built[0]++;
+            return "word" + rank;
+        });
+
+        RankedResultCache.Page<String> first = cache.firstPage(results, 3);
+        assertEquals(List.of("word0", "word1", "word2"), first.items());
+        assertEquals(20, first.total(), "Total counts every result found, not just those ranked");
+        assertEquals(3, built[0], "Only the page is built");
+
+        RankedResultCache.Page<String> second = cache.nextPage(first.nextCursor(), String.class, 3);
+        assertEquals(3, second.offset());
+        assertEquals(List.of("word3", "word4", "word5"), second.items());
+
+        RankedResultCache.Page<String> last = cache.nextPage(second.nextCursor(), String.class, 3);
+        assertEquals(List.of("word6", "word7"), last.items());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void testNoCursorWhenEverythingFitsOnOnePage() {
+        RankedResults<String> results = new RankedResults<>(String.class, 2, 2, rank -> "word" + rank);
+        assertNull(cache.firstPage(results, 3).nextCursor());
+    }
+
+    @Test
+    void testRejectsUnknownOrMismatchedCursors() {
+        RankedResults<String> results = new RankedResults<>(String.class, 8, 8, rank -> "word" + rank);
+        String cursor = cache.firstPage(results, 2).nextCursor();
+
+        assertThrows(IllegalArgumentException.class, () -> cache.nextPage(cursor, Integer.class, 2));
+        assertThrows(IllegalArgumentException.class, () -> cache.nextPage("unknown:2", String.class, 2));
+        assertThrows(IllegalArgumentException.class, () -> cache.nextPage("garbage", String.class, 2));
+        assertThrows(IllegalArgumentException.class, () -> cache.nextPage(cursor + "x", String.class, 2));
+    }
+
+    @Test
+    void testLimits() {
+        assertEquals(10, cache.resolveLimit(null));
+        assertEquals(4, cache.resolveLimit(50), "Capped at max-limit");
+        assertThrows(IllegalArgumentException.class, () -> cache.resolveLimit(0));
+        assertEquals(8, cache.capacity());
+    }
+}
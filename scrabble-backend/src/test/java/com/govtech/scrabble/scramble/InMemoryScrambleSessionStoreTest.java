@@ -0,0 +1,66 @@
+package com.govtech.scrabble.scramble;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryScrambleSessionStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void testIdleSessionsExpire() {
+        InMemoryScrambleSessionStore store = new InMemoryScrambleSessionStore(100, Duration.ofMinutes(30), nanos::get);
+        store.put("idle", "TILES");
+        store.put("active", "BOARD");
+
+        advanceMinutes(20);
+        assertEquals("BOARD", store.get("active"), "Reading a session keeps it alive");
+        advanceMinutes(20);
+        store.cleanUp();
+
+        assertNull(store.get("idle"));
+        assertEquals("BOARD", store.get("active"));
+        assertEquals(1, store.size());
+        Map<String, Object> stats = store.getStatistics();
+        assertEquals(1L, stats.get("expired"));
+        assertEquals(2L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+        assertEquals(1800L, stats.get("ttlSeconds"));
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        InMemoryScrambleSessionStore store = new InMemoryScrambleSessionStore(50, Duration.ofMinutes(30), nanos::get);
+        for (int i = 0; i < 500; i++) {
+            store.put("session-" + i, "WORD");
+        }
+        store.cleanUp();
+
+        assertTrue(store.size() <= 50, "Size should stay within the bound: " + store.size());
+        Map<String, Object> stats = store.getStatistics();
+        assertEquals(500L, stats.get("created"));
+        assertEquals(500L - store.size(), stats.get("evictedForSize"));
+    }
+
+    @Test
+    void testRemoveIsNotCountedAsEviction() {
+        InMemoryScrambleSessionStore store = new InMemoryScrambleSessionStore(10, Duration.ofMinutes(30), nanos::get);
+        store.put("answered", "GAME");
+        store.remove("answered");
+        store.cleanUp();
+
+        assertNull(store.get("answered"));
+        assertEquals(0L, store.getStatistics().get("expired"));
+        assertEquals(0L, store.getStatistics().get("evictedForSize"));
+    }
+
+    private void advanceMinutes(long minutes) {
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+    }
+}
@@ -0,0 +1,76 @@
+package com.govtech.scrabble.scramble;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcScrambleSessionStoreTest {
+
+    private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    private JdbcScrambleSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:sessions-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        store = new JdbcScrambleSessionStore(new JdbcTemplate(dataSource), Duration.ofMinutes(30), clock, Duration.ZERO);
+    }
+
+    @Test
+    void testRemoveSucceedsOnce() {
+        store.put("abc12345", "TILES");
+
+        assertEquals("TILES", store.get("abc12345"));
+        assertEquals(1, store.size());
+        assertTrue(store.remove("abc12345"));
+        assertFalse(store.remove("abc12345"), "A second remove, e.g. from another node, finds nothing");
+        assertNull(store.get("abc12345"));
+        assertEquals(1L, store.getStatistics().get("removed"));
+    }
+
+    @Test
+    void testReadsExtendSessionsAndIdleOnesExpire() {
+        store.put("idle", "TILES");
+        store.put("active", "BOARD");
+
+        now = now.plus(Duration.ofMinutes(20));
+        assertEquals("BOARD", store.get("active"));
+        now = now.plus(Duration.ofMinutes(20));
+
+        assertNull(store.get("idle"), "Expired rows are misses even before they are purged");
+        assertFalse(store.remove("idle"));
+        assertEquals(1, store.size());
+        assertEquals(1, store.purgeExpired());
+        assertEquals("BOARD", store.get("active"));
+        assertEquals(1L, store.getStatistics().get("expired"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.govtech.scrabble.scramble;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NearCachingScrambleSessionStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ScrambleSessionStore shared = mock(ScrambleSessionStore.class);
+    private final NearCachingScrambleSessionStore store =
+        new NearCachingScrambleSessionStore(shared, 100, Duration.ofSeconds(5), nanos::get);
+
+    @Test
+    void testRepeatedReadsAreServedLocally() {
+        when(shared.get("abc12345")).thenReturn("TILES");
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("TILES", store.get("abc12345"));
+        }
+
+        verify(shared, times(1)).get("abc12345");
+    }
+
+    @Test
+    void testEntriesWrittenLocallyAreCachedAndExpire() {
+        store.put("abc12345", "TILES");
+        assertEquals("TILES", store.get("abc12345"));
+        verify(shared, never()).get(anyString());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertNull(store.get("abc12345"), "After the near-cache TTL the shared store is asked again");
+        verify(shared).get("abc12345");
+    }
+
+    @Test
+    void testRemoveInvalidatesAndAsksSharedStore() {
+        store.put("abc12345", "TILES");
+        when(shared.remove("abc12345")).thenReturn(false);
+
+        assertFalse(store.remove("abc12345"), "The shared store decides whether the session was removed");
+        assertNull(store.get("abc12345"));
+        verify(shared).get("abc12345");
+    }
+}
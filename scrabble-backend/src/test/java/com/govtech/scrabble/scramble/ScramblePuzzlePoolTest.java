@@ -0,0 +1,106 @@
+package com.govtech.scrabble.scramble;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScramblePuzzlePoolTest {
+
+    private ScramblePuzzlePool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testFillsEachPoolAndServesFromIt() {
+        AtomicInteger counter = new AtomicInteger();
+        pool = new ScramblePuzzlePool(List.of("easy", "hard"),
+            key -> puzzle(key, counter.incrementAndGet(), 1), () -> 1, 5, 2);
+
+        assertNull(pool.poll("easy"), "Nothing is produced before start");
+        pool.start();
+        waitFor(() -> pool.depth("easy") == 5 && pool.depth("hard") == 5);
+
+        ScramblePuzzlePool.Puzzle puzzle = pool.poll("hard");
+        assertEquals("hard", puzzle.difficulty());
+        assertEquals(4, pool.depth("hard"));
+        assertNull(pool.poll("unknown"));
+
+        Map<String, Object> stats = pool.getStatistics();
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(2L, stats.get("misses"));
+        assertEquals(Map.of("easy", 5, "hard", 4), stats.get("depth"));
+    }
+
+    @Test
+    void testRefillsOnceBelowThreshold() {
+        AtomicInteger counter = new AtomicInteger();
+        pool = new ScramblePuzzlePool(List.of("any"), key -> puzzle(key, counter.incrementAndGet(), 1), () -> 1, 4, 2);
+        pool.start();
+        waitFor(() -> pool.depth("any") == 4);
+
+        pool.poll("any");
+        pool.poll("any");
+        assertEquals(4, counter.get(), "No refill while depth stays at the threshold");
+        pool.poll("any");
+        waitFor(() -> pool.depth("any") == 4);
+
+        assertEquals(7, counter.get());
+        assertEquals(7L, pool.getStatistics().get("produced"));
+        assertTrue((Long) pool.getStatistics().get("lastRefillLagMs") >= 0);
+    }
+
+    @Test
+    void testProducerFailureIsCountedAndPoolStaysUsable() {
+        AtomicInteger calls = new AtomicInteger();
+        pool = new ScramblePuzzlePool(List.of("any"), key -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("dictionary unavailable");
+            }
+            return puzzle(key, calls.get(), 1);
+        }, () -> 1, 3, 3);
+        pool.start();
+        waitFor(() -> (Long) pool.getStatistics().get("refillFailures") == 1L);
+
+        assertNotNull(pool.poll("any"), "Puzzles made before the failure are served");
+        waitFor(() -> pool.depth("any") == 3);
+    }
+
+    @Test
+    void testPuzzlesFromAnOlderDictionaryVersionAreDiscarded() {
+        AtomicLong version = new AtomicLong(1);
+        pool = new ScramblePuzzlePool(List.of("any"), key -> puzzle(key, 0, version.get()), version::get, 3, 1);
+        pool.start();
+        waitFor(() -> pool.depth("any") == 3);
+
+        version.set(2);
+        assertNull(pool.poll("any"), "Every pooled puzzle came from version 1");
+        assertEquals(3L, pool.getStatistics().get("discardedStale"));
+        waitFor(() -> pool.depth("any") == 3);
+
+        assertEquals(2, pool.poll("any").dictionaryVersion());
+    }
+
+    private static ScramblePuzzlePool.Puzzle puzzle(String key, int n, long version) {
+        return new ScramblePuzzlePool.Puzzle("WORD" + n, "DROW" + n, "hint", key, version, System.nanoTime());
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the pool");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.govtech.scrabble.scramble;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScrambleTokenCodecTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ScrambleTokenCodec codec = codec("shared-secret", NOW);
+
+    @Test
+    void testRoundTripOnAnotherNode() {
+        String token = codec.issue("PUZZLE");
+        ScrambleTokenCodec otherNode = codec("shared-secret", NOW.plusSeconds(60));
+
+        assertEquals("PUZZLE", otherNode.verify(token));
+        assertFalse(token.contains("PUZZLE"), "The answer is encrypted");
+        assertNotEquals(token, codec.issue("PUZZLE"), "Each token has a fresh IV");
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "Tokens are safe in a URL path: " + token);
+        assertEquals(1L, otherNode.getStatistics().get("verified"));
+    }
+
+    @Test
+    void testRejectsTamperedOrForeignTokens() {
+        String token = codec.issue("PUZZLE");
+        byte[] bytes = Base64.getUrlDecoder().decode(token);
+        bytes[20] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertNull(codec.verify(tampered));
+        assertNull(codec("other-secret", NOW).verify(token));
+        assertNull(codec.verify("abc12345"));
+        assertNull(codec.verify("not base64!"));
+        assertEquals(3L, codec.getStatistics().get("rejected"));
+    }
+
+    @Test
+    void testTokensExpireAfterTtl() {
+        String token = codec.issue("PUZZLE");
+
+        assertEquals("PUZZLE", codec("shared-secret", NOW.plus(Duration.ofMinutes(30))).verify(token));
+        ScrambleTokenCodec later = codec("shared-secret", NOW.plus(Duration.ofMinutes(31)));
+        assertNull(later.verify(token));
+        assertEquals(1L, later.getStatistics().get("expired"));
+    }
+
+    private static ScrambleTokenCodec codec(String secret, Instant now) {
+        return new ScrambleTokenCodec(true, secret, Duration.ofMinutes(30), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
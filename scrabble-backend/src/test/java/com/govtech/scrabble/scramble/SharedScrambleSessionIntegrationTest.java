@@ -0,0 +1,77 @@
+package com.govtech.scrabble.scramble;
+
+import com.govtech.scrabble.ScrabbleApplication;
+import com.govtech.scrabble.dto.ScrambleCheckResponse;
+import com.govtech.scrabble.service.WordScrambleService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application contexts ("nodes") sharing one H2 database, with sessions stored through JDBC.
+ */
+class SharedScrambleSessionIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        // Arguments, not default properties, so they override application.yml
+        return new SpringApplicationBuilder(ScrabbleApplication.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:shared-scramble-sessions;DB_CLOSE_DELAY=-1",
+            "--scrabble.scramble.sessions.store=jdbc",
+            "--scrabble.scramble.pool.enabled=false",
+            "--scrabble.dictionary.caching.persistent.enabled=false");
+    }
+
+    @Test
+    void testSessionCreatedOnOneNodeIsServedByTheOther() {
+        WordScrambleService scrambleA = nodeA.getBean(WordScrambleService.class);
+        WordScrambleService scrambleB = nodeB.getBean(WordScrambleService.class);
+
+        String sessionId = scrambleA.generateScramble("easy").getOriginalWord();
+        String answer = nodeA.getBean(JdbcTemplate.class)
+            .queryForObject("SELECT word FROM scramble_sessions WHERE session_id = ?", String.class, sessionId);
+
+        assertNotNull(scrambleB.reshuffleScramble(sessionId));
+        assertNotNull(scrambleB.reshuffleScramble(sessionId));
+        assertFalse(scrambleB.checkAnswer(sessionId, "ZZZZ").getIsCorrect());
+
+        ScrambleCheckResponse solved = scrambleB.checkAnswer(sessionId, answer);
+        assertTrue(solved.getIsCorrect());
+
+        ScrambleCheckResponse replayed = scrambleA.checkAnswer(sessionId, answer);
+        assertFalse(replayed.getIsCorrect(), "A solved session cannot be scored again on another node");
+        assertTrue(replayed.getMessage().contains("Invalid or expired"));
+
+        Map<String, Object> statsB = scrambleB.getSessionStatistics();
+        assertEquals("jdbc", statsB.get("store"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> nearCache = (Map<String, Object>) statsB.get("nearCache");
+        assertTrue((Long) nearCache.get("hits") >= 2, "Repeated reshuffles are served by node B's near-cache");
+    }
+}
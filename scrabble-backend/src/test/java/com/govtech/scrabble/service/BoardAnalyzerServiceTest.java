@@ -3,6 +3,8 @@ package com.govtech.scrabble.service;
 import com.govtech.scrabble.config.ScrabbleProperties;
 import com.govtech.scrabble.dto.BoardAnalyzerRequest;
 import com.govtech.scrabble.dto.BoardAnalyzerResponse;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.ranking.RankedResultCache;
 import com.govtech.scrabble.service.impl.BoardAnalyzerServiceImpl;
 import com.govtech.scrabble.service.impl.EnglishDictionaryServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class BoardAnalyzerServiceTest {
@@ -34,7 +37,7 @@ class BoardAnalyzerServiceTest {
 
         dictionaryService = new EnglishDictionaryServiceImpl(properties);
 
-        boardAnalyzerService = new BoardAnalyzerServiceImpl(properties, dictionaryService);
+        boardAnalyzerService = new BoardAnalyzerServiceImpl(properties, dictionaryService, new RankedResultCache(properties));
     }
 
     @Test
@@ -192,4 +195,198 @@ class BoardAnalyzerServiceTest {
         assertNotNull(response.getTopCombinations());
         // The test should pass without rejecting valid placements
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCrowdedBoardReportsCompleteValidWords() {
+        List<String> boardLetters = createCrowdedBoard();
+
+        BoardAnalyzerRequest request = new BoardAnalyzerRequest();
+        request.setBoardLetters(new java.util.ArrayList<>(boardLetters));
+        request.setHandLetters(Arrays.asList("R", "E", "T", "A", "I", "N", "S"));
+        request.setSpecialTiles(createNormalSpecialTiles());
+
+        BoardAnalyzerResponse response = boardAnalyzerService.analyzeBoardForTopCombinations(request);
+
+        assertFalse(response.getTopCombinations().isEmpty());
+        assertTrue(response.getTotalCombinationsCount() >= response.getTopCombinations().size());
+        for (BoardAnalyzerResponse.WordCombination combination : response.getTopCombinations()) {
+            assertTrue(dictionaryService.isValidWord(combination.getWord()), combination.getWord());
+            assertEquals(combination.getWord().length(), combination.getBoardPositions().size());
+            boolean horizontal = "HORIZONTAL".equals(combination.getDirection());
+            for (int i = 0; i < combination.getBoardPositions().size(); i++) {
+                BoardAnalyzerResponse.BoardPosition position = combination.getBoardPositions().get(i);
+                assertEquals(combination.getStartRow() + (horizontal ? 0 : i), position.getRow());
+                assertEquals(combination.getStartCol() + (horizontal ? i : 0), position.getCol());
+                String existing = boardLetters.get(position.getRow() * 15 + position.getCol());
+                assertEquals(!position.isUsesHandTile(), !existing.isEmpty());
+                if (!existing.isEmpty()) {
+                    assertEquals(existing, position.getLetter());
+                } else {
+                    String crossWord = perpendicularWord(boardLetters, position, horizontal);
+                    assertTrue(crossWord.length() == 1 || dictionaryService.isValidWord(crossWord),
+                        "Placing " + combination.getWord() + " forms invalid cross word " + crossWord);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCrossWordsAreCheckedAndScored() {
+        EnglishDictionaryService smallDictionary = mock(EnglishDictionaryService.class);
+        when(smallDictionary.getLexicon()).thenReturn(Dawg.fromWords(List.of("CAT", "AT", "TA")));
+        BoardAnalyzerServiceImpl analyzer = new BoardAnalyzerServiceImpl(properties, smallDictionary, new RankedResultCache(properties));
+
+        // CAT across row 7; playing TA under its A and T forms the cross words AT and TA
+        List<String> boardLetters = createEmptyBoard();
+        placeWord(boardLetters, "CAT", 7, 6, true);
+
+        BoardAnalyzerRequest request = new BoardAnalyzerRequest();
+        request.setBoardLetters(boardLetters);
+        request.setHandLetters(Arrays.asList("A", "T"));
+        request.setSpecialTiles(createNormalSpecialTiles());
+
+        BoardAnalyzerResponse response = analyzer.analyzeBoardForTopCombinations(request);
+
+        BoardAnalyzerResponse.WordCombination ta = response.getTopCombinations().stream()
+            .filter(combo -> combo.getWord().equals("TA") && combo.getStartRow() == 8 && combo.getStartCol() == 7)
+            .findFirst()
+            .orElseThrow();
+        assertEquals("HORIZONTAL", ta.getDirection());
+        assertEquals(6, ta.getTotalScore(), "TA (2) + cross words AT (2) and TA (2)");
+        assertTrue(ta.getBonusesApplied().contains("Cross words +4"));
+
+        // AT in the same spot would form the cross word AA
+        assertTrue(response.getTopCombinations().stream()
+            .noneMatch(combo -> combo.getWord().equals("AT") && combo.getStartRow() == 8 && combo.getStartCol() == 7));
+    }
+
+    @Test
+    void testCursorContinuesFromTheCachedRanking() {
+        BoardAnalyzerRequest request = new BoardAnalyzerRequest();
+        request.setBoardLetters(createCrowdedBoard());
+        request.setHandLetters(Arrays.asList("R", "E", "T", "A", "I", "N", "S"));
+        request.setSpecialTiles(createNormalSpecialTiles());
+        request.setLimit(5);
+
+        BoardAnalyzerResponse first = boardAnalyzerService.analyzeBoardForTopCombinations(request);
+        assertEquals(5, first.getTopCombinations().size());
+        assertTrue(first.getTotalCombinationsCount() > 10);
+        assertNotNull(first.getNextCursor());
+
+        // Different board in the continuation request: the cursor's analysis is what is paged
+        request.setBoardLetters(createEmptyBoard());
+        request.setCursor(first.getNextCursor());
+        BoardAnalyzerResponse second = boardAnalyzerService.analyzeBoardForTopCombinations(request);
+        assertEquals(first.getTotalCombinationsCount(), second.getTotalCombinationsCount());
+        assertEquals(5, second.getTopCombinations().size());
+        assertTrue(first.getTopCombinations().get(4).getTotalScore() >= second.getTopCombinations().get(0).getTotalScore());
+
+        request.setCursor(null);
+        request.setBoardLetters(createCrowdedBoard());
+        request.setLimit(10);
+        request.setRanking("length");
+        List<BoardAnalyzerResponse.WordCombination> byLength =
+            boardAnalyzerService.analyzeBoardForTopCombinations(request).getTopCombinations();
+        for (int i = 1; i < byLength.size(); i++) {
+            assertTrue(byLength.get(i - 1).getWord().length() >= byLength.get(i).getWord().length());
+        }
+    }
+
+    @Test
+    void testParallelAnalysisMatchesSequential() {
+        ScrabbleProperties parallelProperties = new ScrabbleProperties();
+        parallelProperties.getBoardAnalyzer().setEnabled(true);
+        parallelProperties.getBoardAnalyzer().getParallel().setEnabled(true);
+        parallelProperties.getBoardAnalyzer().getParallel().setThreads(4);
+        parallelProperties.getBoardAnalyzer().getParallel().setMaxTasksPerRequest(3);
+        BoardAnalyzerServiceImpl parallelAnalyzer = new BoardAnalyzerServiceImpl(
+            parallelProperties, dictionaryService, new RankedResultCache(parallelProperties));
+
+        try {
+            BoardAnalyzerRequest request = new BoardAnalyzerRequest();
+            request.setBoardLetters(createCrowdedBoard());
+            request.setHandLetters(Arrays.asList("R", "E", "T", "A", "I", "N", "S"));
+            request.setSpecialTiles(createNormalSpecialTiles());
+            request.setLimit(100);
+
+            BoardAnalyzerResponse sequential = boardAnalyzerService.analyzeBoardForTopCombinations(request);
+            request.setBoardLetters(createCrowdedBoard());
+            BoardAnalyzerResponse parallel = parallelAnalyzer.analyzeBoardForTopCombinations(request);
+
+            assertEquals(sequential.getTotalCombinationsCount(), parallel.getTotalCombinationsCount());
+            assertEquals(sequential.getTopCombinations().size(), parallel.getTopCombinations().size());
+            for (int i = 0; i < sequential.getTopCombinations().size(); i++) {
+                BoardAnalyzerResponse.WordCombination expected = sequential.getTopCombinations().get(i);
+                BoardAnalyzerResponse.WordCombination actual = parallel.getTopCombinations().get(i);
+                assertEquals(expected.getWord(), actual.getWord(), "Rank " + i);
+                assertEquals(expected.getTotalScore(), actual.getTotalScore());
+                assertEquals(expected.getStartRow(), actual.getStartRow());
+                assertEquals(expected.getStartCol(), actual.getStartCol());
+                assertEquals(expected.getDirection(), actual.getDirection());
+            }
+        } finally {
+            parallelAnalyzer.shutdown();
+        }
+    }
+
+    @Test
+    void testCrowdedBoardAnalysisIsFast() {
+        BoardAnalyzerRequest request = new BoardAnalyzerRequest();
+        request.setHandLetters(Arrays.asList("R", "E", "T", "A", "I", "N", "S"));
+        request.setSpecialTiles(createNormalSpecialTiles());
+
+        // Warm up, then time a full 15x15 analysis with a 7-tile rack
+        for (int i = 0; i < 5; i++) {
+            request.setBoardLetters(createCrowdedBoard());
+            boardAnalyzerService.analyzeBoardForTopCombinations(request);
+        }
+        request.setBoardLetters(createCrowdedBoard());
+        long startTime = System.nanoTime();
+        boardAnalyzerService.analyzeBoardForTopCombinations(request);
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        assertTrue(elapsedMs < 500, "Full board analysis took " + elapsedMs + "ms");
+    }
+
+    private String perpendicularWord(List<String> boardLetters, BoardAnalyzerResponse.BoardPosition position,
+                                     boolean horizontalMove) {
+        int dRow = horizontalMove ? 1 : 0;
+        int dCol = horizontalMove ? 0 : 1;
+        int row = position.getRow();
+        int col = position.getCol();
+        while (row - dRow >= 0 && col - dCol >= 0
+                && !boardLetters.get((row - dRow) * 15 + col - dCol).isEmpty()) {
+            row -= dRow;
+            col -= dCol;
+        }
+        StringBuilder word = new StringBuilder();
+        while (row < 15 && col < 15) {
+            String tile = row == position.getRow() && col == position.getCol()
+                ? position.getLetter() : boardLetters.get(row * 15 + col);
+            if (tile.isEmpty()) {
+                break;
+            }
+            word.append(tile);
+            row += dRow;
+            col += dCol;
+        }
+        return word.toString();
+    }
+
+    private List<String> createCrowdedBoard() {
+        List<String> board = createEmptyBoard();
+        placeWord(board, "QUESTION", 7, 3, true);
+        placeWord(board, "STONE", 7, 6, false);
+        placeWord(board, "TRAIN", 4, 8, false);
+        placeWord(board, "NOTE", 7, 10, false);
+        return board;
+    }
+
+    private void placeWord(List<String> board, String word, int row, int col, boolean horizontal) {
+        for (int i = 0; i < word.length(); i++) {
+            int r = horizontal ? row : row + i;
+            int c = horizontal ? col + i : col;
+            board.set(r * 15 + c, String.valueOf(word.charAt(i)));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.govtech.scrabble.service;
+
+import com.govtech.scrabble.config.ScrabbleProperties;
+import com.govtech.scrabble.entity.DictionaryCache;
+import com.govtech.scrabble.repository.DictionaryCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DictionaryCacheStoreTest {
+
+    private DictionaryCacheRepository repository;
+    private ScrabbleProperties properties;
+    private DictionaryCacheStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DictionaryCacheRepository.class);
+        properties = new ScrabbleProperties();
+        // Flush only when the test asks for it
+        properties.getDictionary().getCaching().getPersistent().setFlushIntervalMs(60_000);
+        store = new DictionaryCacheStore(repository, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void testRecordIsWrittenInOneBatchOnFlush() {
+        DictionaryCache existing = new DictionaryCache("HELLO", true);
+        existing.setAccessCount(5);
+        when(repository.findAllById(any())).thenReturn(List.of(existing));
+
+        store.record("HELLO", true);
+        store.record("HELLO", true);
+        store.record("ZXQY", false);
+        verifyNoInteractions(repository);
+
+        store.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DictionaryCache>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).saveAll(saved.capture());
+        Map<String, DictionaryCache> rows = saved.getValue().stream()
+                .collect(Collectors.toMap(DictionaryCache::getWord, Function.identity()));
+        assertEquals(7, rows.get("HELLO").getAccessCount(), "Existing count plus two accesses");
+        assertFalse(rows.get("ZXQY").getIsValid());
+        assertEquals(1, rows.get("ZXQY").getAccessCount());
+        assertEquals(0, store.getStatistics().get("pendingWrites"));
+        assertEquals(2L, store.getStatistics().get("flushedRows"));
+    }
+
+    @Test
+    void testLoadMostAccessedReadsOnePage() {
+        properties.getDictionary().getCaching().getPersistent().setPreloadSize(2);
+        when(repository.findMostAccessed(eq(2), any(Pageable.class)))
+                .thenReturn(List.of(new DictionaryCache("CAT", true), new DictionaryCache("XQ", false)));
+
+        Map<String, Boolean> preloaded = store.loadMostAccessed();
+
+        assertEquals(Map.of("CAT", true, "XQ", false), preloaded);
+        verify(repository).findMostAccessed(2, PageRequest.of(0, 2));
+        assertEquals(2, store.getStatistics().get("preloadedEntries"));
+    }
+
+    @Test
+    void testPendingWritesAreCapped() {
+        properties.getDictionary().getCaching().getPersistent().setMaxPendingWrites(2);
+
+        store.record("ONE", true);
+        store.record("TWO", true);
+        store.record("THREE", true);
+        store.record("ONE", true);
+
+        assertEquals(2, store.getStatistics().get("pendingWrites"));
+        assertEquals(1L, store.getStatistics().get("droppedWrites"));
+    }
+
+    @Test
+    void testDisabledStoreNeverTouchesRepository() {
+        properties.getDictionary().getCaching().setEnabled(false);
+        DictionaryCacheStore disabled = new DictionaryCacheStore(repository, properties);
+
+        disabled.record("HELLO", true);
+        disabled.flush();
+
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.loadMostAccessed().isEmpty());
+        assertNull(disabled.find("HELLO"));
+        verifyNoInteractions(repository);
+    }
+}
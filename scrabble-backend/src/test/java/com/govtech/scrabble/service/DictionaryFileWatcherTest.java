@@ -0,0 +1,59 @@
+package com.govtech.scrabble.service;
+
+import com.govtech.scrabble.config.ScrabbleDictionaryConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryFileWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testChangedWordListIsReloaded() throws Exception {
+        Path list = tempDir.resolve("words.txt");
+        Files.writeString(list, "game\ntile\n");
+
+        ScrabbleDictionaryConfig config = new ScrabbleDictionaryConfig();
+        config.setFilePath(list.toUri().toString());
+        config.setImagePath("");
+        config.getReload().setWatchEnabled(true);
+        config.getReload().setDebounceMs(100);
+        ScrabbleDictionary dictionary = new ScrabbleDictionary(config);
+        DictionaryFileWatcher watcher = new DictionaryFileWatcher(dictionary, config);
+        try {
+            dictionary.loadDictionary();
+            watcher.start();
+            assertTrue(watcher.isWatching());
+
+            Files.writeString(tempDir.resolve("unrelated.txt"), "ignored\n");
+            Files.writeString(list, "game\ntile\nboard\n");
+
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (dictionary.getSnapshot().version() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(2, dictionary.getSnapshot().version());
+            assertTrue(dictionary.isValidWord("board"));
+        } finally {
+            watcher.stop();
+            dictionary.shutdown();
+        }
+    }
+
+    @Test
+    void testClasspathSourcesAreNotWatched() {
+        ScrabbleDictionaryConfig config = new ScrabbleDictionaryConfig();
+        config.getReload().setWatchEnabled(true);
+        DictionaryFileWatcher watcher = new DictionaryFileWatcher(new ScrabbleDictionary(config), config);
+
+        watcher.start();
+
+        assertFalse(watcher.isWatching());
+    }
+}
@@ -8,8 +8,10 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class EnglishDictionaryServiceTest {
 
@@ -112,6 +114,19 @@ class EnglishDictionaryServiceTest {
         assertEquals(result1.size(), result2.size());
     }
 
+    @Test
+    void testFindPossibleWordsIsDeterministicAndComplete() {
+        List<String> availableLetters = Arrays.asList("C", "A", "T", "S");
+
+        List<String> result1 = dictionaryService.findPossibleWords(availableLetters, 3, 4);
+        List<String> result2 = dictionaryService.findPossibleWords(Arrays.asList("S", "T", "A", "C"), 3, 4);
+
+        // Same multiset, same words, same order - no random sampling
+        assertEquals(result1, result2);
+        assertTrue(result1.containsAll(Arrays.asList("CAT", "ACT", "CATS", "CAST")));
+        assertFalse(result1.contains("TACT"), "Only one T is available");
+    }
+
     @Test
     void testGetRandomWordWithinRange() {
         String randomWord = dictionaryService.getRandomWord(4, 6);
@@ -166,4 +181,104 @@ class EnglishDictionaryServiceTest {
         assertFalse(dictionaryService.isValidWord("XYZ"));
         assertFalse(dictionaryService.isValidWord("QQQ"));
     }
+
+    @Test
+    void testLexiconLookupAgreesWithLanguageToolSpeller() {
+        ScrabbleProperties spellerProperties = new ScrabbleProperties();
+        spellerProperties.getDictionary().getValidation().setLexiconLookup(false);
+        EnglishDictionaryServiceImpl spellerService = new EnglishDictionaryServiceImpl(spellerProperties);
+
+        for (String word : List.of("HELLO", "QUIZ", "JUXTAPOSE", "OK", "ZXQY", "QI", "AL", "XYZABC", "PARIS")) {
+            assertEquals(spellerService.isValidWord(word), dictionaryService.isValidWord(word), word);
+        }
+        assertEquals("lexicon", dictionaryService.getStatistics().get("validationSource"));
+        assertEquals("languageTool", spellerService.getStatistics().get("validationSource"));
+    }
+
+    @Test
+    void testIsValidWordsDedupesAndMatchesSingleLookups() {
+        List<String> words = Arrays.asList("hello", "HELLO", " cat ", "zxqy", null, "");
+
+        Map<String, Boolean> results = dictionaryService.isValidWords(words);
+
+        assertEquals(List.of("HELLO", "CAT", "ZXQY"), List.copyOf(results.keySet()));
+        for (Map.Entry<String, Boolean> entry : results.entrySet()) {
+            assertEquals(dictionaryService.isValidWord(entry.getKey()), entry.getValue(), entry.getKey());
+        }
+    }
+
+    @Test
+    void testIsValidWordsSplitsCacheHitsFromSpellerChecks() {
+        ScrabbleProperties spellerProperties = new ScrabbleProperties();
+        spellerProperties.getDictionary().getValidation().setLexiconLookup(false);
+        spellerProperties.getDictionary().getCaching().setEnabled(true);
+        EnglishDictionaryServiceImpl spellerService = new EnglishDictionaryServiceImpl(spellerProperties);
+        assertTrue(spellerService.isValidWord("HELLO"));
+
+        Map<String, Boolean> results = spellerService.isValidWords(
+                List.of("HELLO", "WORLD", "QUIZ", "ZXQY", "XYZABC", "DOG", "world"));
+
+        assertEquals(Map.of("HELLO", true, "WORLD", true, "QUIZ", true, "ZXQY", false, "XYZABC", false, "DOG", true), results);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> cache = (Map<String, Object>) spellerService.getStatistics().get("validationCache");
+        assertEquals(4L, cache.get("size"), "Non-words are rejected by the negative filter, not cached");
+        assertEquals(1L, cache.get("hits"), "HELLO is answered from the cache");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> filter = (Map<String, Object>) spellerService.getStatistics().get("negativeFilter");
+        assertEquals(2L, filter.get("rejections"));
+    }
+
+    @Test
+    void testNegativeFilterAnswersLikeTheWordListWithinItsDomain() {
+        ScrabbleProperties spellerProperties = new ScrabbleProperties();
+        spellerProperties.getDictionary().getValidation().setLexiconLookup(false);
+        EnglishDictionaryServiceImpl spellerService = new EnglishDictionaryServiceImpl(spellerProperties);
+
+        // The speller accepts these without listing them; the filter follows the word list
+        assertFalse(spellerService.isValidWord("js"));
+        assertFalse(spellerService.isValidWord("jpg"));
+        assertTrue(spellerService.isValidWord("quartz"));
+        // Outside the list's A-Z domain the speller decides
+        spellerService.isValidWord("o'clock");
+        spellerService.isValidWord("mp3");
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> filter = (Map<String, Object>) spellerService.getStatistics().get("negativeFilter");
+        assertEquals(3L, filter.get("checks"));
+        assertEquals(2L, filter.get("rejections"));
+    }
+
+    @Test
+    void testPersistentCacheIsPreloadedAndRecordsAccesses() {
+        ScrabbleProperties spellerProperties = new ScrabbleProperties();
+        spellerProperties.getDictionary().getValidation().setLexiconLookup(false);
+        spellerProperties.getDictionary().getNegativeFilter().setEnabled(false);
+        DictionaryCacheStore store = mock(DictionaryCacheStore.class);
+        when(store.isEnabled()).thenReturn(true);
+        // A stored result wins over the speller, which would reject this word
+        when(store.loadMostAccessed()).thenReturn(Map.of("QWZX", true));
+        when(store.find("ZXQY")).thenReturn(null);
+        EnglishDictionaryServiceImpl spellerService = new EnglishDictionaryServiceImpl(spellerProperties, store);
+
+        assertTrue(spellerService.isValidWord("qwzx"));
+        assertFalse(spellerService.isValidWord("ZXQY"));
+        assertFalse(spellerService.isValidWord("ZXQY"));
+
+        verify(store).record("QWZX", true);
+        verify(store, times(2)).record("ZXQY", false);
+        verify(store, times(1)).find("ZXQY");
+        verify(store).start();
+    }
+
+    @Test
+    void testPersistentCacheIsUnusedWithLexiconLookup() {
+        DictionaryCacheStore store = mock(DictionaryCacheStore.class);
+        when(store.isEnabled()).thenReturn(true);
+        EnglishDictionaryServiceImpl lexiconService = new EnglishDictionaryServiceImpl(new ScrabbleProperties(), store);
+
+        assertTrue(lexiconService.isValidWord("hello"));
+
+        verify(store).isEnabled();
+        verifyNoMoreInteractions(store);
+    }
 }
\ No newline at end of file
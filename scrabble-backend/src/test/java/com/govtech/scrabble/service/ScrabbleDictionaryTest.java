@@ -1,13 +1,30 @@
 package com.govtech.scrabble.service;
 
 import com.govtech.scrabble.config.ScrabbleDictionaryConfig;
+import com.govtech.scrabble.lexicon.AnagramIndex;
+import com.govtech.scrabble.lexicon.WordWeighting;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +46,12 @@ class ScrabbleDictionaryTest {
     @Autowired
     private ScrabbleDictionaryConfig config;
 
+    @BeforeEach
+    void awaitStartupLoad() {
+        // The dictionary loads in the background during startup
+        dictionary.awaitLoaded(30, TimeUnit.SECONDS);
+    }
+
     @Test
     void testDictionaryLoadsSuccessfully() {
         assertTrue(dictionary.isLoaded(), "Dictionary should be loaded");
@@ -148,6 +171,42 @@ class ScrabbleDictionaryTest {
         assertTrue(invalidLengthWords.isEmpty(), "Should be empty for invalid length");
     }
 
+    @Test
+    void testRandomWordComesFromLengthRange() {
+        ScrabbleDictionary.Snapshot current = dictionary.getSnapshot();
+        Random random = new Random(42);
+
+        for (WordWeighting weighting : WordWeighting.values()) {
+            for (int i = 0; i < 200; i++) {
+                String word = current.getRandomWord(5, 6, weighting, random);
+                assertTrue(word.length() == 5 || word.length() == 6, "Length out of range: " + word);
+                assertTrue(current.isValidWord(word), "Should be a dictionary word: " + word);
+                assertEquals(word.toUpperCase(), word);
+            }
+        }
+        assertEquals(current.getWordsByLength(5).size() + current.getWordsByLength(6).size(),
+            current.countWords(5, 6));
+        assertNull(current.getRandomWord(20, 25, WordWeighting.UNIFORM, random));
+    }
+
+    @Test
+    void testCountAnagrams() {
+        ScrabbleDictionary.Snapshot current = dictionary.getSnapshot();
+
+        assertEquals(2, current.countAnagrams("FACE"));
+        assertEquals(2, current.countAnagrams("cafe"));
+        assertEquals(1, current.countAnagrams("TECHNOLOGY"));
+        assertEquals(0, current.countAnagrams("ZZZZ"));
+
+        // The graph walk agrees with a signature index over the same words
+        List<String> words = new ArrayList<>();
+        current.getDawg().forEachWord(words::add);
+        AnagramIndex index = AnagramIndex.build(words);
+        for (int i = 0; i < words.size(); i += 97) {
+            assertEquals(index.anagramsOf(words.get(i)).size(), current.countAnagrams(words.get(i)), words.get(i));
+        }
+    }
+
     @Test
     void testGetStatistics() {
         Map<String, Object> stats = dictionary.getStatistics();
@@ -165,6 +224,115 @@ class ScrabbleDictionaryTest {
         assertFalse(wordsByLength.isEmpty(), "Should have length breakdown");
     }
 
+    @Test
+    void testImageMatchesWordList() {
+        assertEquals("image", dictionary.getStatistics().get("source"), "Should map the build-time image");
+        assertTrue(dictionary.getDawg().isMapped(), "Graph should be memory-mapped");
+
+        ScrabbleDictionaryConfig yamlOnly = new ScrabbleDictionaryConfig();
+        yamlOnly.setImagePath("");
+        ScrabbleDictionary fromYaml = new ScrabbleDictionary(yamlOnly);
+        fromYaml.loadDictionary();
+
+        assertEquals("wordList", fromYaml.getStatistics().get("source"));
+        assertFalse(fromYaml.getDawg().isMapped());
+        assertEquals(fromYaml.getWordCount(), dictionary.getWordCount());
+        for (int length = config.getMinLength(); length <= config.getMaxLength(); length++) {
+            assertEquals(fromYaml.getWordsByLength(length), dictionary.getWordsByLength(length),
+                "Words of length " + length + " should match");
+        }
+    }
+
+    @Test
+    void testReloadPublishesNewSnapshotAndKeepsOldOneIntact(@TempDir Path tempDir) throws Exception {
+        Path list = tempDir.resolve("words.txt");
+        Files.writeString(list, "game\ntile\n");
+
+        ScrabbleDictionaryConfig fileConfig = new ScrabbleDictionaryConfig();
+        fileConfig.setFilePath(list.toUri().toString());
+        fileConfig.setImagePath("");
+        ScrabbleDictionary reloadable = new ScrabbleDictionary(fileConfig);
+        try {
+            reloadable.loadDictionary();
+            ScrabbleDictionary.Snapshot first = reloadable.getSnapshot();
+            assertEquals(1, first.version());
+
+            Path replacement = tempDir.resolve("words.txt.new");
+            Files.writeString(replacement, "game\nboard\nquiz\n");
+            Files.move(replacement, list, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            ScrabbleDictionary.Snapshot second = reloadable.reload().get(30, TimeUnit.SECONDS);
+            assertSame(second, reloadable.getSnapshot());
+            assertEquals(2, second.version());
+            assertTrue(reloadable.isValidWord("board"));
+            assertFalse(reloadable.isValidWord("tile"));
+
+            // A request holding the earlier version is unaffected by the swap
+            assertTrue(first.isValidWord("tile"));
+            assertFalse(first.isValidWord("board"));
+            assertEquals(Set.of("game", "tile"), first.getWordsByLength(4));
+
+            Files.delete(list);
+            assertThrows(ExecutionException.class, () -> reloadable.reload().get(30, TimeUnit.SECONDS));
+            assertSame(second, reloadable.getSnapshot(), "A failed reload keeps the current version");
+
+            Map<String, Object> stats = reloadable.getStatistics();
+            assertEquals(2L, stats.get("version"));
+            assertEquals(1L, stats.get("reloads"));
+            assertEquals(1L, stats.get("failedReloads"));
+            assertEquals(false, stats.get("reloadInProgress"));
+            assertNotNull(stats.get("lastReloadError"));
+        } finally {
+            reloadable.shutdown();
+        }
+    }
+
+    @Test
+    void testWordListNewerThanImageIsParsed(@TempDir Path tempDir) throws IOException {
+        Path list = tempDir.resolve("words.txt");
+        Files.writeString(list, "game\nboard\n");
+
+        // The build-time image stays configured, but the list was written after it
+        ScrabbleDictionaryConfig fileConfig = new ScrabbleDictionaryConfig();
+        fileConfig.setFilePath(list.toUri().toString());
+        ScrabbleDictionary fromFile = new ScrabbleDictionary(fileConfig);
+        try {
+            fromFile.loadDictionary();
+
+            assertEquals("wordList", fromFile.getSnapshot().source());
+            assertEquals(2, fromFile.getWordCount());
+            assertTrue(fromFile.isValidWord("board"));
+        } finally {
+            fromFile.shutdown();
+        }
+    }
+
+    @Test
+    void testLoadsGzippedTextListFromFilePath(@TempDir Path tempDir) throws IOException {
+        Path list = tempDir.resolve("words.txt.gz");
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(list)), StandardCharsets.UTF_8)) {
+            writer.write("# production list\nQuiz\nzebra\nzebra\nox\nco-op\nquixotic\n");
+        }
+
+        ScrabbleDictionaryConfig fileConfig = new ScrabbleDictionaryConfig();
+        fileConfig.setFilePath(list.toUri().toString());
+        fileConfig.setImagePath("");
+        ScrabbleDictionary fromFile = new ScrabbleDictionary(fileConfig);
+        fromFile.loadDictionary();
+
+        assertEquals(3, fromFile.getWordCount());
+        assertTrue(fromFile.isValidWord("QUIXOTIC"));
+        assertFalse(fromFile.isValidWord("able"), "Only the configured list should be loaded");
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> load = (Map<String, Object>) fromFile.getStatistics().get("wordListLoad");
+        assertEquals(7L, load.get("lines"));
+        assertEquals(2L, load.get("linesSkipped"));
+        assertEquals(1L, load.get("duplicates"));
+        assertEquals(Files.size(list), load.get("sourceBytes"));
+        assertTrue((Double) load.get("linesPerSecond") > 0);
+    }
+
     @Test
     void testValidationPerformance() {
         // Test O(1) lookup performance
@@ -1,5 +1,6 @@
 package com.govtech.scrabble.service;
 
+import com.govtech.scrabble.dto.BatchValidateResponse;
 import com.govtech.scrabble.dto.CalculateScoreResponse;
 import com.govtech.scrabble.dto.ScoreResponse;
 import com.govtech.scrabble.entity.Score;
@@ -14,7 +15,9 @@ import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -179,4 +182,23 @@ class ScrabbleServiceTest {
         verify(englishDictionaryService).isValidWord("TEST");
         verify(scoreRepository).save(any(Score.class));
     }
+
+    @Test
+    void testValidateWords_ReportsEachDistinctWord() {
+        List<String> words = Arrays.asList("cat", "CAT", "zxqy");
+        Map<String, Boolean> validity = new LinkedHashMap<>();
+        validity.put("CAT", true);
+        validity.put("ZXQY", false);
+        when(englishDictionaryService.isValidWords(words)).thenReturn(validity);
+
+        BatchValidateResponse response = scrabbleService.validateWords(words);
+
+        assertEquals(3, response.getRequestedCount());
+        assertEquals(2, response.getDistinctCount());
+        assertEquals(1, response.getValidCount());
+        assertEquals("CAT", response.getResults().get(0).getWord());
+        assertTrue(response.getResults().get(0).getIsValidWord());
+        assertFalse(response.getResults().get(1).getIsValidWord());
+        assertEquals("Word not found in dictionary", response.getResults().get(1).getValidationMessage());
+    }
 }
\ No newline at end of file
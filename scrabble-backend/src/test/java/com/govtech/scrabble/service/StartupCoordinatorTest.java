@@ -0,0 +1,89 @@
+package com.govtech.scrabble.service;
+
+import com.govtech.scrabble.config.ScrabbleProperties;
+import com.govtech.scrabble.config.StartupHealthIndicator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupCoordinatorTest {
+
+    private StartupCoordinator coordinator;
+    private StartupHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new StartupCoordinator(new ScrabbleProperties());
+        healthIndicator = new StartupHealthIndicator(coordinator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinator.shutdown();
+    }
+
+    @Test
+    void testTasksRunConcurrentlyAndGateReadiness() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        CompletableFuture<Void> first = coordinator.submit("languageTool", task);
+        CompletableFuture<Void> second = coordinator.submit("customDictionary", task);
+
+        assertTrue(bothStarted.await(10, TimeUnit.SECONDS), "Both tasks should run at the same time");
+        assertFalse(coordinator.isReady());
+        assertEquals(List.of("customDictionary", "languageTool"), coordinator.pendingTasks());
+        assertEquals(Status.OUT_OF_SERVICE, healthIndicator.health().getStatus());
+
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        assertTrue(coordinator.isReady());
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        Map<String, Object> stats = coordinator.getStatistics();
+        assertEquals(true, stats.get("ready"));
+        assertNotNull(stats.get("readyAfterMs"));
+    }
+
+    @Test
+    void testTimelineRecordsPhasesAndFailures() {
+        coordinator.time("languageTool.lexicon", () -> "built");
+        CompletableFuture<Void> failing = coordinator.submit("customDictionary", () -> {
+            throw new IllegalStateException("word list missing");
+        });
+
+        assertThrows(Exception.class, () -> failing.get(10, TimeUnit.SECONDS));
+        assertTrue(coordinator.hasFailed());
+        assertFalse(coordinator.isReady());
+        assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+
+        List<Map<String, Object>> timeline = coordinator.getTimeline();
+        Map<String, Object> lexicon = timeline.stream()
+            .filter(phase -> phase.get("phase").equals("languageTool.lexicon")).findFirst().orElseThrow();
+        assertEquals(Thread.currentThread().getName(), lexicon.get("thread"));
+        assertTrue((Long) lexicon.get("startOffsetMs") >= 0);
+        assertFalse(lexicon.containsKey("error"));
+
+        Map<String, Object> custom = timeline.stream()
+            .filter(phase -> phase.get("phase").equals("customDictionary")).findFirst().orElseThrow();
+        assertTrue(((String) custom.get("thread")).startsWith("startup-"));
+        assertTrue(((String) custom.get("error")).contains("word list missing"));
+    }
+}
@@ -1,7 +1,10 @@
 package com.govtech.scrabble.service;
 
+import com.govtech.scrabble.config.ScrabbleProperties;
 import com.govtech.scrabble.dto.WordFinderRequest;
 import com.govtech.scrabble.dto.WordFinderResponse;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.ranking.RankedResultCache;
 import com.govtech.scrabble.service.impl.WordFinderServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +21,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +36,7 @@ class WordFinderServiceTest {
 
     @BeforeEach
     void setUp() {
-        wordFinderService = new WordFinderServiceImpl(englishDictionaryService);
+        wordFinderService = new WordFinderServiceImpl(englishDictionaryService, new RankedResultCache(new ScrabbleProperties()));
 
         // Default behavior: return false for any unknown words (complete word validation)
         // This allows our new complete word validation to work without strict stubbing errors
@@ -432,4 +438,103 @@ class WordFinderServiceTest {
                              " and board tiles " + word.getUsedBoardTiles());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAnchoredGenerationFromLexicon() {
+        when(englishDictionaryService.getLexicon())
+            .thenReturn(Dawg.fromWords(Arrays.asList("PHONE", "PHONES", "HOSE", "THOSE", "LOP", "SHONE")));
+
+        WordFinderRequest request = new WordFinderRequest();
+        // Board: A T _ _ P H O _ _ _
+        request.setBoardTiles(Arrays.asList("A", "T", "", "", "P", "H", "O", "", "", ""));
+        request.setHandTiles(Arrays.asList("n", "E", "S", "L", "O"));
+
+        WordFinderResponse response = wordFinderService.findPossibleWords(request);
+
+        // PHONE and PHONES extend P-H-O; HOSE/THOSE would skip P and LOP would form ATLOPHO
+        assertEquals(2, response.getTotalFound());
+        WordFinderResponse.PossibleWord best = response.getPossibleWords().get(0);
+        assertEquals("PHONES", best.getWord());
+        assertEquals(Arrays.asList(5, 6, 7, 8, 9, 10), best.getPositions());
+        assertEquals(Arrays.asList("N", "E", "S"), best.getUsedHandTiles());
+        assertEquals(Arrays.asList("P", "H", "O"), best.getUsedBoardTiles());
+        assertEquals("PHONE", response.getPossibleWords().get(1).getWord());
+        verify(englishDictionaryService, never()).findPossibleWords(any(), anyInt(), anyInt());
+        verify(englishDictionaryService, never()).isValidWord(any());
+    }
+
+    @Test
+    void testAnchoredGenerationOnEmptyRowTriesEveryStart() {
+        when(englishDictionaryService.getLexicon()).thenReturn(Dawg.fromWords(Arrays.asList("DOG", "GOD", "DOGS")));
+
+        WordFinderRequest request = new WordFinderRequest();
+        request.setBoardTiles(Arrays.asList("", "", "", ""));
+        request.setHandTiles(Arrays.asList("D", "O", "G"));
+
+        WordFinderResponse response = wordFinderService.findPossibleWords(request);
+
+        // DOG and GOD at starts 0 and 1 each
+        assertEquals(4, response.getTotalFound());
+        for (WordFinderResponse.PossibleWord word : response.getPossibleWords()) {
+            assertTrue(word.getUsedBoardTiles().isEmpty());
+            assertEquals(3, word.getUsedHandTiles().size());
+        }
+    }
+
+    @Test
+    void testLimitAndCursorPageThroughOneGeneration() {
+        when(englishDictionaryService.getLexicon())
+            .thenReturn(Dawg.fromWords(Arrays.asList("DOG", "GOD", "DOGS", "GODS", "SOD", "DOS")));
+
+        WordFinderRequest request = new WordFinderRequest();
+        request.setBoardTiles(Arrays.asList("", "", "", ""));
+        request.setHandTiles(Arrays.asList("D", "O", "G", "S"));
+        request.setLimit(3);
+
+        WordFinderResponse first = wordFinderService.findPossibleWords(request);
+        assertEquals(10, first.getTotalFound());
+        assertEquals(3, first.getPossibleWords().size());
+        assertEquals("Found 10 possible words (showing top 3)", first.getMessage());
+        assertNotNull(first.getNextCursor());
+
+        List<WordFinderResponse.PossibleWord> all = new java.util.ArrayList<>(first.getPossibleWords());
+        request.setCursor(first.getNextCursor());
+        WordFinderResponse second = wordFinderService.findPossibleWords(request);
+        assertEquals("Found 10 possible words (showing 4-6)", second.getMessage());
+
+        // A cursor can be presented again, so paging from the second page collects the rest
+        while (request.getCursor() != null) {
+            WordFinderResponse page = wordFinderService.findPossibleWords(request);
+            all.addAll(page.getPossibleWords());
+            request.setCursor(page.getNextCursor());
+        }
+
+        // Pages after the first come from the cached ranking, not a new search
+        verify(englishDictionaryService, times(1)).getLexicon();
+        assertEquals(10, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getScore() >= all.get(i).getScore());
+        }
+    }
+
+    @Test
+    void testRankingModes() {
+        when(englishDictionaryService.getLexicon())
+            .thenReturn(Dawg.fromWords(Arrays.asList("PHONE", "PHONES")));
+
+        WordFinderRequest request = new WordFinderRequest();
+        request.setBoardTiles(Arrays.asList("", "", "", "", "P", "H", "O", "", "", ""));
+        request.setHandTiles(Arrays.asList("N", "E", "S"));
+
+        request.setRanking("fewest-tiles");
+        assertEquals("PHONE", wordFinderService.findPossibleWords(request).getPossibleWords().get(0).getWord());
+        request.setRanking("LENGTH");
+        assertEquals("PHONES", wordFinderService.findPossibleWords(request).getPossibleWords().get(0).getWord());
+
+        request.setRanking("alphabetical");
+        assertThrows(IllegalArgumentException.class, () -> wordFinderService.findPossibleWords(request));
+        request.setRanking(null);
+        request.setCursor("no-such-cursor:3");
+        assertThrows(IllegalArgumentException.class, () -> wordFinderService.findPossibleWords(request));
+    }
+}
@@ -1,16 +1,25 @@
 package com.govtech.scrabble.service;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.govtech.scrabble.config.ScrabbleProperties;
 import com.govtech.scrabble.dto.CalculateScoreResponse;
 import com.govtech.scrabble.dto.ScrambleCheckResponse;
 import com.govtech.scrabble.dto.ScrambleResponse;
+import com.govtech.scrabble.lexicon.Dawg;
+import com.govtech.scrabble.scramble.InMemoryScrambleSessionStore;
+import com.govtech.scrabble.scramble.ScrambleSessionStore;
+import com.govtech.scrabble.scramble.ScrambleTokenCodec;
 import com.govtech.scrabble.service.impl.WordScrambleServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,6 +55,13 @@ class WordScrambleServiceTest {
     @Mock
     private ScrabbleService scrabbleService;
 
+    @Spy
+    private ScrambleSessionStore sessionStore =
+        new InMemoryScrambleSessionStore(1000, Duration.ofMinutes(30), Ticker.systemTicker());
+
+    @Spy
+    private ScrambleTokenCodec tokenCodec = new ScrambleTokenCodec(false, "", Duration.ofMinutes(30), Clock.systemUTC());
+
     @InjectMocks
     private WordScrambleServiceImpl wordScrambleService;
 
@@ -105,6 +121,7 @@ class WordScrambleServiceTest {
         assertNotEquals("HELLO", response.getScrambledLetters()); // Should be scrambled
         assertEquals(5, response.getWordLength());
         assertNotNull(response.getOriginalWord()); // Session ID
+        assertEquals(36, response.getOriginalWord().length(), "Session ids are full UUIDs");
         assertNotNull(response.getAvailableLetters());
         assertEquals(5, response.getAvailableLetters().size());
         assertNotNull(response.getHint());
@@ -234,6 +251,28 @@ class WordScrambleServiceTest {
         assertTrue(response.getMessage().contains("Incorrect"));
     }
 
+    @Test
+    void testCheckAnswer_AcceptsOtherAnagramFromLexicon() {
+        when(englishDictionaryService.getRandomWord(4, 8)).thenReturn("LISTEN");
+        when(englishDictionaryService.getLexicon()).thenReturn(Dawg.fromWords(List.of("LISTEN", "SILENT")));
+        when(scrabbleService.calculateScore("SILENT")).thenReturn(new CalculateScoreResponse("SILENT", 6));
+        String sessionId = wordScrambleService.generateScramble().getOriginalWord();
+        
+        // Same letters but not a word in the lexicon
+        assertFalse(wordScrambleService.checkAnswer(sessionId, "TINSEL").getIsCorrect());
+        // Not the same letters
+        assertFalse(wordScrambleService.checkAnswer(sessionId, "SILENCE").getIsCorrect());
+        
+        ScrambleCheckResponse response = wordScrambleService.checkAnswer(sessionId, "silent");
+        
+        assertTrue(response.getIsCorrect());
+        assertEquals("SILENT", response.getUserAnswer());
+        assertEquals("LISTEN", response.getCorrectAnswer());
+        assertEquals(6, response.getScore());
+        assertTrue(response.getMessage().contains("SILENT"));
+        assertFalse(wordScrambleService.checkAnswer(sessionId, "LISTEN").getIsCorrect(), "Session is used up");
+    }
+
     @Test
     void testCheckAnswer_InvalidSession() {
         ScrambleCheckResponse response = wordScrambleService.checkAnswer("invalid-session", "HELLO");
@@ -322,4 +361,63 @@ class WordScrambleServiceTest {
         assertFalse(response.getIsCorrect());
         assertEquals("", response.getUserAnswer());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGenerateScramble_ServedFromPuzzlePool() throws InterruptedException {
+        ScrabbleProperties.Pool pool = new ScrabbleProperties.Pool();
+        pool.setTargetSize(3);
+        pool.setRefillBelow(1);
+        when(scrambleConfig.getPool()).thenReturn(pool);
+        ScrabbleDictionary.Snapshot snapshot = mock(ScrabbleDictionary.Snapshot.class);
+        when(snapshot.version()).thenReturn(1L);
+        when(snapshot.getRandomWord(anyInt(), anyInt(), any(), any())).thenReturn("WORD");
+        when(snapshot.countAnagrams("WORD")).thenReturn(1);
+        when(scrabbleDictionary.getSnapshot()).thenReturn(snapshot);
+
+        wordScrambleService.startPuzzlePool();
+        assertFalse((Boolean) wordScrambleService.getPuzzlePoolStatistics().get("running"),
+            "Pools are not filled from the LanguageTool fallback");
+        verifyNoInteractions(englishDictionaryService);
+
+        when(scrabbleDictionary.isLoaded()).thenReturn(true);
+        wordScrambleService.startPuzzlePool();
+        try {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!Map.of("easy", 3, "medium", 3, "hard", 3, "any", 3)
+                    .equals(wordScrambleService.getPuzzlePoolStatistics().get("depth"))) {
+                assertTrue(System.currentTimeMillis() < deadline, "Pools should fill in the background");
+                Thread.sleep(10);
+            }
+
+            ScrambleResponse response = wordScrambleService.generateScramble("easy");
+
+            assertEquals(4, response.getWordLength());
+            assertEquals(1L, wordScrambleService.getPuzzlePoolStatistics().get("hits"));
+            assertEquals(1, wordScrambleService.getActiveSessionsCount(), "A pooled puzzle still gets a session");
+        } finally {
+            wordScrambleService.stopPuzzlePool();
+        }
+    }
+
+    @Test
+    void testTokenSessions_WorkAcrossNodesWithoutServerState() {
+        when(scrabbleService.calculateScore("HELLO")).thenReturn(new CalculateScoreResponse("HELLO", 8));
+        WordScrambleServiceImpl nodeA = tokenNode();
+        WordScrambleServiceImpl nodeB = tokenNode();
+
+        String token = nodeA.generateScramble().getOriginalWord();
+
+        assertEquals(5, nodeB.reshuffleScramble(token).getWordLength());
+        assertFalse(nodeB.checkAnswer(token, "WORLD").getIsCorrect());
+        assertTrue(nodeB.checkAnswer(token, "hello").getIsCorrect());
+        assertEquals(0, nodeA.getActiveSessionsCount(), "Nothing is stored server-side");
+        assertEquals("token", nodeB.getSessionStatistics().get("mode"));
+        assertThrows(IllegalArgumentException.class, () -> nodeB.reshuffleScramble(token + "x"));
+    }
+
+    private WordScrambleServiceImpl tokenNode() {
+        return new WordScrambleServiceImpl(scrabbleProperties, scrabbleDictionary, englishDictionaryService,
+            scrabbleService, new InMemoryScrambleSessionStore(1000, Duration.ofMinutes(30), Ticker.systemTicker()),
+            new ScrambleTokenCodec(true, "cluster-secret", Duration.ofMinutes(30), Clock.systemUTC()));
+    }
+}